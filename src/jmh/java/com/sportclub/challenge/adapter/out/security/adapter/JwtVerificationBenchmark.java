@@ -0,0 +1,67 @@
+package com.sportclub.challenge.adapter.out.security.adapter;
+
+import com.sportclub.challenge.adapter.out.log.Slf4jLoggingAdapter;
+import com.sportclub.challenge.application.port.out.security.VerifiedToken;
+import com.sportclub.challenge.infrastructure.config.JwtProperties;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of authenticating one request: the former validate-then-extract path (two parser builds,
+ * two HMAC checks), a single {@link JwtProviderAdapter#verify} on the shared parser with the
+ * verified-token cache disabled, and the same call answered from the cache.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-at-least-32-bytes-long";
+
+    private JwtProviderAdapter adapter;
+    private JwtProviderAdapter uncachedAdapter;
+    private SecretKey key;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        adapter = new JwtProviderAdapter(new Slf4jLoggingAdapter(),
+                new JwtProperties(SECRET, 3_600_000L, 10_000L, false, null), new SimpleMeterRegistry());
+        adapter.init();
+        uncachedAdapter = new JwtProviderAdapter(new Slf4jLoggingAdapter(),
+                new JwtProperties(SECRET, 3_600_000L, 0L, false, null), new SimpleMeterRegistry());
+        uncachedAdapter.init();
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        token = adapter.generateToken("12345678");
+    }
+
+    @Benchmark
+    public String validateThenExtract() {
+        Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> singleVerify() {
+        return uncachedAdapter.verify(token);
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> cachedVerify() {
+        return adapter.verify(token);
+    }
+}
@@ -0,0 +1,116 @@
+package com.sportclub.challenge.application.service;
+
+import com.sportclub.challenge.adapter.out.event.NoOpAccessEventAdapter;
+import com.sportclub.challenge.adapter.out.index.NoOpKnownDniFilterAdapter;
+import com.sportclub.challenge.adapter.out.log.Slf4jLoggingAdapter;
+import com.sportclub.challenge.adapter.out.occupancy.LongAdderOccupancyCounterAdapter;
+import com.sportclub.challenge.application.exception.SportClubAccessDeniedException;
+import com.sportclub.challenge.application.port.in.result.AccessDecision;
+import com.sportclub.challenge.application.port.out.index.IndexedMember;
+import com.sportclub.challenge.application.port.out.index.UserAccessIndexPort;
+import com.sportclub.challenge.application.port.out.persistence.target.TargetUserRepositoryPort;
+import com.sportclub.challenge.domain.model.branch.Branch;
+import com.sportclub.challenge.domain.model.user.UserState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Cost of turning away a DENIED member: the former regex check plus exception path of
+ * {@link AccessValidationService#validateAccessByDni}, and {@link AccessValidationService#decideAccess};
+ * {@code grantedByDecision} measures admitting an AUTHORIZED member the same way. Each member is
+ * served by a one-entry access index, so the lookup itself allocates nothing. Run with
+ * {@code ./gradlew jmh}; the {@code gc} profiler reports {@code gc.alloc.rate.norm}, the bytes
+ * allocated per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccessDecisionBenchmark {
+
+    private static final String DENIED_DNI = "22333444";
+    private static final String GRANTED_DNI = "33444555";
+    private static final Pattern DNI_PATTERN = Pattern.compile("^\\d{7,9}$");
+
+    private AccessValidationService service;
+    private AccessValidationService grantingService;
+
+    @Setup
+    public void setUp() {
+        final Branch branch = new Branch("B1", "Branch", "Street", "City");
+        service = serviceFor(DENIED_DNI, new IndexedMember(UserState.DENIED, branch));
+        grantingService = serviceFor(GRANTED_DNI, new IndexedMember(UserState.AUTHORIZED, branch));
+    }
+
+    private static AccessValidationService serviceFor(String dni, IndexedMember member) {
+        return new AccessValidationService(unusedRepository(),
+                new SingleMemberIndex(Long.parseLong(dni), member), new NoOpKnownDniFilterAdapter(),
+                new NoOpAccessEventAdapter(), new LongAdderOccupancyCounterAdapter(), new Slf4jLoggingAdapter());
+    }
+
+    @Benchmark
+    public boolean regexMatch() {
+        return DNI_PATTERN.matcher(DENIED_DNI).matches();
+    }
+
+    @Benchmark
+    public boolean charLoopMatch() {
+        return DniFormat.isValid(DENIED_DNI);
+    }
+
+    @Benchmark
+    public Object deniedByException() {
+        try {
+            return service.validateAccessByDni(DENIED_DNI);
+        } catch (SportClubAccessDeniedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public AccessDecision deniedByDecision() {
+        return service.decideAccess(DENIED_DNI);
+    }
+
+    @Benchmark
+    public AccessDecision grantedByDecision() {
+        return grantingService.decideAccess(GRANTED_DNI);
+    }
+
+    /** Narrow fake of the access index holding a single member. */
+    private record SingleMemberIndex(long dni, IndexedMember member) implements UserAccessIndexPort {
+
+        @Override
+        public boolean isAvailable() {
+            return true;
+        }
+
+        @Override
+        public IndexedMember find(long key) {
+            return key == dni ? member : null;
+        }
+
+        @Override
+        public void rebuild() {
+            // Fixed contents.
+        }
+    }
+
+    /** The repository is not consulted while the index is available; any call fails the run. */
+    private static TargetUserRepositoryPort unusedRepository() {
+        return (TargetUserRepositoryPort) Proxy.newProxyInstance(
+                TargetUserRepositoryPort.class.getClassLoader(),
+                new Class<?>[]{TargetUserRepositoryPort.class},
+                (proxy, method, args) -> {
+                    throw new UnsupportedOperationException("Unexpected repository call: " + method.getName());
+                });
+    }
+}
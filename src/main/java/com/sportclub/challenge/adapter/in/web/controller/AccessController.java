@@ -1,16 +1,23 @@
 package com.sportclub.challenge.adapter.in.web.controller;
 
+import com.sportclub.challenge.adapter.in.web.dto.request.AccessBatchRequestDto;
 import com.sportclub.challenge.adapter.in.web.dto.request.AccessRequestDto;
+import com.sportclub.challenge.adapter.in.web.dto.response.AccessBatchResponseDto;
+import com.sportclub.challenge.adapter.in.web.dto.response.AccessResponseDto;
 import com.sportclub.challenge.adapter.in.web.dto.response.ErrorResponseDto;
 import com.sportclub.challenge.adapter.in.web.dto.response.SuccessMessageDto;
+import com.sportclub.challenge.adapter.in.web.mapper.AccessWebMapper;
 import com.sportclub.challenge.application.port.in.ValidateAccessUseCase;
+import com.sportclub.challenge.application.port.in.result.AccessDecision;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -25,8 +32,10 @@ import org.springframework.web.bind.annotation.RestController;
 public class AccessController {
 
     private final ValidateAccessUseCase validateAccessUseCase;
+    private final AccessWebMapper accessWebMapper;
 
-    @Operation(summary = "Validate user access", description = "Checks if a user with the given DNI exists and is authorized to access.")
+    @Operation(summary = "Validate user access", description = "Checks if a user with the given DNI exists and is authorized to access. "
+            + "Denials and unknown DNIs are answered directly from the access decision, without going through exception handling.")
     @ApiResponse(responseCode = "200", description = "Access granted",
             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                     schema = @Schema(implementation = SuccessMessageDto.class)))
@@ -43,10 +52,43 @@ public class AccessController {
             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                     schema = @Schema(implementation = ErrorResponseDto.class)))
     @PostMapping
-    public ResponseEntity<SuccessMessageDto> validateAccess(
-            @Valid @RequestBody AccessRequestDto requestDto
+    public ResponseEntity<AccessResponseDto> validateAccess(
+            @Valid @RequestBody AccessRequestDto requestDto,
+            HttpServletRequest request
     ) {
-        validateAccessUseCase.validateAccessByDni(requestDto.dni());
-        return ResponseEntity.ok(new SuccessMessageDto("Acceso permitido"));
+        final AccessDecision decision = validateAccessUseCase.decideAccess(requestDto.dni());
+        return switch (decision) {
+            case AccessDecision.Granted granted -> ResponseEntity.ok(new SuccessMessageDto("Acceso permitido"));
+            case AccessDecision.Denied denied -> error(HttpStatus.FORBIDDEN, "Forbidden", decision, request);
+            case AccessDecision.Unknown unknown -> error(HttpStatus.NOT_FOUND, "User Not Found", decision, request);
+            case AccessDecision.Invalid invalid -> error(HttpStatus.BAD_REQUEST, "Invalid Input", decision, request);
+        };
+    }
+
+    @Operation(summary = "Validate access for several users",
+            description = "Validates a batch of DNIs, e.g. swipes replayed by a gate controller after a connectivity loss. "
+                    + "Every DNI gets its own result (GRANTED, DENIED, NOT_FOUND or INVALID) instead of an error status.")
+    @ApiResponse(responseCode = "200", description = "Per-DNI results, in request order",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = AccessBatchResponseDto.class)))
+    @ApiResponse(responseCode = "400", description = "Empty or oversized DNI list",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ErrorResponseDto.class)))
+    @ApiResponse(responseCode = "500", description = "Internal server error",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ErrorResponseDto.class)))
+    @PostMapping("/batch")
+    public ResponseEntity<AccessBatchResponseDto> validateAccessBatch(
+            @Valid @RequestBody AccessBatchRequestDto requestDto
+    ) {
+        return ResponseEntity.ok(new AccessBatchResponseDto(
+                accessWebMapper.resultListToDtoList(validateAccessUseCase.validateAccessBatch(requestDto.dnis()))
+        ));
+    }
+
+    private static ResponseEntity<AccessResponseDto> error(
+            HttpStatus status, String error, AccessDecision decision, HttpServletRequest request
+    ) {
+        return ResponseEntity.status(status).body(ErrorResponseDto.of(status, error, decision.message(), request.getRequestURI()));
     }
 }
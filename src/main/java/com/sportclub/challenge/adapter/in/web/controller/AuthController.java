@@ -7,11 +7,13 @@ import com.sportclub.challenge.adapter.in.web.mapper.UserWebMapper; // Импо
 import com.sportclub.challenge.application.port.in.LoginUseCase;
 import com.sportclub.challenge.application.port.in.command.LoginCommand;
 import com.sportclub.challenge.application.port.out.log.LoggingPort; // Импортируем логгер
+import com.sportclub.challenge.domain.model.user.User;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
@@ -41,23 +43,19 @@ public class AuthController {
     @ApiResponse(responseCode = "401", description = "Authentication failed (invalid DNI or user denied/disabled)",
             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                     schema = @Schema(implementation = ErrorResponseDto.class)))
+    @ApiResponse(responseCode = "429", description = "Too many login attempts for this DNI or client address",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ErrorResponseDto.class)))
     @ApiResponse(responseCode = "500", description = "Internal server error",
             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                     schema = @Schema(implementation = ErrorResponseDto.class)))
     @PostMapping("/login")
-    public ResponseEntity<JwtResponseDto> login(@Valid @RequestBody LoginRequestDto requestDto) {
-        logger.info("Login request received for DNI (masked): {}", maskDni(requestDto.dni()));
-        final LoginCommand command = userWebMapper.requestToCommand(requestDto);
+    public ResponseEntity<JwtResponseDto> login(@Valid @RequestBody LoginRequestDto requestDto, HttpServletRequest request) {
+        logger.info("Login request received for DNI (masked): {}", User.maskDni(requestDto.dni()));
+        final LoginCommand command = userWebMapper.requestToCommand(requestDto, request.getRemoteAddr());
         final String jwtToken = loginUseCase.login(command);
         final JwtResponseDto responseDto = new JwtResponseDto(jwtToken);
-        logger.info("Login successful for DNI (masked): {}", maskDni(requestDto.dni()));
+        logger.info("Login successful for DNI (masked): {}", User.maskDni(requestDto.dni()));
         return ResponseEntity.ok(responseDto);
     }
-
-    private String maskDni(String dni) {
-        if (dni == null || dni.length() <= 4) {
-            return "****";
-        }
-        return dni.substring(0, dni.length() - 4) + "****";
-    }
 }
@@ -1,9 +1,14 @@
 package com.sportclub.challenge.adapter.in.web.controller;
 
 import com.sportclub.challenge.adapter.in.web.dto.response.ErrorResponseDto;
-import com.sportclub.challenge.adapter.in.web.dto.response.SuccessMessageDto;
+import com.sportclub.challenge.adapter.in.web.dto.response.MigrationLaunchDto;
+import com.sportclub.challenge.adapter.in.web.dto.response.MigrationStatusDto;
+import com.sportclub.challenge.adapter.in.web.mapper.MigrationWebMapper;
+import com.sportclub.challenge.application.port.in.GetMigrationStatusUseCase;
 import com.sportclub.challenge.application.port.in.MigrateDataUseCase;
+import com.sportclub.challenge.application.port.in.command.MigrationMode;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -12,10 +17,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.net.URI;
+
 @RestController
 @RequestMapping("/migrate")
 @RequiredArgsConstructor
@@ -24,26 +34,70 @@ import org.springframework.web.bind.annotation.RestController;
 public class MigrationController {
 
     private final MigrateDataUseCase migrateDataUseCase;
+    private final GetMigrationStatusUseCase getMigrationStatusUseCase;
+    private final MigrationWebMapper migrationWebMapper;
 
     @Operation(summary = "Trigger Data Migration",
-            description = "Starts the process of migrating branches and users from the source database to the target database. Requires ADMIN role.")
-    @ApiResponse(responseCode = "200", description = "Migration process completed successfully",
+            description = "Launches the migration of branches and users from the source database to the target database in the background and returns the job execution ID to poll. FULL (the default) re-reads everything; INCREMENTAL is opt-in and only reads source rows modified since the last completed run, falling back to FULL when there is none. Requires ADMIN role.")
+    @ApiResponse(responseCode = "202", description = "Migration job launched",
             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
-                    schema = @Schema(implementation = SuccessMessageDto.class)))
+                    schema = @Schema(implementation = MigrationLaunchDto.class)))
     @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing or invalid",
             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                     schema = @Schema(implementation = ErrorResponseDto.class)))
     @ApiResponse(responseCode = "403", description = "Forbidden - User does not have ADMIN role",
             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                     schema = @Schema(implementation = ErrorResponseDto.class)))
-    @ApiResponse(responseCode = "500", description = "Migration failed due to internal server error",
+    @ApiResponse(responseCode = "500", description = "Migration job could not be launched",
             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                     schema = @Schema(implementation = ErrorResponseDto.class)))
     @PostMapping
-    public ResponseEntity<SuccessMessageDto> triggerMigration() {
-        migrateDataUseCase.migrateData();
-        return ResponseEntity.ok(new SuccessMessageDto(
-                "Data migration process triggered and completed."
+    public ResponseEntity<MigrationLaunchDto> triggerMigration(
+            @Parameter(description = "Migration mode", example = "FULL")
+            @RequestParam(defaultValue = "FULL") MigrationMode mode
+    ) {
+        final long executionId = migrateDataUseCase.migrateData(mode);
+        return accepted(executionId, "Data migration job launched.");
+    }
+
+    @Operation(summary = "Restart Data Migration",
+            description = "Resumes a failed or stopped migration execution in the background. Completed steps are skipped and every partition continues from its last committed chunk. Requires ADMIN role.")
+    @ApiResponse(responseCode = "202", description = "Migration execution restarted",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = MigrationLaunchDto.class)))
+    @ApiResponse(responseCode = "404", description = "Migration execution not found",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ErrorResponseDto.class)))
+    @ApiResponse(responseCode = "409", description = "Execution already completed, still running or not restartable",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ErrorResponseDto.class)))
+    @ApiResponse(responseCode = "500", description = "The restart failed",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ErrorResponseDto.class)))
+    @PostMapping("/{executionId}/restart")
+    public ResponseEntity<MigrationLaunchDto> restartMigration(@PathVariable long executionId) {
+        final long newExecutionId = migrateDataUseCase.resumeMigration(executionId);
+        return accepted(newExecutionId, "Data migration execution " + executionId + " restarted.");
+    }
+
+    @Operation(summary = "Get Data Migration Status",
+            description = "Reports status, per-step read/write/skip counts, throughput and estimated time remaining of a migration execution. Requires ADMIN role.")
+    @ApiResponse(responseCode = "200", description = "Migration execution status",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = MigrationStatusDto.class)))
+    @ApiResponse(responseCode = "404", description = "Migration execution not found",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ErrorResponseDto.class)))
+    @GetMapping("/{executionId}")
+    public ResponseEntity<MigrationStatusDto> getMigrationStatus(@PathVariable long executionId) {
+        return ResponseEntity.ok(migrationWebMapper.resultToDto(
+                getMigrationStatusUseCase.getMigrationStatus(executionId)
         ));
     }
+
+    private static ResponseEntity<MigrationLaunchDto> accepted(long executionId, String message) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/migrate/" + executionId))
+                .body(new MigrationLaunchDto(executionId, message));
+    }
 }
@@ -0,0 +1,53 @@
+package com.sportclub.challenge.adapter.in.web.controller;
+
+import com.sportclub.challenge.adapter.in.web.dto.response.ErrorResponseDto;
+import com.sportclub.challenge.adapter.in.web.dto.response.OccupancyResponseDto;
+import com.sportclub.challenge.adapter.in.web.mapper.OccupancyWebMapper;
+import com.sportclub.challenge.application.port.in.GetOccupancyUseCase;
+import com.sportclub.challenge.application.port.in.result.OccupancyGranularity;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/ocupacion")
+@RequiredArgsConstructor
+@Tag(name = "Occupancy", description = "Live per-branch entry counts")
+public class OccupancyController {
+
+    private final GetOccupancyUseCase getOccupancyUseCase;
+    private final OccupancyWebMapper occupancyWebMapper;
+
+    @Operation(summary = "Get branch occupancy",
+            description = "Returns the entries granted per branch, bucketed per minute over the last hour or per hour "
+                    + "over the last day. Counts are kept in memory by this instance since it started.")
+    @ApiResponse(responseCode = "200", description = "Occupancy per branch",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = OccupancyResponseDto.class)))
+    @ApiResponse(responseCode = "400", description = "Unknown granularity",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ErrorResponseDto.class)))
+    @ApiResponse(responseCode = "500", description = "Internal server error",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ErrorResponseDto.class)))
+    @GetMapping
+    public ResponseEntity<OccupancyResponseDto> getOccupancy(
+            @Parameter(description = "Bucket width", example = "MINUTE")
+            @RequestParam(defaultValue = "MINUTE") OccupancyGranularity granularity
+    ) {
+        return ResponseEntity.ok(new OccupancyResponseDto(
+                granularity.name(),
+                occupancyWebMapper.resultListToDtoList(getOccupancyUseCase.getOccupancy(granularity))
+        ));
+    }
+}
@@ -2,11 +2,17 @@ package com.sportclub.challenge.adapter.in.web.controller;
 
 import com.sportclub.challenge.adapter.in.web.dto.response.ErrorResponseDto;
 import com.sportclub.challenge.adapter.in.web.dto.response.PageResultDto;
+import com.sportclub.challenge.adapter.in.web.dto.response.ScrollResultDto;
+import com.sportclub.challenge.adapter.in.web.dto.response.SliceResultDto;
 import com.sportclub.challenge.adapter.in.web.dto.response.UserDto;
 import com.sportclub.challenge.adapter.in.web.mapper.UserWebMapper;
+import com.sportclub.challenge.application.exception.InvalidScrollRequestException;
 import com.sportclub.challenge.application.port.in.PaginateUsersUseCase;
+import com.sportclub.challenge.application.port.in.result.UserScrollPage;
 import com.sportclub.challenge.domain.model.user.User;
+import com.sportclub.challenge.domain.model.user.UserSortKey;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -15,11 +21,13 @@ import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -30,15 +38,18 @@ import java.util.List;
 @Tag(name = "Users", description = "Endpoints for managing users")
 public class UserController {
 
+    private static final int MAX_SCROLL_SIZE = 1000;
+
     private final PaginateUsersUseCase paginateUsersUseCase;
     private final UserWebMapper userWebMapper;
 
     @Operation(summary = "Get paginated list of users",
             description = "Retrieves a list of users with pagination and optional sorting. " +
-                    "Sorting can be done by fields like 'firstName', 'lastName', 'email'. Example: `sort=lastName,asc`")
+                    "Sorting can be done by fields like 'firstName', 'lastName', 'email'. Example: `sort=lastName,asc`. " +
+                    "With `count=false` the totals are skipped and only `hasNext` is returned.")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved list of users",
             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
-                    schema = @Schema(implementation = PageResultDto.class)))
+                    schema = @Schema(oneOf = {PageResultDto.class, SliceResultDto.class})))
     @ApiResponse(responseCode = "400", description = "Invalid pagination or sorting parameters",
             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                     schema = @Schema(implementation = ErrorResponseDto.class)))
@@ -46,9 +57,20 @@ public class UserController {
             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                     schema = @Schema(implementation = ErrorResponseDto.class)))
     @GetMapping
-    public ResponseEntity<PageResultDto<UserDto>> getPaginatedUsers(
-            @ParameterObject @PageableDefault(size = 10) Pageable pageable
+    public ResponseEntity<?> getPaginatedUsers(
+            @ParameterObject @PageableDefault(size = 10) Pageable pageable,
+            @Parameter(description = "Whether to include `totalItems` and `totalPages`")
+            @RequestParam(defaultValue = "true") boolean count
     ) {
+        if (!count) {
+            final Slice<User> userSlice = paginateUsersUseCase.findUsersSlice(pageable);
+            return ResponseEntity.ok(new SliceResultDto<>(
+                    userSlice.getNumber(),
+                    userSlice.getSize(),
+                    userSlice.hasNext(),
+                    userWebMapper.domainListToDtoList(userSlice.getContent())
+            ));
+        }
         final Page<User> userPage = paginateUsersUseCase.findUsers(pageable);
         final List<UserDto> userDtos = userWebMapper.domainListToDtoList(userPage.getContent());
         final PageResultDto<UserDto> pageResultDto = new PageResultDto<>(
@@ -60,4 +82,42 @@ public class UserController {
         );
         return ResponseEntity.ok(pageResultDto);
     }
+
+    @Operation(summary = "Scroll through users with a continuation cursor",
+            description = "Keyset pagination for deep or bulk reads: every page costs the same regardless of depth. " +
+                    "Pass the `nextCursor` of the previous page as `cursor` to continue; the cursor keeps the sort " +
+                    "it was issued for. Sortable by 'id', 'firstName', 'lastName' or 'dni'. Example: `sort=lastName,asc`")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved a page of users",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ScrollResultDto.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid cursor or unsupported sort",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ErrorResponseDto.class)))
+    @GetMapping("/scroll")
+    public ResponseEntity<ScrollResultDto<UserDto>> scrollUsers(
+            @Parameter(description = "Cursor returned as `nextCursor` by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, between 1 and " + MAX_SCROLL_SIZE)
+            @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "Sort property and direction; ignored when a cursor is given")
+            @RequestParam(defaultValue = "id,asc") String sort
+    ) {
+        final String[] sortParts = sort.split(",", -1);
+        final UserSortKey sortKey = UserSortKey.fromProperty(sortParts[0].trim())
+                .orElseThrow(() -> new InvalidScrollRequestException(
+                        "Unsupported sort property '" + sortParts[0].trim() + "'. Use id, firstName, lastName or dni."));
+        final String direction = sortParts.length > 1 ? sortParts[1].trim() : "asc";
+        if (sortParts.length > 2 || !("asc".equalsIgnoreCase(direction) || "desc".equalsIgnoreCase(direction))) {
+            throw new InvalidScrollRequestException("Invalid sort '" + sort + "'. Expected '<property>[,asc|desc]'.");
+        }
+        final int pageSize = Math.clamp(size, 1, MAX_SCROLL_SIZE);
+        final UserScrollPage scrollPage = paginateUsersUseCase.scrollUsers(
+                cursor, sortKey, "asc".equalsIgnoreCase(direction), pageSize);
+        return ResponseEntity.ok(new ScrollResultDto<>(
+                pageSize,
+                scrollPage.hasNext(),
+                scrollPage.nextCursor(),
+                userWebMapper.domainListToDtoList(scrollPage.content())
+        ));
+    }
 }
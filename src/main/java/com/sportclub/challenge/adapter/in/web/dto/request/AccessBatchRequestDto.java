@@ -0,0 +1,20 @@
+package com.sportclub.challenge.adapter.in.web.dto.request;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Request to validate the access of several users at once")
+public record AccessBatchRequestDto(
+        @ArraySchema(
+                schema = @Schema(description = "User's national ID number (DNI)", example = "11222333"),
+                arraySchema = @Schema(description = "DNIs to validate, in swipe order; malformed entries are reported as INVALID",
+                        requiredMode = Schema.RequiredMode.REQUIRED)
+        )
+        @NotEmpty(message = "DNI list cannot be empty")
+        @Size(max = 500, message = "At most 500 DNIs can be validated per request")
+        List<String> dnis
+) {}
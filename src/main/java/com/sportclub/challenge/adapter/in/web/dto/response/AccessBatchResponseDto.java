@@ -0,0 +1,11 @@
+package com.sportclub.challenge.adapter.in.web.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Access validation results, in the order of the requested DNIs")
+public record AccessBatchResponseDto(
+        @Schema(description = "One result per requested DNI")
+        List<AccessBatchResultDto> results
+) {}
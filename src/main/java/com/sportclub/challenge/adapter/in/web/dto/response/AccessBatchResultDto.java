@@ -0,0 +1,13 @@
+package com.sportclub.challenge.adapter.in.web.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Access validation result for a single DNI")
+public record AccessBatchResultDto(
+        @Schema(description = "DNI as sent in the request", example = "11222333")
+        String dni,
+
+        @Schema(description = "Validation result", example = "GRANTED",
+                allowableValues = {"GRANTED", "DENIED", "NOT_FOUND", "INVALID"})
+        String result
+) {}
@@ -0,0 +1,8 @@
+package com.sportclub.challenge.adapter.in.web.dto.response;
+
+/**
+ * Body of {@code POST /acceso}: a {@link SuccessMessageDto} when access is granted, an
+ * {@link ErrorResponseDto} otherwise.
+ */
+public sealed interface AccessResponseDto permits SuccessMessageDto, ErrorResponseDto {
+}
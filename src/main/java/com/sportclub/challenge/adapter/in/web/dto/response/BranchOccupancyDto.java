@@ -0,0 +1,17 @@
+package com.sportclub.challenge.adapter.in.web.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Granted entries of a branch over the requested window")
+public record BranchOccupancyDto(
+        @Schema(description = "Unique identifier of the branch", example = "B001")
+        String branchId,
+
+        @Schema(description = "Entries granted over the whole window", example = "310")
+        long totalEntries,
+
+        @Schema(description = "Non-empty buckets, oldest first")
+        List<OccupancyBucketDto> buckets
+) {}
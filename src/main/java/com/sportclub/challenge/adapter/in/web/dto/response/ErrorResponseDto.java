@@ -1,6 +1,9 @@
 package com.sportclub.challenge.adapter.in.web.dto.response;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.http.HttpStatus;
+
+import java.time.Instant;
 
 @Schema(description = "Standard error response format")
 public record ErrorResponseDto(
@@ -18,4 +21,10 @@ public record ErrorResponseDto(
 
         @Schema(description = "The path where the error occurred", example = "/acceso")
         String path
-) {}
\ No newline at end of file
+) implements AccessResponseDto {
+
+    /** Error body stamped with the current time; the single place error responses are built. */
+    public static ErrorResponseDto of(HttpStatus status, String error, String message, String path) {
+        return new ErrorResponseDto(Instant.now().toEpochMilli(), status.value(), error, message, path);
+    }
+}
\ No newline at end of file
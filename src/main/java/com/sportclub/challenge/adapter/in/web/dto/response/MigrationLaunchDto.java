@@ -0,0 +1,12 @@
+package com.sportclub.challenge.adapter.in.web.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Accepted migration launch")
+public record MigrationLaunchDto(
+        @Schema(description = "Job execution ID to poll at GET /migrate/{executionId}", example = "12")
+        long executionId,
+
+        @Schema(description = "Launch message", example = "Data migration job launched.")
+        String message
+) {}
@@ -0,0 +1,39 @@
+package com.sportclub.challenge.adapter.in.web.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "Progress of a migration execution")
+public record MigrationStatusDto(
+        @Schema(description = "Job execution ID", example = "12")
+        long executionId,
+
+        @Schema(description = "Job batch status", example = "STARTED")
+        String status,
+
+        @Schema(description = "Job exit code", example = "UNKNOWN")
+        String exitCode,
+
+        @Schema(description = "Job start time")
+        LocalDateTime startTime,
+
+        @Schema(description = "Job end time, absent while running")
+        LocalDateTime endTime,
+
+        @Schema(description = "Source branches and users to migrate", example = "10000")
+        long totalItems,
+
+        @Schema(description = "Source items read so far", example = "2500")
+        long processedItems,
+
+        @Schema(description = "Overall throughput in items per second", example = "830.5")
+        double itemsPerSecond,
+
+        @Schema(description = "Estimated seconds until completion, absent when finished or not yet measurable", example = "9")
+        Long estimatedSecondsRemaining,
+
+        @Schema(description = "Per-step progress")
+        List<MigrationStepStatusDto> steps
+) {}
@@ -0,0 +1,38 @@
+package com.sportclub.challenge.adapter.in.web.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Progress of a single migration step or partition")
+public record MigrationStepStatusDto(
+        @Schema(description = "Step name", example = "migrateUsersWorkerStep:partition0")
+        String stepName,
+
+        @Schema(description = "Step batch status", example = "STARTED")
+        String status,
+
+        @Schema(description = "Items read from the source", example = "2500")
+        long readCount,
+
+        @Schema(description = "Items handed to the target writer", example = "2400")
+        long writeCount,
+
+        @Schema(description = "Items filtered out by the processor", example = "100")
+        long filterCount,
+
+        @Schema(description = "Items skipped because of errors", example = "0")
+        long skipCount,
+
+        @Schema(description = "Committed chunks", example = "25")
+        long commitCount,
+
+        @Schema(description = "Step start time")
+        LocalDateTime startTime,
+
+        @Schema(description = "Step end time, absent while running")
+        LocalDateTime endTime,
+
+        @Schema(description = "Read throughput in items per second", example = "830.5")
+        double itemsPerSecond
+) {}
@@ -0,0 +1,14 @@
+package com.sportclub.challenge.adapter.in.web.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+@Schema(description = "Granted entries in one time bucket")
+public record OccupancyBucketDto(
+        @Schema(description = "Start of the bucket (UTC)", example = "2025-04-20T18:05:00Z")
+        Instant start,
+
+        @Schema(description = "Entries granted during the bucket", example = "42")
+        long entries
+) {}
@@ -0,0 +1,14 @@
+package com.sportclub.challenge.adapter.in.web.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Per-branch occupancy figures")
+public record OccupancyResponseDto(
+        @Schema(description = "Bucket width: MINUTE (last 60 minutes) or HOUR (last 24 hours)", example = "MINUTE")
+        String granularity,
+
+        @Schema(description = "One entry per branch with at least one granted entry since startup")
+        List<BranchOccupancyDto> branches
+) {}
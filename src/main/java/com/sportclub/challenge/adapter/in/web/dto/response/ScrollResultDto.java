@@ -0,0 +1,21 @@
+package com.sportclub.challenge.adapter.in.web.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Keyset (cursor) paginated result wrapper")
+public record ScrollResultDto<T>(
+        @Schema(description = "Number of items requested per page", example = "50")
+        int pageSize,
+
+        @Schema(description = "Whether more items follow this page", example = "true")
+        boolean hasNext,
+
+        @Schema(description = "Opaque token for the next page; null on the last page",
+                example = "djEfTEFTVF9OQU1FH0EfVTAwMh9Kb2huc29u")
+        String nextCursor,
+
+        @Schema(description = "List of items on the current page")
+        List<T> content
+) {}
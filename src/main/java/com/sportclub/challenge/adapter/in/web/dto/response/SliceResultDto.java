@@ -0,0 +1,20 @@
+package com.sportclub.challenge.adapter.in.web.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Paginated result wrapper without totals")
+public record SliceResultDto<T>(
+        @Schema(description = "Current page number (0-based)", example = "0")
+        int currentPage,
+
+        @Schema(description = "Number of items requested per page", example = "10")
+        int pageSize,
+
+        @Schema(description = "Whether another page follows this one", example = "true")
+        boolean hasNext,
+
+        @Schema(description = "List of items on the current page")
+        List<T> content
+) {}
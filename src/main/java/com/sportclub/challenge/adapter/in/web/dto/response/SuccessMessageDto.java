@@ -6,4 +6,4 @@ import io.swagger.v3.oas.annotations.media.Schema;
 public record SuccessMessageDto(
         @Schema(description = "Success message", example = "Acceso permitido")
         String message
-) {}
\ No newline at end of file
+) implements AccessResponseDto {}
\ No newline at end of file
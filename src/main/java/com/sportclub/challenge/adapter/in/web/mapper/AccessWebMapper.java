@@ -0,0 +1,18 @@
+package com.sportclub.challenge.adapter.in.web.mapper;
+
+import com.sportclub.challenge.adapter.in.web.dto.response.AccessBatchResultDto;
+import com.sportclub.challenge.application.port.in.result.AccessValidationResult;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+
+import java.util.List;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface AccessWebMapper {
+
+    @Mapping(target = "result", source = "outcome")
+    AccessBatchResultDto resultToDto(AccessValidationResult result);
+
+    List<AccessBatchResultDto> resultListToDtoList(List<AccessValidationResult> results);
+}
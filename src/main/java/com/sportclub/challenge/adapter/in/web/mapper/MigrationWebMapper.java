@@ -0,0 +1,16 @@
+package com.sportclub.challenge.adapter.in.web.mapper;
+
+import com.sportclub.challenge.adapter.in.web.dto.response.MigrationStatusDto;
+import com.sportclub.challenge.adapter.in.web.dto.response.MigrationStepStatusDto;
+import com.sportclub.challenge.application.port.in.result.MigrationStatus;
+import com.sportclub.challenge.application.port.in.result.MigrationStepStatus;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface MigrationWebMapper {
+
+    MigrationStatusDto resultToDto(MigrationStatus status);
+
+    MigrationStepStatusDto resultToDto(MigrationStepStatus stepStatus);
+}
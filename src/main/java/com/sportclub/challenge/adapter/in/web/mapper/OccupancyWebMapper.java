@@ -0,0 +1,20 @@
+package com.sportclub.challenge.adapter.in.web.mapper;
+
+import com.sportclub.challenge.adapter.in.web.dto.response.BranchOccupancyDto;
+import com.sportclub.challenge.adapter.in.web.dto.response.OccupancyBucketDto;
+import com.sportclub.challenge.application.port.in.result.BranchOccupancy;
+import com.sportclub.challenge.application.port.in.result.OccupancyBucket;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+
+import java.util.List;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface OccupancyWebMapper {
+
+    BranchOccupancyDto resultToDto(BranchOccupancy occupancy);
+
+    OccupancyBucketDto bucketToDto(OccupancyBucket bucket);
+
+    List<BranchOccupancyDto> resultListToDtoList(List<BranchOccupancy> occupancies);
+}
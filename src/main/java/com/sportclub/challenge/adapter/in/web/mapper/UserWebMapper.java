@@ -16,5 +16,5 @@ public interface UserWebMapper {
 
     List<UserDto> domainListToDtoList(List<User> users);
 
-    LoginCommand requestToCommand(LoginRequestDto dto);
+    LoginCommand requestToCommand(LoginRequestDto dto, String clientAddress);
 }
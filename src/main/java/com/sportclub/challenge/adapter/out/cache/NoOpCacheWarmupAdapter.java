@@ -0,0 +1,41 @@
+package com.sportclub.challenge.adapter.out.cache;
+
+import com.sportclub.challenge.application.port.out.cache.CacheWarmupPort;
+import com.sportclub.challenge.application.port.out.cache.CacheWarmupStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * Used when {@code app.cache-warmup.enabled} is {@code false}: caches fill on demand and the
+ * instance reports itself warm from the start.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.cache-warmup", name = "enabled", havingValue = "false")
+public class NoOpCacheWarmupAdapter implements CacheWarmupPort {
+
+    private final CacheWarmupStatus status =
+            new CacheWarmupStatus(CacheWarmupStatus.State.WARM, 0, 0, false, Instant.now(), 0L);
+
+    @Override
+    public void warmUp() {
+        // Nothing to warm.
+    }
+
+    @Override
+    public void keysChanged(String cacheName, Collection<String> keys) {
+        // Nothing is being warmed.
+    }
+
+    @Override
+    public void cachesCleared() {
+        // Nothing is being warmed.
+    }
+
+    @Override
+    public CacheWarmupStatus status() {
+        return status;
+    }
+}
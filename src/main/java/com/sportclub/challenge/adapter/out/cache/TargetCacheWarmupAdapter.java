@@ -0,0 +1,265 @@
+package com.sportclub.challenge.adapter.out.cache;
+
+import com.sportclub.challenge.adapter.out.persistence.target.entity.TargetBranchJpaEntity;
+import com.sportclub.challenge.adapter.out.persistence.target.entity.TargetUserJpaEntity;
+import com.sportclub.challenge.adapter.out.persistence.target.mapper.TargetBranchPersistenceMapper;
+import com.sportclub.challenge.adapter.out.persistence.target.mapper.TargetUserPersistenceMapper;
+import com.sportclub.challenge.application.port.out.cache.CacheWarmupPort;
+import com.sportclub.challenge.application.port.out.cache.CacheWarmupStatus;
+import com.sportclub.challenge.application.port.out.log.LoggingPort;
+import com.sportclub.challenge.domain.model.branch.Branch;
+import com.sportclub.challenge.domain.model.user.User;
+import com.sportclub.challenge.infrastructure.config.CacheWarmupProperties;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * Pre-loads {@code branchesById}, {@code usersByDni} and {@code usersById} from the target
+ * database on a single background thread, at startup and whenever a migration had to clear the
+ * caches. Users come first in order of how often they were seen in {@code access_events} over the
+ * last {@code app.cache-warmup.history-days}; when there is no history, or it leaves room, the
+ * rest are streamed in ID order. At most {@code app.cache-warmup.max-users} users are loaded,
+ * which should match the cache's {@code maximumSize}. Rows are read in batches of
+ * {@code app.cache-warmup.batch-size} and the persistence context is cleared after each batch.
+ * <p>
+ * Entries are added with {@code putIfAbsent}, so a value cached on demand while the warm-up runs
+ * is never replaced by the older one it read. Keys reported through {@link #keysChanged} while it
+ * runs are not cached at all, and after {@link #cachesCleared} it stops putting entries until the
+ * next warm-up; both checks and the put happen under one lock, so a refresh that follows the
+ * notice always sees the warm-up's entry or none.
+ * <p>
+ * A failed warm-up is logged and still counts as finished: the caches then fill on demand.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.cache-warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TargetCacheWarmupAdapter implements CacheWarmupPort {
+
+    private static final String USERS_BY_DNI = "usersByDni";
+    private static final String USERS_BY_ID = "usersById";
+    private static final String BRANCHES_BY_ID = "branchesById";
+    private static final List<String> COUNTED_DECISIONS = List.of("GRANTED", "DENIED");
+
+    private final EntityManagerFactory targetEntityManagerFactory;
+    private final CacheManager cacheManager;
+    private final TargetUserPersistenceMapper userMapper;
+    private final TargetBranchPersistenceMapper branchMapper;
+    private final CacheWarmupProperties properties;
+    private final LoggingPort logger;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("cache-warmup").daemon().factory());
+    private volatile CacheWarmupStatus status = CacheWarmupStatus.pending();
+    private final Object putLock = new Object();
+    private final Map<String, Set<String>> changedWhileRunning = new HashMap<>();
+    private boolean running;
+    private long generation;
+    private long runGeneration;
+
+    public TargetCacheWarmupAdapter(
+            @Qualifier("targetEntityManagerFactory") EntityManagerFactory targetEntityManagerFactory,
+            CacheManager cacheManager,
+            TargetUserPersistenceMapper userMapper,
+            TargetBranchPersistenceMapper branchMapper,
+            CacheWarmupProperties properties,
+            LoggingPort logger
+    ) {
+        this.targetEntityManagerFactory = targetEntityManagerFactory;
+        this.cacheManager = cacheManager;
+        this.userMapper = userMapper;
+        this.branchMapper = branchMapper;
+        this.properties = properties;
+        this.logger = logger;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        warmUp();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public void warmUp() {
+        executor.execute(this::runWarmUp);
+    }
+
+    @Override
+    public void keysChanged(String cacheName, Collection<String> keys) {
+        synchronized (putLock) {
+            if (running) {
+                changedWhileRunning.computeIfAbsent(cacheName, name -> new HashSet<>()).addAll(keys);
+            }
+        }
+    }
+
+    @Override
+    public void cachesCleared() {
+        synchronized (putLock) {
+            generation++;
+        }
+    }
+
+    @Override
+    public CacheWarmupStatus status() {
+        return status;
+    }
+
+    private void runWarmUp() {
+        final long startNanos = System.nanoTime();
+        status = status.running();
+        synchronized (putLock) {
+            running = true;
+            runGeneration = generation;
+            changedWhileRunning.clear();
+        }
+        final EntityManager entityManager = targetEntityManagerFactory.createEntityManager();
+        try {
+            final int branches = warmBranches(entityManager);
+            final List<String> frequentDnis = findFrequentDnis(entityManager);
+            int users = warmUsersByDni(entityManager, frequentDnis);
+            if (users < properties.maxUsers()) {
+                users += warmRemainingUsers(entityManager, properties.maxUsers() - users, new HashSet<>(frequentDnis));
+            }
+            final long durationMs = (System.nanoTime() - startNanos) / 1_000_000;
+            status = new CacheWarmupStatus(CacheWarmupStatus.State.WARM, users, branches,
+                    !frequentDnis.isEmpty(), Instant.now(), durationMs);
+            logger.info("Cache warm-up finished: {} users ({} by access frequency), {} branches in {} ms",
+                    users, frequentDnis.size(), branches, durationMs);
+        } catch (RuntimeException e) {
+            final long durationMs = (System.nanoTime() - startNanos) / 1_000_000;
+            status = new CacheWarmupStatus(CacheWarmupStatus.State.FAILED, 0, 0, false, Instant.now(), durationMs);
+            logger.error("Cache warm-up failed; caches will fill on demand. Error: {}", e, e.getMessage());
+        } finally {
+            synchronized (putLock) {
+                running = false;
+                changedWhileRunning.clear();
+            }
+            entityManager.close();
+        }
+    }
+
+    private int warmBranches(EntityManager entityManager) {
+        final Cache cache = cacheManager.getCache(BRANCHES_BY_ID);
+        if (cache == null) {
+            return 0;
+        }
+        int warmed = 0;
+        try (Stream<TargetBranchJpaEntity> branches = entityManager
+                .createQuery("SELECT b FROM TargetBranchJpaEntity b", TargetBranchJpaEntity.class)
+                .setHint("org.hibernate.fetchSize", properties.batchSize())
+                .getResultStream()) {
+            for (TargetBranchJpaEntity entity : (Iterable<TargetBranchJpaEntity>) branches::iterator) {
+                final Branch branch = branchMapper.toDomain(entity);
+                put(BRANCHES_BY_ID, cache, branch.id(), branch);
+                warmed++;
+            }
+        }
+        entityManager.clear();
+        return warmed;
+    }
+
+    /** DNIs ordered by how many decisions they got in the history window; empty when there is no history. */
+    private List<String> findFrequentDnis(EntityManager entityManager) {
+        if (properties.historyDays() == 0 || properties.maxUsers() == 0) {
+            return List.of();
+        }
+        try {
+            return entityManager.createQuery(
+                            "SELECT e.dni FROM AccessEventJpaEntity e "
+                                    + "WHERE e.occurredAt >= :since AND e.decision IN :decisions AND e.dni IS NOT NULL "
+                                    + "GROUP BY e.dni ORDER BY COUNT(e) DESC", String.class)
+                    .setParameter("since", Instant.now().minus(Duration.ofDays(properties.historyDays())))
+                    .setParameter("decisions", COUNTED_DECISIONS)
+                    .setMaxResults(properties.maxUsers())
+                    .getResultList();
+        } catch (PersistenceException e) {
+            logger.warn("Access history unavailable for cache warm-up; loading users in ID order. Error: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    private int warmUsersByDni(EntityManager entityManager, List<String> dnis) {
+        int warmed = 0;
+        for (int from = 0; from < dnis.size(); from += properties.batchSize()) {
+            final List<String> batch = dnis.subList(from, Math.min(from + properties.batchSize(), dnis.size()));
+            for (TargetUserJpaEntity entity : entityManager
+                    .createQuery("SELECT u FROM TargetUserJpaEntity u LEFT JOIN FETCH u.branch WHERE u.dni IN :dnis",
+                            TargetUserJpaEntity.class)
+                    .setParameter("dnis", batch)
+                    .getResultList()) {
+                putUser(userMapper.toDomain(entity));
+                warmed++;
+            }
+            entityManager.clear();
+        }
+        return warmed;
+    }
+
+    private int warmRemainingUsers(EntityManager entityManager, int limit, Set<String> alreadyWarmed) {
+        int warmed = 0;
+        int read = 0;
+        try (Stream<TargetUserJpaEntity> users = entityManager
+                .createQuery("SELECT u FROM TargetUserJpaEntity u LEFT JOIN FETCH u.branch ORDER BY u.id",
+                        TargetUserJpaEntity.class)
+                .setHint("org.hibernate.fetchSize", properties.batchSize())
+                .setMaxResults(limit + alreadyWarmed.size())
+                .getResultStream()) {
+            for (TargetUserJpaEntity entity : (Iterable<TargetUserJpaEntity>) users::iterator) {
+                if (!alreadyWarmed.contains(entity.getDni())) {
+                    putUser(userMapper.toDomain(entity));
+                    if (++warmed == limit) {
+                        break;
+                    }
+                }
+                if (++read % properties.batchSize() == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return warmed;
+    }
+
+    private void putUser(User user) {
+        final Cache byDni = cacheManager.getCache(USERS_BY_DNI);
+        final Cache byId = cacheManager.getCache(USERS_BY_ID);
+        if (byDni != null) {
+            put(USERS_BY_DNI, byDni, user.dni(), user);
+        }
+        if (byId != null) {
+            put(USERS_BY_ID, byId, user.id(), user);
+        }
+    }
+
+    private void put(String cacheName, Cache cache, String key, Object value) {
+        synchronized (putLock) {
+            if (runGeneration != generation
+                    || changedWhileRunning.getOrDefault(cacheName, Set.of()).contains(key)) {
+                return;
+            }
+            cache.putIfAbsent(key, value);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.sportclub.challenge.adapter.out.event;
+
+import com.sportclub.challenge.application.port.in.result.AccessOutcome;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded multi-producer / single-consumer ring of access events in the style of the LMAX
+ * Disruptor. Slots are preallocated columns; a producer claims a position with one CAS on the
+ * tail, fills the slot and publishes it by advancing the slot's sequence, and the consumer reads
+ * slots in order until it reaches one that is not published yet. Neither side blocks or allocates.
+ * When the ring is full {@link #offer} returns {@code false} and the event is not stored.
+ */
+final class AccessEventRingBuffer {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final String[] dnis;
+    private final String[] branchIds;
+    private final AccessOutcome[] outcomes;
+    private final long[] occurredAt;
+    private final long[] latencies;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    AccessEventRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2) {
+            throw new IllegalArgumentException("Ring buffer capacity must be at least 2");
+        }
+        this.capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.dnis = new String[capacity];
+        this.branchIds = new String[capacity];
+        this.outcomes = new AccessOutcome[capacity];
+        this.occurredAt = new long[capacity];
+        this.latencies = new long[capacity];
+    }
+
+    /** Stores the event, or returns {@code false} at once when every slot is taken. Safe for any number of threads. */
+    boolean offer(String dni, String branchId, AccessOutcome outcome, long occurredAtMillis, long latencyNanos) {
+        long position;
+        int index;
+        while (true) {
+            position = tail.get();
+            index = (int) position & mask;
+            final long sequence = sequences.getAcquire(index);
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (sequence < position) {
+                // The slot still holds an event from the previous lap.
+                return false;
+            }
+            // Otherwise another producer claimed this position first; retry with the new tail.
+        }
+        dnis[index] = dni;
+        branchIds[index] = branchId;
+        outcomes[index] = outcome;
+        occurredAt[index] = occurredAtMillis;
+        latencies[index] = latencyNanos;
+        sequences.setRelease(index, position + 1);
+        return true;
+    }
+
+    /** Hands up to {@code maxEvents} published events to {@code sink}, oldest first. Single consumer thread only. */
+    int drain(int maxEvents, EventSink sink) {
+        long position = head;
+        int drained = 0;
+        while (drained < maxEvents) {
+            final int index = (int) position & mask;
+            if (sequences.getAcquire(index) != position + 1) {
+                break;
+            }
+            sink.accept(dnis[index], branchIds[index], outcomes[index], occurredAt[index], latencies[index]);
+            dnis[index] = null;
+            branchIds[index] = null;
+            outcomes[index] = null;
+            sequences.setRelease(index, position + capacity);
+            position++;
+            drained++;
+        }
+        head = position;
+        return drained;
+    }
+
+    /** Approximate number of events waiting to be drained. */
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    @FunctionalInterface
+    interface EventSink {
+        void accept(String dni, String branchId, AccessOutcome outcome, long occurredAtMillis, long latencyNanos);
+    }
+}
@@ -0,0 +1,19 @@
+package com.sportclub.challenge.adapter.out.event;
+
+import com.sportclub.challenge.application.port.in.result.AccessOutcome;
+import com.sportclub.challenge.application.port.out.event.AccessEventPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Used when {@code app.access-events.enabled} is {@code false}: decisions are not recorded.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.access-events", name = "enabled", havingValue = "false")
+public class NoOpAccessEventAdapter implements AccessEventPort {
+
+    @Override
+    public boolean publish(String dni, String branchId, AccessOutcome outcome, long occurredAtMillis, long latencyNanos) {
+        return true;
+    }
+}
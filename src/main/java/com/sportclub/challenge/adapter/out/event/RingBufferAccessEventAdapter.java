@@ -0,0 +1,158 @@
+package com.sportclub.challenge.adapter.out.event;
+
+import com.sportclub.challenge.application.port.in.result.AccessOutcome;
+import com.sportclub.challenge.application.port.out.event.AccessEventPort;
+import com.sportclub.challenge.application.port.out.log.LoggingPort;
+import com.sportclub.challenge.infrastructure.config.AccessEventProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Publishes access decisions to an {@link AccessEventRingBuffer} and appends them to the
+ * {@code access_events} table of the target database from a single background writer thread, in
+ * JDBC batches of up to {@code app.access-events.batch-size} rows. The gate never waits: when the
+ * ring is full the new event is dropped, and a batch the database rejects is dropped as well
+ * rather than retried. Counters: {@code access.events.published}, {@code access.events.dropped},
+ * {@code access.events.written} and {@code access.events.write.failures}; the backlog is the gauge
+ * {@code access.events.queue.depth}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.access-events", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RingBufferAccessEventAdapter implements AccessEventPort {
+
+    static final String INSERT_SQL = "INSERT INTO access_events (dni, branch_id, decision, occurred_at, latency_micros) "
+            + "VALUES (?, ?, ?, ?, ?)";
+    private static final long STOP_TIMEOUT_MS = 5_000L;
+    private static final int MAX_DNI_LENGTH = 20;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AccessEventProperties properties;
+    private final LoggingPort logger;
+    private final AccessEventRingBuffer ringBuffer;
+    private final List<Object[]> batch;
+    private final Counter published;
+    private final Counter dropped;
+    private final Counter written;
+    private final Counter writeFailures;
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public RingBufferAccessEventAdapter(
+            @Qualifier("targetDataSource") DataSource targetDataSource,
+            AccessEventProperties properties,
+            MeterRegistry meterRegistry,
+            LoggingPort logger
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(targetDataSource);
+        this.properties = properties;
+        this.logger = logger;
+        this.ringBuffer = new AccessEventRingBuffer(properties.bufferCapacity());
+        this.batch = new ArrayList<>(properties.batchSize());
+        this.published = Counter.builder("access.events.published")
+                .description("Access events accepted by the event buffer")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("access.events.dropped")
+                .description("Access events dropped because the event buffer was full")
+                .register(meterRegistry);
+        this.written = Counter.builder("access.events.written")
+                .description("Access events appended to access_events")
+                .register(meterRegistry);
+        this.writeFailures = Counter.builder("access.events.write.failures")
+                .description("Access events lost because their batch could not be written")
+                .register(meterRegistry);
+        Gauge.builder("access.events.queue.depth", ringBuffer, AccessEventRingBuffer::size)
+                .description("Access events waiting to be written")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        writerThread = Thread.ofPlatform()
+                .name("access-event-writer")
+                .daemon()
+                .start(this::runWriter);
+        logger.info("Access event writer started (buffer: {} events, batch size: {})",
+                ringBuffer.capacity(), properties.batchSize());
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writerThread);
+        writerThread.join(STOP_TIMEOUT_MS);
+        int flushed = 0;
+        int drained;
+        while ((drained = writeBatch()) > 0) {
+            flushed += drained;
+        }
+        logger.info("Access event writer stopped; {} buffered events flushed on shutdown", flushed);
+    }
+
+    @Override
+    public boolean publish(String dni, String branchId, AccessOutcome outcome, long occurredAtMillis, long latencyNanos) {
+        if (ringBuffer.offer(dni, branchId, outcome, occurredAtMillis, latencyNanos)) {
+            published.increment();
+            return true;
+        }
+        dropped.increment();
+        return false;
+    }
+
+    private void runWriter() {
+        final long idleNanos = TimeUnit.MILLISECONDS.toNanos(properties.flushIntervalMs());
+        while (running) {
+            if (writeBatch() < properties.batchSize()) {
+                LockSupport.parkNanos(this, idleNanos);
+            }
+        }
+    }
+
+    /**
+     * Drains one batch and writes it; returns the number of events taken from the buffer. Only
+     * ever runs on one thread at a time: the writer thread, or the caller of {@link #stop} once
+     * the writer has exited.
+     */
+    synchronized int writeBatch() {
+        batch.clear();
+        final int drained = ringBuffer.drain(properties.batchSize(), this::addRow);
+        if (drained == 0) {
+            return 0;
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+            written.increment(drained);
+        } catch (DataAccessException e) {
+            writeFailures.increment(drained);
+            logger.error("Failed to write {} access events; the batch is dropped: {}", e, drained, e.getMessage());
+        }
+        return drained;
+    }
+
+    private void addRow(String dni, String branchId, AccessOutcome outcome, long occurredAtMillis, long latencyNanos) {
+        batch.add(new Object[]{
+                dni != null && dni.length() > MAX_DNI_LENGTH ? dni.substring(0, MAX_DNI_LENGTH) : dni,
+                branchId,
+                outcome.name(),
+                OffsetDateTime.ofInstant(Instant.ofEpochMilli(occurredAtMillis), ZoneOffset.UTC),
+                TimeUnit.NANOSECONDS.toMicros(latencyNanos)
+        });
+    }
+}
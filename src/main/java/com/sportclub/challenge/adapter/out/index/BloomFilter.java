@@ -0,0 +1,84 @@
+package com.sportclub.challenge.adapter.out.index;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over strings backed by an {@link AtomicLongArray}, so concurrent {@link #add} calls
+ * never lose bits and readers need no lock. The {@code k} probe positions come from two 64-bit
+ * hashes of the characters (double hashing), computed without allocating.
+ */
+final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long SECOND_HASH_SEED = 0x9E3779B97F4A7C15L;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions number of strings the filter is sized for
+     * @param falsePositiveRate  target false-positive probability at that size
+     */
+    BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        final long n = Math.max(1, expectedInsertions);
+        final long optimalBits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (LN2 * LN2));
+        final int wordCount = (int) Math.max(1, (optimalBits + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) optimalBits / n * LN2));
+    }
+
+    void add(String value) {
+        final long h1 = hash(value);
+        final long h2 = mix(h1 ^ SECOND_HASH_SEED);
+        for (int i = 0; i < hashCount; i++) {
+            final long bit = ((h1 + i * h2) & Long.MAX_VALUE) % bitCount;
+            final long mask = 1L << bit;
+            final int word = (int) (bit >>> 6);
+            if ((words.get(word) & mask) == 0) {
+                words.getAndAccumulate(word, mask, (current, m) -> current | m);
+            }
+        }
+    }
+
+    boolean mightContain(String value) {
+        final long h1 = hash(value);
+        final long h2 = mix(h1 ^ SECOND_HASH_SEED);
+        for (int i = 0; i < hashCount; i++) {
+            final long bit = ((h1 + i * h2) & Long.MAX_VALUE) % bitCount;
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long bitCount() {
+        return bitCount;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    private static long hash(String value) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    /** MurmurHash3 64-bit finalizer; spreads the FNV result over all bits. */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
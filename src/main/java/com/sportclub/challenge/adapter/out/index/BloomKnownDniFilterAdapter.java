@@ -0,0 +1,141 @@
+package com.sportclub.challenge.adapter.out.index;
+
+import com.sportclub.challenge.application.port.out.index.KnownDniFilterPort;
+import com.sportclub.challenge.application.port.out.log.LoggingPort;
+import com.sportclub.challenge.infrastructure.config.DniFilterProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Bloom filter over every DNI in the target database, consulted before the repository so that
+ * unknown DNIs (which are never cached) are rejected without a database round trip. Sized from the
+ * member count plus 10% headroom for DNIs saved between rebuilds, at the configured false-positive
+ * rate; at 1% that is under 10 bits, about 1.2 bytes, per member.
+ * <p>
+ * Until the first build finishes every DNI passes. A rebuild fills a new filter and swaps it in;
+ * DNIs added while it runs are recorded under the same lock as the swap and replayed into the new
+ * filter, so they are kept whether or not the rebuild query saw their rows. Lookups are counted in
+ * {@code access.dni.filter.lookups} (tag {@code result=rejected|passed}); DNIs that passed but were
+ * not found go to {@code access.dni.filter.false.positives}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.dni-filter", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class BloomKnownDniFilterAdapter implements KnownDniFilterPort {
+
+    private static final String LOOKUPS_METRIC = "access.dni.filter.lookups";
+    private static final int FETCH_SIZE = 1_000;
+
+    private final EntityManagerFactory targetEntityManagerFactory;
+    private final DniFilterProperties properties;
+    private final LoggingPort logger;
+    private final Counter rejected;
+    private final Counter passed;
+    private final Counter falsePositives;
+    private final Object addLock = new Object();
+    private volatile BloomFilter filter;
+    private List<String> addedDuringRebuild;
+
+    public BloomKnownDniFilterAdapter(
+            @Qualifier("targetEntityManagerFactory") EntityManagerFactory targetEntityManagerFactory,
+            DniFilterProperties properties,
+            MeterRegistry meterRegistry,
+            LoggingPort logger
+    ) {
+        this.targetEntityManagerFactory = targetEntityManagerFactory;
+        this.properties = properties;
+        this.logger = logger;
+        this.rejected = Counter.builder(LOOKUPS_METRIC)
+                .description("DNI lookups answered by the known-DNI filter")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+        this.passed = Counter.builder(LOOKUPS_METRIC)
+                .description("DNI lookups answered by the known-DNI filter")
+                .tag("result", "passed")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("access.dni.filter.false.positives")
+                .description("DNIs that passed the known-DNI filter but were not found")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Override
+    public boolean mightContain(String dni) {
+        final BloomFilter current = filter;
+        if (current == null || current.mightContain(dni)) {
+            passed.increment();
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    @Override
+    public void add(String dni) {
+        synchronized (addLock) {
+            final BloomFilter current = filter;
+            if (current != null) {
+                current.add(dni);
+            }
+            if (addedDuringRebuild != null) {
+                addedDuringRebuild.add(dni);
+            }
+        }
+    }
+
+    @Override
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    @Override
+    public synchronized void rebuild() {
+        final long startNanos = System.nanoTime();
+        final EntityManager entityManager = targetEntityManagerFactory.createEntityManager();
+        try {
+            final long dniCount = entityManager
+                    .createQuery("SELECT COUNT(u) FROM TargetUserJpaEntity u", Long.class)
+                    .getSingleResult();
+            final BloomFilter building = new BloomFilter(
+                    Math.max(dniCount + dniCount / 10, properties.minExpectedDnis()),
+                    properties.falsePositiveRate());
+            synchronized (addLock) {
+                addedDuringRebuild = new ArrayList<>();
+            }
+            try (Stream<String> dnis = entityManager
+                    .createQuery("SELECT u.dni FROM TargetUserJpaEntity u", String.class)
+                    .setHint("org.hibernate.fetchSize", FETCH_SIZE)
+                    .getResultStream()) {
+                dnis.forEach(building::add);
+            }
+            final int replayed;
+            synchronized (addLock) {
+                addedDuringRebuild.forEach(building::add);
+                replayed = addedDuringRebuild.size();
+                filter = building;
+            }
+            logger.info("Known-DNI filter rebuilt: {} DNIs (+{} added during the rebuild), {} bits, {} hashes in {} ms",
+                    dniCount, replayed, building.bitCount(), building.hashCount(),
+                    (System.nanoTime() - startNanos) / 1_000_000);
+        } finally {
+            synchronized (addLock) {
+                addedDuringRebuild = null;
+            }
+            entityManager.close();
+        }
+    }
+}
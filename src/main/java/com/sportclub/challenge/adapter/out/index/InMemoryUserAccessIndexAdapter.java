@@ -0,0 +1,142 @@
+package com.sportclub.challenge.adapter.out.index;
+
+import com.sportclub.challenge.application.port.out.index.IndexedMember;
+import com.sportclub.challenge.application.port.out.index.UserAccessIndexPort;
+import com.sportclub.challenge.application.port.out.log.LoggingPort;
+import com.sportclub.challenge.application.port.out.persistence.target.TargetBranchRepositoryPort;
+import com.sportclub.challenge.domain.model.branch.Branch;
+import com.sportclub.challenge.domain.model.user.UserState;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Access index over all target users, keyed by the numeric DNI. Each entry is one {@code int}
+ * pointing into a table of the {@link IndexedMember} values for every (branch, state) pair, built
+ * with the snapshot, so a lookup is two array probes with no boxing and no allocation, and state
+ * and branch always come from the same snapshot. At 2M members the table has 2^22 slots:
+ * 4M x (8 + 4) bytes, about 48 MB.
+ * <p>
+ * Built when the application is ready and rebuilt after each migration; a rebuild creates a new
+ * snapshot and swaps it in, so lookups never wait. Writes made outside the migration are not seen
+ * until the next rebuild.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.access-index", name = "enabled", havingValue = "true")
+public class InMemoryUserAccessIndexAdapter implements UserAccessIndexPort {
+
+    private static final int MISSING = -1;
+    private static final UserState[] STATES = UserState.values();
+    private static final int FETCH_SIZE = 1_000;
+
+    private final EntityManagerFactory targetEntityManagerFactory;
+    private final TargetBranchRepositoryPort targetBranchRepositoryPort;
+    private final LoggingPort logger;
+    private volatile Snapshot snapshot;
+
+    public InMemoryUserAccessIndexAdapter(
+            @Qualifier("targetEntityManagerFactory") EntityManagerFactory targetEntityManagerFactory,
+            TargetBranchRepositoryPort targetBranchRepositoryPort,
+            LoggingPort logger
+    ) {
+        this.targetEntityManagerFactory = targetEntityManagerFactory;
+        this.targetBranchRepositoryPort = targetBranchRepositoryPort;
+        this.logger = logger;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return snapshot != null;
+    }
+
+    @Override
+    public IndexedMember find(long dni) {
+        final Snapshot current = snapshot;
+        final int entry = current.entries.get(dni, MISSING);
+        return entry == MISSING ? null : current.members[entry];
+    }
+
+    @Override
+    public synchronized void rebuild() {
+        final long startNanos = System.nanoTime();
+        final List<Branch> branches = new ArrayList<>(targetBranchRepositoryPort.findAll());
+        final Map<String, Integer> branchIndexById = new HashMap<>(branches.size() * 2);
+        for (int i = 0; i < branches.size(); i++) {
+            branchIndexById.put(branches.get(i).id(), i + 1);
+        }
+
+        final EntityManager entityManager = targetEntityManagerFactory.createEntityManager();
+        try {
+            final long userCount = entityManager
+                    .createQuery("SELECT COUNT(u) FROM TargetUserJpaEntity u", Long.class)
+                    .getSingleResult();
+            final LongIntHashMap entries = new LongIntHashMap((int) userCount);
+            int skipped = 0;
+            try (Stream<Object[]> rows = entityManager
+                    .createQuery("SELECT u.dni, u.state, b.id FROM TargetUserJpaEntity u LEFT JOIN u.branch b", Object[].class)
+                    .setHint("org.hibernate.fetchSize", FETCH_SIZE)
+                    .getResultStream()) {
+                for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                    final long dni = parseDni((String) row[0]);
+                    if (dni <= 0) {
+                        skipped++;
+                        continue;
+                    }
+                    final int branchIndex = row[2] == null ? 0 : branchIndexById.getOrDefault((String) row[2], 0);
+                    entries.put(dni, branchIndex * STATES.length + ((UserState) row[1]).ordinal());
+                }
+            }
+            snapshot = new Snapshot(entries, members(branches));
+            logger.info("User access index rebuilt: {} members, {} branches, {} slots, {} non-numeric DNIs skipped in {} ms",
+                    entries.size(), branches.size(), entries.capacity(), skipped,
+                    (System.nanoTime() - startNanos) / 1_000_000);
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    /** One shared value per (branch, state) pair; index 0 of the branch dimension means no branch. */
+    private static IndexedMember[] members(List<Branch> branches) {
+        final IndexedMember[] members = new IndexedMember[(branches.size() + 1) * STATES.length];
+        for (int branchIndex = 0; branchIndex <= branches.size(); branchIndex++) {
+            final Branch branch = branchIndex == 0 ? null : branches.get(branchIndex - 1);
+            for (UserState state : STATES) {
+                members[branchIndex * STATES.length + state.ordinal()] = new IndexedMember(state, branch);
+            }
+        }
+        return members;
+    }
+
+    private static long parseDni(String dni) {
+        if (dni == null || dni.isEmpty() || dni.length() > 18) {
+            return MISSING;
+        }
+        long value = 0;
+        for (int i = 0; i < dni.length(); i++) {
+            final char c = dni.charAt(i);
+            if (c < '0' || c > '9') {
+                return MISSING;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private record Snapshot(LongIntHashMap entries, IndexedMember[] members) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.sportclub.challenge.adapter.out.index;
+
+/**
+ * Open-addressing {@code long -> int} map with linear probing over two parallel primitive arrays,
+ * so neither keys nor values are boxed. Key {@code 0} marks an empty slot and cannot be stored.
+ * The table doubles when it would pass 75% load, so more entries than expected (rows inserted
+ * after they were counted) are still accepted. Not thread-safe for writes; it is filled once and
+ * then only read.
+ */
+final class LongIntHashMap {
+
+    private static final long EMPTY_KEY = 0L;
+    private static final long GOLDEN_RATIO_64 = 0x9E3779B97F4A7C15L;
+    private static final double MAX_LOAD = 0.75;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int shift;
+    private int resizeAt;
+    private int size;
+
+    /**
+     * @param expectedSize number of entries to hold; the table is sized to stay at most 75% full
+     */
+    LongIntHashMap(int expectedSize) {
+        allocate(Integer.highestOneBit(Math.max(4, (int) Math.ceil(expectedSize / MAX_LOAD)) - 1) << 1);
+    }
+
+    void put(long key, int value) {
+        if (key == EMPTY_KEY) {
+            throw new IllegalArgumentException("Key 0 is reserved");
+        }
+        int slot = slot(key);
+        while (keys[slot] != EMPTY_KEY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == EMPTY_KEY) {
+            if (size >= resizeAt) {
+                grow();
+                put(key, value);
+                return;
+            }
+            keys[slot] = key;
+            size++;
+        }
+        values[slot] = value;
+    }
+
+    int get(long key, int missingValue) {
+        int slot = slot(key);
+        long current;
+        while ((current = keys[slot]) != EMPTY_KEY) {
+            if (current == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return missingValue;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return keys.length;
+    }
+
+    private void grow() {
+        final long[] oldKeys = keys;
+        final int[] oldValues = values;
+        allocate(oldKeys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY_KEY) {
+                int slot = slot(oldKeys[i]);
+                while (keys[slot] != EMPTY_KEY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+        this.shift = 64 - Integer.numberOfTrailingZeros(capacity);
+        this.resizeAt = (int) (capacity * MAX_LOAD);
+    }
+
+    private int slot(long key) {
+        return (int) ((key * GOLDEN_RATIO_64) >>> shift);
+    }
+}
@@ -0,0 +1,34 @@
+package com.sportclub.challenge.adapter.out.index;
+
+import com.sportclub.challenge.application.port.out.index.KnownDniFilterPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Used when {@code app.dni-filter.enabled} is {@code false}: every DNI passes and is looked up in
+ * the repository.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.dni-filter", name = "enabled", havingValue = "false")
+public class NoOpKnownDniFilterAdapter implements KnownDniFilterPort {
+
+    @Override
+    public boolean mightContain(String dni) {
+        return true;
+    }
+
+    @Override
+    public void add(String dni) {
+        // Nothing to track.
+    }
+
+    @Override
+    public void recordFalsePositive() {
+        // Nothing to count.
+    }
+
+    @Override
+    public void rebuild() {
+        // Nothing to rebuild.
+    }
+}
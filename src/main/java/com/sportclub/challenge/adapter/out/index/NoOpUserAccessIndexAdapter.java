@@ -0,0 +1,30 @@
+package com.sportclub.challenge.adapter.out.index;
+
+import com.sportclub.challenge.application.port.out.index.IndexedMember;
+import com.sportclub.challenge.application.port.out.index.UserAccessIndexPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Used while {@code app.access-index.enabled} is off: never available, so access validation
+ * always goes through the user repository.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.access-index", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class NoOpUserAccessIndexAdapter implements UserAccessIndexPort {
+
+    @Override
+    public boolean isAvailable() {
+        return false;
+    }
+
+    @Override
+    public IndexedMember find(long dni) {
+        return null;
+    }
+
+    @Override
+    public void rebuild() {
+        // Nothing to rebuild.
+    }
+}
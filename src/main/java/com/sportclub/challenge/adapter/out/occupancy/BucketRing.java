@@ -0,0 +1,67 @@
+package com.sportclub.challenge.adapter.out.occupancy;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed ring of time buckets, each a {@link LongAdder} tagged with the period it counts. An
+ * increment finds the slot of its period and, when the slot still holds a period that has rolled
+ * out of the window, swaps in a fresh bucket with one CAS; otherwise it only touches the adder's
+ * striped cells. Readers take {@link LongAdder#sum()} of the slots still inside the window and
+ * never write, so they do not contend with the increments.
+ * <p>
+ * An increment racing with the swap of its slot may land in the outgoing bucket and be lost; at
+ * most a handful of entries at a bucket boundary are affected.
+ */
+final class BucketRing {
+
+    private final long bucketMillis;
+    private final AtomicReferenceArray<Bucket> slots;
+
+    BucketRing(long bucketMillis, int bucketCount) {
+        this.bucketMillis = bucketMillis;
+        this.slots = new AtomicReferenceArray<>(bucketCount);
+    }
+
+    void increment(long nowMillis) {
+        final long period = nowMillis / bucketMillis;
+        final int index = (int) (period % slots.length());
+        while (true) {
+            final Bucket bucket = slots.get(index);
+            if (bucket != null && bucket.period == period) {
+                bucket.count.increment();
+                return;
+            }
+            if (bucket != null && bucket.period > period) {
+                // A late entry for a period that has already been recycled.
+                return;
+            }
+            slots.compareAndSet(index, bucket, new Bucket(period));
+        }
+    }
+
+    /** Count of the bucket that starts at {@code offset} buckets before the one containing {@code nowMillis}. */
+    long countAt(long nowMillis, int offset) {
+        final long period = nowMillis / bucketMillis - offset;
+        final Bucket bucket = slots.get((int) (period % slots.length()));
+        return bucket != null && bucket.period == period ? bucket.count.sum() : 0L;
+    }
+
+    /** Start, in epoch milliseconds, of the bucket addressed like in {@link #countAt}. */
+    long startOf(long nowMillis, int offset) {
+        return (nowMillis / bucketMillis - offset) * bucketMillis;
+    }
+
+    int size() {
+        return slots.length();
+    }
+
+    private static final class Bucket {
+        private final long period;
+        private final LongAdder count = new LongAdder();
+
+        private Bucket(long period) {
+            this.period = period;
+        }
+    }
+}
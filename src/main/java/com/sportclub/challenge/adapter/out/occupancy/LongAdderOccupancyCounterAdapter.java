@@ -0,0 +1,66 @@
+package com.sportclub.challenge.adapter.out.occupancy;
+
+import com.sportclub.challenge.application.port.in.result.BranchOccupancy;
+import com.sportclub.challenge.application.port.in.result.OccupancyBucket;
+import com.sportclub.challenge.application.port.in.result.OccupancyGranularity;
+import com.sportclub.challenge.application.port.out.occupancy.OccupancyCounterPort;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory per-branch entry counters: one {@link BucketRing} per branch and granularity (the
+ * last 60 minutes and the last 24 hours). Counters live in this instance only and start empty on
+ * every restart; the {@code access_events} table is the durable record.
+ */
+@Component
+public class LongAdderOccupancyCounterAdapter implements OccupancyCounterPort {
+
+    private final ConcurrentHashMap<String, Map<OccupancyGranularity, BucketRing>> countersByBranch =
+            new ConcurrentHashMap<>();
+
+    @Override
+    public void recordEntry(String branchId, long occurredAtMillis) {
+        Map<OccupancyGranularity, BucketRing> counters = countersByBranch.get(branchId);
+        if (counters == null) {
+            counters = countersByBranch.computeIfAbsent(branchId, id -> newCounters());
+        }
+        for (BucketRing ring : counters.values()) {
+            ring.increment(occurredAtMillis);
+        }
+    }
+
+    @Override
+    public List<BranchOccupancy> snapshot(OccupancyGranularity granularity, long nowMillis) {
+        final List<BranchOccupancy> result = new ArrayList<>(countersByBranch.size());
+        countersByBranch.forEach((branchId, counters) -> {
+            final BucketRing ring = counters.get(granularity);
+            final List<OccupancyBucket> buckets = new ArrayList<>();
+            long total = 0;
+            for (int offset = ring.size() - 1; offset >= 0; offset--) {
+                final long entries = ring.countAt(nowMillis, offset);
+                if (entries > 0) {
+                    buckets.add(new OccupancyBucket(Instant.ofEpochMilli(ring.startOf(nowMillis, offset)), entries));
+                    total += entries;
+                }
+            }
+            result.add(new BranchOccupancy(branchId, total, List.copyOf(buckets)));
+        });
+        result.sort(Comparator.comparing(BranchOccupancy::branchId));
+        return result;
+    }
+
+    private static Map<OccupancyGranularity, BucketRing> newCounters() {
+        final Map<OccupancyGranularity, BucketRing> counters = new EnumMap<>(OccupancyGranularity.class);
+        for (OccupancyGranularity granularity : OccupancyGranularity.values()) {
+            counters.put(granularity, new BucketRing(granularity.bucketMillis(), granularity.retainedBuckets()));
+        }
+        return counters;
+    }
+}
@@ -3,28 +3,30 @@ package com.sportclub.challenge.adapter.out.persistence.source.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
-import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.SourceType;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 import static jakarta.persistence.FetchType.LAZY;
 
 @Entity
-@Table(name = "branches")
+@Table(name = "branches", indexes = @Index(name = "idx_branches_last_modified", columnList = "last_modified"))
 @Getter
 @Setter
 @ToString(exclude = {"users"})
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @NoArgsConstructor
-@AllArgsConstructor
 public class SourceBranchJpaEntity {
 
     @Id
@@ -43,4 +45,18 @@ public class SourceBranchJpaEntity {
 
     @OneToMany(mappedBy = "branch", fetch = LAZY)
     private List<SourceUserJpaEntity> users = new ArrayList<>();
+
+    // Set by the database on every insert and update, so it follows the database clock rather
+    // than that of whichever application instance wrote the row.
+    @UpdateTimestamp(source = SourceType.DB)
+    @Column(name = "last_modified")
+    private LocalDateTime lastModified;
+
+    public SourceBranchJpaEntity(String id, String name, String address, String city, List<SourceUserJpaEntity> users) {
+        this.id = id;
+        this.name = name;
+        this.address = address;
+        this.city = city;
+        this.users = users;
+    }
 }
@@ -7,22 +7,25 @@ import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
-import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.SourceType;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_last_modified", columnList = "last_modified"))
 @Getter
 @Setter
 @NoArgsConstructor
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
-@AllArgsConstructor
 public class SourceUserJpaEntity {
 
     @Id
@@ -53,6 +56,23 @@ public class SourceUserJpaEntity {
     @JoinColumn(name = "branch_id", referencedColumnName = "id")
     private SourceBranchJpaEntity branch;
 
+    // Set by the database on every insert and update, so it follows the database clock rather
+    // than that of whichever application instance wrote the row.
+    @UpdateTimestamp(source = SourceType.DB)
+    @Column(name = "last_modified")
+    private LocalDateTime lastModified;
+
+    public SourceUserJpaEntity(String id, String firstName, String lastName, String email, String phone, String dni,
+                               UserState state, SourceBranchJpaEntity branch) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.phone = phone;
+        this.dni = dni;
+        this.state = state;
+        this.branch = branch;
+    }
 
     @Override
     public String toString() {
@@ -17,5 +17,6 @@ public interface SourceBranchPersistenceMapper {
     Branch toDomain(SourceBranchJpaEntity entity);
 
     @Mapping(target = "users", ignore = true)
+    @Mapping(target = "lastModified", ignore = true)
     SourceBranchJpaEntity toEntity(Branch domain);
 }
@@ -4,6 +4,7 @@ import com.sportclub.challenge.adapter.out.persistence.source.entity.SourceUserJ
 import com.sportclub.challenge.domain.model.user.User;
 import org.mapstruct.InjectionStrategy;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 import static org.mapstruct.MappingConstants.ComponentModel.SPRING;
 
@@ -16,5 +17,6 @@ public interface SourceUserPersistenceMapper {
 
     User toDomain(SourceUserJpaEntity entity);
 
+    @Mapping(target = "lastModified", ignore = true)
     SourceUserJpaEntity toEntity(User domain);
 }
\ No newline at end of file
@@ -3,15 +3,32 @@ package com.sportclub.challenge.adapter.out.persistence.target;
 import com.sportclub.challenge.adapter.out.persistence.target.entity.TargetUserJpaEntity;
 import com.sportclub.challenge.adapter.out.persistence.target.mapper.TargetUserPersistenceMapper;
 import com.sportclub.challenge.adapter.out.persistence.target.repository.TargetUserJpaRepository;
+import com.sportclub.challenge.application.port.out.index.KnownDniFilterPort;
 import com.sportclub.challenge.application.port.out.persistence.target.TargetUserRepositoryPort;
+import com.sportclub.challenge.application.port.out.security.UserDenylistPort;
 import com.sportclub.challenge.domain.model.user.User;
+import com.sportclub.challenge.domain.model.user.UserScrollPosition;
+import com.sportclub.challenge.domain.model.user.UserSortKey;
+import com.sportclub.challenge.domain.model.user.UserState;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -23,14 +40,32 @@ import static java.util.function.Function.identity;
 @RequiredArgsConstructor
 public class TargetUserRepositoryAdapter implements TargetUserRepositoryPort {
 
+    private static final String USERS_BY_DNI_CACHE = "usersByDni";
+    private static final String USER_COUNT_CACHE = "userCount";
+    private static final String USER_COUNT_KEY = "all";
+
     private final TargetUserJpaRepository userJpaRepository;
     private final TargetUserPersistenceMapper userMapper;
+    private final KnownDniFilterPort knownDniFilterPort;
+    private final UserDenylistPort userDenylistPort;
+    private final CacheManager cacheManager;
+
+    @PersistenceContext(unitName = "targetPersistenceUnit")
+    private EntityManager entityManager;
 
     @Override
     @Transactional("targetTransactionManager")
+    @CacheEvict(value = USER_COUNT_CACHE, allEntries = true)
     public User save(User user) {
         TargetUserJpaEntity entityToSave = userMapper.toEntity(user);
         TargetUserJpaEntity savedEntity = userJpaRepository.save(entityToSave);
+        final String dni = savedEntity.getDni();
+        // Adding before commit can at worst cause a false positive; the post-commit add covers a
+        // filter rebuild that read the table before this row was visible.
+        knownDniFilterPort.add(dni);
+        afterCommit(() -> knownDniFilterPort.add(dni));
+        final UserState state = savedEntity.getState();
+        afterCommit(() -> userDenylistPort.update(dni, state));
         return userMapper.toDomain(savedEntity);
     }
 
@@ -50,11 +85,93 @@ public class TargetUserRepositoryAdapter implements TargetUserRepositoryPort {
                 .map(userMapper::toDomain);
     }
 
+    /**
+     * Answers what it can from the {@code usersByDni} cache and loads the rest, branch included,
+     * with one {@code IN} query; the loaded users are put into the cache.
+     */
+    @Override
+    @Transactional(value = "targetTransactionManager", readOnly = true)
+    public List<User> findAllByDni(Collection<String> dnis) {
+        final Cache cache = cacheManager.getCache(USERS_BY_DNI_CACHE);
+        final List<User> users = new ArrayList<>(dnis.size());
+        final List<String> misses = new ArrayList<>();
+        for (String dni : dnis) {
+            final User cached = cache != null ? cache.get(dni, User.class) : null;
+            if (cached != null) {
+                users.add(cached);
+            } else {
+                misses.add(dni);
+            }
+        }
+        if (!misses.isEmpty()) {
+            for (TargetUserJpaEntity entity : userJpaRepository.findAllWithBranchByDniIn(misses)) {
+                final User user = userMapper.toDomain(entity);
+                users.add(user);
+                if (cache != null) {
+                    cache.put(user.dni(), user);
+                }
+            }
+        }
+        return users;
+    }
+
+    /**
+     * Fetches the page content without a count query and takes the total from the
+     * {@code userCount} cache; the count is only run on a cache miss, and not at all when the
+     * content alone tells the total (a short first or last page).
+     */
     @Override
     @Transactional(value = "targetTransactionManager", readOnly = true)
     public Page<User> findAll(Pageable pageable) {
-        Page<TargetUserJpaEntity> entityPage = userJpaRepository.findAll(pageable);
-        return entityPage.map(userMapper::toDomain);
+        final List<User> content = findSlice(pageable).getContent();
+        return PageableExecutionUtils.getPage(content, pageable, this::countAll);
+    }
+
+    @Override
+    @Transactional(value = "targetTransactionManager", readOnly = true)
+    public Slice<User> findSlice(Pageable pageable) {
+        return userJpaRepository.findSliceBy(pageable)
+                .map(userMapper::toDomain);
+    }
+
+    /**
+     * Seeks with {@code key >= :lastValue AND (key > :lastValue OR id > :lastId)} (mirrored for
+     * descending order); the leading range lets the database walk the {@code (key, id)} index. The property name comes from
+     * {@link UserSortKey}, never from the caller, so it is safe to splice into the query.
+     */
+    @Override
+    @Transactional(value = "targetTransactionManager", readOnly = true)
+    public List<User> findAllAfter(UserScrollPosition position, int limit) {
+        final String key = "u." + position.sortKey().property();
+        final boolean byId = position.sortKey() == UserSortKey.ID;
+        final String after = position.ascending() ? " > " : " < ";
+        final String direction = position.ascending() ? " ASC" : " DESC";
+        final StringBuilder jpql = new StringBuilder("SELECT u FROM TargetUserJpaEntity u LEFT JOIN FETCH u.branch");
+        if (!position.isStart()) {
+            if (byId) {
+                jpql.append(" WHERE u.id").append(after).append(":lastId");
+            } else {
+                jpql.append(" WHERE ").append(key).append(position.ascending() ? " >= " : " <= ").append(":lastValue")
+                        .append(" AND (").append(key).append(after).append(":lastValue")
+                        .append(" OR u.id").append(after).append(":lastId)");
+            }
+        }
+        jpql.append(" ORDER BY ").append(key).append(direction);
+        if (!byId) {
+            jpql.append(", u.id").append(direction);
+        }
+        final TypedQuery<TargetUserJpaEntity> query = entityManager.createQuery(jpql.toString(), TargetUserJpaEntity.class);
+        if (!position.isStart()) {
+            query.setParameter("lastId", position.lastId());
+            if (!byId) {
+                query.setParameter("lastValue", position.lastSortValue());
+            }
+        }
+        return query.setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(userMapper::toDomain)
+                .toList();
     }
 
     @Override
@@ -74,4 +191,31 @@ public class TargetUserRepositoryAdapter implements TargetUserRepositoryPort {
                 .map(userMapper::toDomain)
                 .collect(Collectors.toMap(User::id, identity()));
     }
+
+    private long countAll() {
+        final Cache cache = cacheManager.getCache(USER_COUNT_CACHE);
+        if (cache == null) {
+            return userJpaRepository.count();
+        }
+        final Long count = cache.get(USER_COUNT_KEY, userJpaRepository::count);
+        return count != null ? count : userJpaRepository.count();
+    }
+
+    /**
+     * Runs {@code action} once the current transaction has committed: a rolled-back save never
+     * reaches the in-memory indexes, and a concurrent rebuild reading the target database either
+     * sees the row or is told about it afterwards.
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
@@ -0,0 +1,47 @@
+package com.sportclub.challenge.adapter.out.persistence.target.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Append-only log of access decisions. Mapped so that the target schema includes the table; rows
+ * are inserted with JDBC batches by {@code RingBufferAccessEventAdapter}, never through JPA.
+ */
+@Entity
+@Table(name = "access_events", indexes = {
+        @Index(name = "idx_access_events_occurred_at", columnList = "occurred_at"),
+        @Index(name = "idx_access_events_dni", columnList = "dni")
+})
+@Getter
+@NoArgsConstructor
+public class AccessEventJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "dni", length = 20)
+    private String dni;
+
+    @Column(name = "branch_id", length = 50)
+    private String branchId;
+
+    @Column(name = "decision", nullable = false, length = 16)
+    private String decision;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    @Column(name = "latency_micros", nullable = false)
+    private long latencyMicros;
+}
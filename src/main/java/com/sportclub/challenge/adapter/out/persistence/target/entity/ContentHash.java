@@ -0,0 +1,40 @@
+package com.sportclub.challenge.adapter.out.persistence.target.entity;
+
+/**
+ * 64-bit FNV-1a fingerprint over the canonical fields of a target row.
+ * Every field is prefixed with its length and {@code null} with -1, so field boundaries
+ * are unambiguous whatever characters the values contain: {@code ("ab", "c")},
+ * {@code ("a", "bc")}, {@code ("a", null)} and {@code ("a", "")} all produce different values.
+ */
+public final class ContentHash {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final int NULL_LENGTH = -1;
+
+    private ContentHash() {
+    }
+
+    public static long of(String... fields) {
+        long hash = FNV_OFFSET_BASIS;
+        for (String field : fields) {
+            if (field == null) {
+                hash = mixLength(hash, NULL_LENGTH);
+                continue;
+            }
+            hash = mixLength(hash, field.length());
+            for (int i = 0; i < field.length(); i++) {
+                hash = mix(hash, field.charAt(i));
+            }
+        }
+        return hash;
+    }
+
+    private static long mixLength(long hash, int length) {
+        return mix(mix(hash, (char) (length >>> 16)), (char) length);
+    }
+
+    private static long mix(long hash, char value) {
+        return (hash ^ value) * FNV_PRIME;
+    }
+}
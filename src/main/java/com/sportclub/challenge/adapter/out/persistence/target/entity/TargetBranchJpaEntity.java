@@ -4,8 +4,9 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
-import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -24,7 +25,6 @@ import static jakarta.persistence.FetchType.LAZY;
 @ToString(exclude = {"users"})
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @NoArgsConstructor
-@AllArgsConstructor
 public class TargetBranchJpaEntity {
 
     @Id
@@ -44,4 +44,29 @@ public class TargetBranchJpaEntity {
     @OneToMany(mappedBy = "branch", fetch = LAZY)
     private List<TargetUserJpaEntity> users = new ArrayList<>();
 
+    @Column(name = "content_hash")
+    private Long contentHash;
+
+    public TargetBranchJpaEntity(String id, String name, String address, String city, List<TargetUserJpaEntity> users) {
+        this.id = id;
+        this.name = name;
+        this.address = address;
+        this.city = city;
+        this.users = users;
+    }
+
+    public long computeContentHash() {
+        return ContentHash.of(id, name, address, city);
+    }
+
+    /**
+     * Also called on entities built outside the persistence context: a merge only runs
+     * {@code @PreUpdate} when some column is dirty, so a stored NULL hash would otherwise stay NULL.
+     */
+    @PrePersist
+    @PreUpdate
+    public void refreshContentHash() {
+        this.contentHash = computeContentHash();
+    }
+
 }
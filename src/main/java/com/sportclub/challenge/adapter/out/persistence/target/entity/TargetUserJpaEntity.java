@@ -7,22 +7,26 @@ import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
-import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_first_name_id", columnList = "first_name, id"),
+        @Index(name = "idx_users_last_name_id", columnList = "last_name, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
-@AllArgsConstructor
 public class TargetUserJpaEntity {
 
     @Id
@@ -53,6 +57,36 @@ public class TargetUserJpaEntity {
     @JoinColumn(name = "branch_id", referencedColumnName = "id")
     private TargetBranchJpaEntity branch;
 
+    @Column(name = "content_hash")
+    private Long contentHash;
+
+    public TargetUserJpaEntity(
+            String id, String firstName, String lastName, String email, String phone, String dni,
+            UserState state, TargetBranchJpaEntity branch
+    ) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.phone = phone;
+        this.dni = dni;
+        this.state = state;
+        this.branch = branch;
+    }
+
+    public long computeContentHash() {
+        return ContentHash.of(
+                id, firstName, lastName, email, phone, dni,
+                state != null ? state.name() : null,
+                branch != null ? branch.getId() : null
+        );
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void refreshContentHash() {
+        this.contentHash = computeContentHash();
+    }
 
     @Override
     public String toString() {
@@ -17,5 +17,6 @@ public interface TargetBranchPersistenceMapper {
     Branch toDomain(TargetBranchJpaEntity entity);
 
     @Mapping(target = "users", ignore = true)
+    @Mapping(target = "contentHash", ignore = true)
     TargetBranchJpaEntity toEntity(Branch domain);
 }
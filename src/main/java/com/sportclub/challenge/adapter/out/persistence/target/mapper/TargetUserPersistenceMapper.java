@@ -4,6 +4,7 @@ import com.sportclub.challenge.adapter.out.persistence.target.entity.TargetUserJ
 import com.sportclub.challenge.domain.model.user.User;
 import org.mapstruct.InjectionStrategy;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 import static org.mapstruct.MappingConstants.ComponentModel.SPRING;
 
@@ -16,6 +17,7 @@ public interface TargetUserPersistenceMapper {
 
     User toDomain(TargetUserJpaEntity entity);
 
+    @Mapping(target = "contentHash", ignore = true)
     TargetUserJpaEntity toEntity(User domain);
 
 }
@@ -0,0 +1,8 @@
+package com.sportclub.challenge.adapter.out.persistence.target.repository;
+
+public interface ContentHashView {
+
+    String getId();
+
+    Long getContentHash();
+}
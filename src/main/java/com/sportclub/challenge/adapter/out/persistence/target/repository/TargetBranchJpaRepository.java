@@ -2,6 +2,14 @@ package com.sportclub.challenge.adapter.out.persistence.target.repository;
 
 import com.sportclub.challenge.adapter.out.persistence.target.entity.TargetBranchJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface TargetBranchJpaRepository extends JpaRepository<TargetBranchJpaEntity, String> {
+
+    @Query("SELECT b.id AS id, b.contentHash AS contentHash FROM TargetBranchJpaEntity b WHERE b.id IN :ids")
+    List<ContentHashView> findContentHashesByIdIn(@Param("ids") Collection<String> ids);
 }
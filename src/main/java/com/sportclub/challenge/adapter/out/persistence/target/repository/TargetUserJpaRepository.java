@@ -1,11 +1,38 @@
 package com.sportclub.challenge.adapter.out.persistence.target.repository;
 
 import com.sportclub.challenge.adapter.out.persistence.target.entity.TargetUserJpaEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TargetUserJpaRepository extends JpaRepository<TargetUserJpaEntity, String> {
     Optional<TargetUserJpaEntity> findByDni(String dni);
 
+    @Query("SELECT u FROM TargetUserJpaEntity u LEFT JOIN FETCH u.branch WHERE u.dni IN :dnis")
+    List<TargetUserJpaEntity> findAllWithBranchByDniIn(@Param("dnis") Collection<String> dnis);
+
+    /**
+     * Pages without a count query: one extra row is fetched to tell whether a next page exists.
+     * The branch is fetched in the same query, so mapping the page never goes back to the database.
+     */
+    @EntityGraph(attributePaths = "branch")
+    @Query("SELECT u FROM TargetUserJpaEntity u")
+    Slice<TargetUserJpaEntity> findSliceBy(Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = "branch")
+    List<TargetUserJpaEntity> findAll();
+
+    @Query("SELECT u.id AS id, u.contentHash AS contentHash FROM TargetUserJpaEntity u WHERE u.id IN :ids")
+    List<ContentHashView> findContentHashesByIdIn(@Param("ids") Collection<String> ids);
+
+    @Query("SELECT u.dni FROM TargetUserJpaEntity u WHERE u.id IN :ids")
+    List<String> findDnisByIdIn(@Param("ids") Collection<String> ids);
 }
@@ -0,0 +1,37 @@
+package com.sportclub.challenge.adapter.out.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket kept as a single {@link AtomicLong} (the generic cell rate algorithm form): the
+ * state is the instant at which the bucket would be full again, so taking a token is one
+ * compare-and-set with no lock and no allocation.
+ */
+final class RateBucket {
+
+    private final AtomicLong fullAtNanos;
+
+    RateBucket(long nowNanos) {
+        this.fullAtNanos = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * @param nanosPerToken time to refill one token
+     * @param capacity      burst size
+     * @return {@code 0} when a token was taken, otherwise nanoseconds until one is available
+     */
+    long tryAcquire(long nowNanos, long nanosPerToken, int capacity) {
+        final long burstNanos = nanosPerToken * capacity;
+        while (true) {
+            final long fullAt = fullAtNanos.get();
+            final long next = Math.max(fullAt, nowNanos) + nanosPerToken;
+            final long wait = next - nowNanos - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAtNanos.compareAndSet(fullAt, next)) {
+                return 0;
+            }
+        }
+    }
+}
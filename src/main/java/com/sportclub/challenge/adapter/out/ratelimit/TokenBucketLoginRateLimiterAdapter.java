@@ -0,0 +1,86 @@
+package com.sportclub.challenge.adapter.out.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sportclub.challenge.application.port.out.ratelimit.LoginRateLimiterPort;
+import com.sportclub.challenge.infrastructure.config.LoginRateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Login throttling with one token bucket per DNI and one per client address. Buckets live in two
+ * size-bounded Caffeine maps (internally striped, so lookups from different threads rarely
+ * contend) and are dropped once idle long enough to have refilled, so memory stays bounded even
+ * when an attacker cycles through DNIs. Outcomes are counted in {@code auth.login.rate.limit}
+ * (tags {@code result=allowed|rejected}, {@code key=dni|address|none}).
+ */
+@Component
+public class TokenBucketLoginRateLimiterAdapter implements LoginRateLimiterPort {
+
+    private static final String METRIC = "auth.login.rate.limit";
+    private static final long NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    private final LoginRateLimitProperties properties;
+    private final Cache<String, RateBucket> dniBuckets;
+    private final Cache<String, RateBucket> addressBuckets;
+    private final long dniNanosPerToken;
+    private final long addressNanosPerToken;
+    private final Counter allowed;
+    private final Counter rejectedByDni;
+    private final Counter rejectedByAddress;
+
+    public TokenBucketLoginRateLimiterAdapter(LoginRateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.dniNanosPerToken = NANOS_PER_MINUTE / properties.dniPerMinute();
+        this.addressNanosPerToken = NANOS_PER_MINUTE / properties.addressPerMinute();
+        this.dniBuckets = buckets(dniNanosPerToken * properties.dniCapacity(), properties.maxTrackedKeys());
+        this.addressBuckets = buckets(addressNanosPerToken * properties.addressCapacity(), properties.maxTrackedKeys());
+        this.allowed = Counter.builder(METRIC).tag("result", "allowed").tag("key", "none")
+                .description("Login attempts checked by the rate limiter").register(meterRegistry);
+        this.rejectedByDni = Counter.builder(METRIC).tag("result", "rejected").tag("key", "dni")
+                .description("Login attempts checked by the rate limiter").register(meterRegistry);
+        this.rejectedByAddress = Counter.builder(METRIC).tag("result", "rejected").tag("key", "address")
+                .description("Login attempts checked by the rate limiter").register(meterRegistry);
+    }
+
+    @Override
+    public long tryAcquire(String dni, String clientAddress) {
+        if (!properties.enabled()) {
+            return 0;
+        }
+        final long now = System.nanoTime();
+        if (clientAddress != null) {
+            final long wait = addressBuckets.get(clientAddress, key -> new RateBucket(now))
+                    .tryAcquire(now, addressNanosPerToken, properties.addressCapacity());
+            if (wait > 0) {
+                rejectedByAddress.increment();
+                return toRetryAfterSeconds(wait);
+            }
+        }
+        if (dni != null) {
+            final long wait = dniBuckets.get(dni, key -> new RateBucket(now))
+                    .tryAcquire(now, dniNanosPerToken, properties.dniCapacity());
+            if (wait > 0) {
+                rejectedByDni.increment();
+                return toRetryAfterSeconds(wait);
+            }
+        }
+        allowed.increment();
+        return 0;
+    }
+
+    private static Cache<String, RateBucket> buckets(long refillNanos, long maxKeys) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofNanos(refillNanos))
+                .build();
+    }
+
+    private static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+}
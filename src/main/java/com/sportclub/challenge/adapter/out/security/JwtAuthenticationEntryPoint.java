@@ -14,7 +14,6 @@ import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.time.Instant;
 
 @Component
 @RequiredArgsConstructor
@@ -34,9 +33,8 @@ public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
         response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
 
-        final ErrorResponseDto errorDto = new ErrorResponseDto(
-                Instant.now().toEpochMilli(),
-                HttpStatus.UNAUTHORIZED.value(),
+        final ErrorResponseDto errorDto = ErrorResponseDto.of(
+                HttpStatus.UNAUTHORIZED,
                 "Unauthorized",
                 "Authentication required. " + authException.getMessage(),
                 request.getRequestURI()
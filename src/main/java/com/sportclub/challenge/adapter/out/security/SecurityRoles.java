@@ -0,0 +1,11 @@
+package com.sportclub.challenge.adapter.out.security;
+
+/** Role names shared by the security adapters. */
+public final class SecurityRoles {
+
+    /** Role granted to every member, whether loaded from the user store or from token claims. */
+    public static final String DEFAULT_ROLE = "ROLE_USER";
+
+    private SecurityRoles() {
+    }
+}
@@ -0,0 +1,142 @@
+package com.sportclub.challenge.adapter.out.security.adapter;
+
+import com.sportclub.challenge.application.port.out.log.LoggingPort;
+import com.sportclub.challenge.application.port.out.security.UserDenylistPort;
+import com.sportclub.challenge.domain.model.user.UserState;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DNIs of DENIED members as a sorted {@code long[]}: 8 bytes per denied member and a binary search
+ * per check, with no locking or allocation on the read path. Changes are rare, so each one copies
+ * the array and publishes the copy. Loaded when the application is ready, rebuilt after every
+ * migration and kept current by user saves once they commit.
+ * <p>
+ * A rebuild reads the table without blocking updates. Updates that arrive while it runs are
+ * recorded and applied on top of the rebuilt array before it is published, so a save committed
+ * after the rebuild query started is not overwritten by the older database view.
+ */
+@Component
+public class InMemoryUserDenylistAdapter implements UserDenylistPort {
+
+    private static final long NOT_NUMERIC = -1L;
+
+    private final EntityManagerFactory targetEntityManagerFactory;
+    private final LoggingPort logger;
+    private final Object rebuildLock = new Object();
+    private volatile long[] deniedDnis = new long[0];
+    private Map<Long, UserState> updatedDuringRebuild;
+
+    public InMemoryUserDenylistAdapter(
+            @Qualifier("targetEntityManagerFactory") EntityManagerFactory targetEntityManagerFactory,
+            LoggingPort logger
+    ) {
+        this.targetEntityManagerFactory = targetEntityManagerFactory;
+        this.logger = logger;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Override
+    public boolean isDenied(String dni) {
+        final long key = parseDni(dni);
+        return key != NOT_NUMERIC && Arrays.binarySearch(deniedDnis, key) >= 0;
+    }
+
+    @Override
+    public synchronized void update(String dni, UserState state) {
+        final long key = parseDni(dni);
+        if (key == NOT_NUMERIC) {
+            return;
+        }
+        deniedDnis = apply(deniedDnis, key, state);
+        if (updatedDuringRebuild != null) {
+            updatedDuringRebuild.put(key, state);
+        }
+    }
+
+    @Override
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                updatedDuringRebuild = new LinkedHashMap<>();
+            }
+            final EntityManager entityManager = targetEntityManagerFactory.createEntityManager();
+            try {
+                final List<String> dnis = entityManager
+                        .createQuery("SELECT u.dni FROM TargetUserJpaEntity u WHERE u.state = :state", String.class)
+                        .setParameter("state", UserState.DENIED)
+                        .getResultList();
+                final long[] rebuilt = dnis.stream()
+                        .mapToLong(InMemoryUserDenylistAdapter::parseDni)
+                        .filter(dni -> dni != NOT_NUMERIC)
+                        .sorted()
+                        .distinct()
+                        .toArray();
+                publish(rebuilt);
+            } finally {
+                synchronized (this) {
+                    updatedDuringRebuild = null;
+                }
+                entityManager.close();
+            }
+        }
+    }
+
+    private synchronized void publish(long[] rebuilt) {
+        long[] result = rebuilt;
+        for (Map.Entry<Long, UserState> update : updatedDuringRebuild.entrySet()) {
+            result = apply(result, update.getKey(), update.getValue());
+        }
+        deniedDnis = result;
+        logger.info("User denylist rebuilt: {} DENIED members ({} updates applied during the rebuild).",
+                result.length, updatedDuringRebuild.size());
+    }
+
+    /** Returns {@code current} with {@code key} added or removed; {@code current} itself is never modified. */
+    private static long[] apply(long[] current, long key, UserState state) {
+        final int index = Arrays.binarySearch(current, key);
+        if (UserState.DENIED.equals(state) && index < 0) {
+            final int insertAt = -index - 1;
+            final long[] updated = new long[current.length + 1];
+            System.arraycopy(current, 0, updated, 0, insertAt);
+            updated[insertAt] = key;
+            System.arraycopy(current, insertAt, updated, insertAt + 1, current.length - insertAt);
+            return updated;
+        }
+        if (!UserState.DENIED.equals(state) && index >= 0) {
+            final long[] updated = new long[current.length - 1];
+            System.arraycopy(current, 0, updated, 0, index);
+            System.arraycopy(current, index + 1, updated, index, current.length - index - 1);
+            return updated;
+        }
+        return current;
+    }
+
+    private static long parseDni(String dni) {
+        if (dni == null || dni.isEmpty() || dni.length() > 18) {
+            return NOT_NUMERIC;
+        }
+        long value = 0;
+        for (int i = 0; i < dni.length(); i++) {
+            final char c = dni.charAt(i);
+            if (c < '0' || c > '9') {
+                return NOT_NUMERIC;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+}
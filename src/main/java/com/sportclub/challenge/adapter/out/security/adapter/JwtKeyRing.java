@@ -0,0 +1,86 @@
+package com.sportclub.challenge.adapter.out.security.adapter;
+
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Immutable set of HMAC keys indexed by {@code kid}, one of which signs new tokens. Verification
+ * picks the key with a single map lookup. Tokens without a {@code kid} (issued before key rotation
+ * was introduced) resolve to the {@value #DEFAULT_KID} key when there is one.
+ * <p>
+ * Key ring files are properties files:
+ * <pre>
+ * current=2025-06
+ * key.2025-06=&lt;secret, at least 32 bytes&gt;
+ * key.2025-01=&lt;previous secret, kept until its tokens expire&gt;
+ * </pre>
+ */
+final class JwtKeyRing {
+
+    static final String DEFAULT_KID = "default";
+    private static final String CURRENT_PROPERTY = "current";
+    private static final String KEY_PREFIX = "key.";
+
+    private final Map<String, SecretKey> keysByKid;
+    private final String currentKid;
+    private final SecretKey currentKey;
+
+    private JwtKeyRing(Map<String, SecretKey> keysByKid, String currentKid) {
+        this.keysByKid = Map.copyOf(keysByKid);
+        this.currentKid = currentKid;
+        this.currentKey = keysByKid.get(currentKid);
+    }
+
+    /** Ring with the single key {@value #DEFAULT_KID}. */
+    static JwtKeyRing ofSecret(String secret) {
+        return new JwtKeyRing(Map.of(DEFAULT_KID, toKey(secret)), DEFAULT_KID);
+    }
+
+    static JwtKeyRing load(Path file) throws IOException {
+        final Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        final Map<String, SecretKey> keys = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith(KEY_PREFIX)) {
+                keys.put(name.substring(KEY_PREFIX.length()), toKey(properties.getProperty(name)));
+            }
+        }
+        final String currentKid = properties.getProperty(CURRENT_PROPERTY);
+        if (currentKid == null || !keys.containsKey(currentKid)) {
+            throw new IllegalArgumentException("Key ring " + file + " must name a 'current' kid that has a 'key.<kid>' entry");
+        }
+        return new JwtKeyRing(keys, currentKid);
+    }
+
+    /** Verification key for the given {@code kid} header, or {@code null} when the ring does not hold it. */
+    SecretKey find(String kid) {
+        return keysByKid.get(kid != null ? kid : DEFAULT_KID);
+    }
+
+    String currentKid() {
+        return currentKid;
+    }
+
+    SecretKey currentKey() {
+        return currentKey;
+    }
+
+    int size() {
+        return keysByKid.size();
+    }
+
+    private static SecretKey toKey(String secret) {
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    }
+}
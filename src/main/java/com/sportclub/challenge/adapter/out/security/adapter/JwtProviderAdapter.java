@@ -1,77 +1,178 @@
 package com.sportclub.challenge.adapter.out.security.adapter;
 
+import com.sportclub.challenge.adapter.out.security.SecurityRoles;
 import com.sportclub.challenge.application.port.out.log.LoggingPort;
 import com.sportclub.challenge.application.port.out.security.JwtProviderPort;
+import com.sportclub.challenge.application.port.out.security.VerifiedToken;
+import com.sportclub.challenge.domain.model.user.User;
+import com.sportclub.challenge.domain.model.user.UserState;
 import com.sportclub.challenge.infrastructure.config.JwtProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
-import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
+/**
+ * Issues and verifies HS256 tokens. Verified claims are cached by token string until the token's
+ * own expiry, so a client that reuses its token skips the HMAC check and the JSON decoding; the
+ * cached entry is looked up by the string's hash and confirmed by full equality, so a different
+ * token can never be served another token's claims. The cache is cleared whenever the keys change
+ * and is exported to Micrometer as {@code cache.*{cache=jwtVerifiedTokens}}.
+ * <p>
+ * Keys come from a {@link JwtKeyRing}: new tokens are signed with the current key and carry its
+ * {@code kid}, and any key still in the ring verifies the tokens it signed, so rotating the signing
+ * key does not log anyone out. With {@code app.jwt.key-ring-file} set, the file is checked every
+ * {@code app.jwt.key-ring-reload-ms} and reloaded when it changes; otherwise the ring holds only
+ * {@code app.jwt.secret}.
+ */
 @Component
-@RequiredArgsConstructor
 public class JwtProviderAdapter implements JwtProviderPort {
 
+    private static final String VERIFIED_TOKENS_CACHE = "jwtVerifiedTokens";
+    private static final String STATE_CLAIM = "state";
+    private static final String ROLES_CLAIM = "roles";
+
     private final LoggingPort logger;
     private final JwtProperties jwtProperties;
-    private SecretKey jwtSecretKey;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private volatile JwtKeyRing keyRing;
+    private volatile FileTime keyRingModifiedAt;
+    // Immutable and thread-safe: built once and shared by every request; keys are looked up per
+    // token in the current ring, so a ring loaded later (e.g. after a failed start) is picked up.
+    private final JwtParser jwtParser;
+
+    public JwtProviderAdapter(LoggingPort logger, JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        this.logger = logger;
+        this.jwtProperties = jwtProperties;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.verifiedCacheMaxSize())
+                .expireAfter(Expiry.creating(JwtProviderAdapter::timeToExpiry))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, VERIFIED_TOKENS_CACHE);
+        this.jwtParser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        final JwtKeyRing ring = keyRing;
+                        final Key key = ring != null ? ring.find(header.getKeyId()) : null;
+                        if (key == null) {
+                            throw new UnknownKeyIdException(header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .build();
+    }
 
     @PostConstruct
     public void init() {
+        verifiedTokens.invalidateAll();
+        try {
+            this.keyRing = loadKeyRing();
+            logger.info("JWT key ring initialized successfully: {} key(s), signing with kid '{}'.",
+                    keyRing.size(), keyRing.currentKid());
+        } catch (Exception e) {
+            logger.error("!!! CRITICAL: Failed to initialize JWT Secret Key. Check app.jwt.secret / app.jwt.key-ring-file format and length !!!", e);
+        }
+    }
+
+    /**
+     * Reloads the key ring file when its modification time changed. A file that fails to load
+     * leaves the previous ring in place.
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.key-ring-reload-ms:30000}")
+    public void reloadKeyRing() {
+        if (!StringUtils.hasText(jwtProperties.keyRingFile())) {
+            return;
+        }
         try {
-            this.jwtSecretKey = Keys.hmacShaKeyFor(jwtProperties.secret().getBytes(StandardCharsets.UTF_8));
-            logger.info("JWT Secret Key initialized successfully.");
+            final FileTime modifiedAt = Files.getLastModifiedTime(Path.of(jwtProperties.keyRingFile()));
+            if (modifiedAt.equals(keyRingModifiedAt)) {
+                return;
+            }
+            final JwtKeyRing reloaded = loadKeyRing();
+            keyRing = reloaded;
+            verifiedTokens.invalidateAll();
+            logger.info("JWT key ring reloaded: {} key(s), signing with kid '{}'.", reloaded.size(), reloaded.currentKid());
         } catch (Exception e) {
-            logger.error("!!! CRITICAL: Failed to initialize JWT Secret Key. Check app.jwt.secret property format and length !!!", e);
+            logger.error("Failed to reload JWT key ring from {}. Keeping the previous keys.", e, jwtProperties.keyRingFile());
         }
     }
 
     @Override
     public String generateToken(String dni) {
-        if (jwtSecretKey == null) {
-            logger.error("Cannot generate token: JWT Secret Key is not initialized!");
-            throw new IllegalStateException("JWT Secret Key not initialized");
-        }
-        final Date now = new Date();
-        final Date expiryDate = new Date(now.getTime() + jwtProperties.expirationMs());
-        final String token = Jwts.builder()
-                .subject(dni)
-                .issuedAt(now)
-                .expiration(expiryDate)
-                .signWith(jwtSecretKey)
-                .compact();
+        final String token = buildToken(dni, null);
         logger.debug("Generated JWT token for DNI: {}", dni);
         return token;
     }
 
     @Override
-    public boolean validateToken(String token) {
-        if (jwtSecretKey == null) {
+    public String generateToken(User user) {
+        final String token = buildToken(user.dni(), user.state());
+        logger.debug("Generated JWT token with user claims for DNI: {}", user.dni());
+        return token;
+    }
+
+    @Override
+    public Optional<VerifiedToken> verify(String token) {
+        final JwtKeyRing ring = keyRing;
+        if (ring == null) {
             logger.error("Cannot validate token: JWT Secret Key is not initialized!");
-            return false;
+            return Optional.empty();
         }
         if (token == null || token.isBlank()) {
             logger.warn("Validation failed: Token string is null or empty.");
-            return false;
+            return Optional.empty();
+        }
+        final VerifiedToken cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            logger.trace("Token validation served from cache.");
+            return Optional.of(cached);
         }
         try {
-            Jwts.parser()
-                    .verifyWith(jwtSecretKey)
-                    .build()
-                    .parseSignedClaims(token);
+            final Claims claims = jwtParser.parseSignedClaims(token).getPayload();
             logger.debug("Token validation successful.");
-            return true;
+            final VerifiedToken verified = new VerifiedToken(
+                    claims.getSubject(),
+                    toInstant(claims.getIssuedAt()),
+                    toInstant(claims.getExpiration()),
+                    parseState(claims.get(STATE_CLAIM, String.class)),
+                    parseRoles(claims.get(ROLES_CLAIM))
+            );
+            if (verified.expiresAt() != null) {
+                cacheVerified(token, verified, ring);
+            }
+            return Optional.of(verified);
+        } catch (UnknownKeyIdException e) {
+            logger.warn("Validation failed: {}", e.getMessage());
         } catch (SignatureException e) {
             logger.error("Validation failed: Invalid JWT signature: {}", e.getMessage());
         } catch (MalformedJwtException e) {
@@ -85,34 +186,96 @@ public class JwtProviderAdapter implements JwtProviderPort {
         } catch (Exception e) {
             logger.error("Validation failed: Unexpected error: {}", e.getMessage(), e);
         }
-        return false;
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean validateToken(String token) {
+        return verify(token).isPresent();
     }
 
     @Override
     public Optional<String> getDniFromToken(String token) {
-        if (jwtSecretKey == null) {
-            logger.error("Cannot get DNI: JWT Secret Key is not initialized!");
-            return Optional.empty();
+        return verify(token).map(VerifiedToken::subject);
+    }
+
+    /**
+     * Caches claims verified while {@code ring} was current. A reload swaps the ring before it
+     * clears the cache, so an entry put after that clear sees the new ring here and is dropped
+     * instead of outliving the key it was verified with.
+     */
+    private void cacheVerified(String token, VerifiedToken verified, JwtKeyRing ring) {
+        verifiedTokens.put(token, verified);
+        if (keyRing != ring) {
+            verifiedTokens.invalidate(token);
         }
-        if (token == null || token.isBlank()) {
-            logger.warn("Cannot get DNI: Token string is null or empty.");
-            return Optional.empty();
+    }
+
+    private JwtKeyRing loadKeyRing() throws IOException {
+        if (!StringUtils.hasText(jwtProperties.keyRingFile())) {
+            return JwtKeyRing.ofSecret(jwtProperties.secret());
+        }
+        final Path file = Path.of(jwtProperties.keyRingFile());
+        final FileTime modifiedAt = Files.getLastModifiedTime(file);
+        final JwtKeyRing loaded = JwtKeyRing.load(file);
+        keyRingModifiedAt = modifiedAt;
+        return loaded;
+    }
+
+    private String buildToken(String dni, UserState state) {
+        final JwtKeyRing ring = keyRing;
+        if (ring == null) {
+            logger.error("Cannot generate token: JWT Secret Key is not initialized!");
+            throw new IllegalStateException("JWT Secret Key not initialized");
+        }
+        final Date now = new Date();
+        final Date expiryDate = new Date(now.getTime() + jwtProperties.expirationMs());
+        final JwtBuilder builder = Jwts.builder()
+                .header().keyId(ring.currentKid()).and()
+                .subject(dni)
+                .issuedAt(now)
+                .expiration(expiryDate);
+        if (state != null) {
+            builder.claim(STATE_CLAIM, state.name())
+                    .claim(ROLES_CLAIM, List.of(SecurityRoles.DEFAULT_ROLE));
+        }
+        return builder.signWith(ring.currentKey()).compact();
+    }
+
+    private static UserState parseState(String state) {
+        if (state == null) {
+            return null;
         }
         try {
-            final String dni = Jwts.parser()
-                    .verifyWith(jwtSecretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload()
-                    .getSubject();
-            logger.debug("Extracted DNI from token: {}", dni);
-            return Optional.ofNullable(dni);
-        } catch (JwtException e) {
-            logger.error("Cannot get DNI: Error parsing token: {}", e.getMessage());
-            return Optional.empty();
-        } catch (Exception e) {
-            logger.error("Cannot get DNI: Unexpected error during parsing: {}", e.getMessage(), e);
-            return Optional.empty();
+            return UserState.valueOf(state);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static List<String> parseRoles(Object roles) {
+        if (!(roles instanceof List<?> values)) {
+            return List.of();
+        }
+        return values.stream()
+                .filter(String.class::isInstance)
+                .map(String.class::cast)
+                .toList();
+    }
+
+    private static Duration timeToExpiry(String token, VerifiedToken verified) {
+        final Duration remaining = Duration.between(Instant.now(), verified.expiresAt());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
+    }
+
+    /** The token names a {@code kid} that is not (or no longer) in the key ring. */
+    private static final class UnknownKeyIdException extends JwtException {
+        UnknownKeyIdException(String kid) {
+            super("No key in the JWT key ring for kid '" + kid + "'");
         }
     }
-}
\ No newline at end of file
+}
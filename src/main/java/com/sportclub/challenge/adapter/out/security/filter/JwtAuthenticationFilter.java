@@ -2,6 +2,10 @@ package com.sportclub.challenge.adapter.out.security.filter;
 
 import com.sportclub.challenge.application.port.out.log.LoggingPort;
 import com.sportclub.challenge.application.port.out.security.JwtProviderPort;
+import com.sportclub.challenge.application.port.out.security.UserDenylistPort;
+import com.sportclub.challenge.application.port.out.security.VerifiedToken;
+import com.sportclub.challenge.domain.model.user.UserState;
+import com.sportclub.challenge.infrastructure.config.JwtProperties;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,7 +13,9 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -18,13 +24,22 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
+/**
+ * Authenticates requests carrying a valid bearer token. By default the principal is loaded through
+ * the {@link UserDetailsService}. With {@code app.jwt.stateless-auth} on, tokens that carry user
+ * claims are turned into a principal from the claims alone; the only per-request check is the
+ * in-memory denylist of members switched to DENIED after the token was issued.
+ */
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtProviderPort jwtProviderPort;
     private final UserDetailsService userDetailsService;
+    private final UserDenylistPort userDenylistPort;
+    private final JwtProperties jwtProperties;
     private final LoggingPort logger;
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
@@ -40,13 +55,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             final String jwt = extractJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtProviderPort.validateToken(jwt)) {
+            final Optional<VerifiedToken> verifiedToken = StringUtils.hasText(jwt)
+                    ? jwtProviderPort.verify(jwt)
+                    : Optional.empty();
+
+            if (verifiedToken.isPresent()) {
                 logger.debug("JWT Token is valid. Attempting to authenticate...");
-                jwtProviderPort.getDniFromToken(jwt).ifPresent(dni -> {
+                Optional.ofNullable(verifiedToken.get().subject()).ifPresent(dni -> {
                     logger.debug("Extracted DNI {} from token. Loading UserDetails...", dni);
 
                     try {
-                        final UserDetails userDetails = userDetailsService.loadUserByUsername(dni);
+                        final UserDetails userDetails = resolveUserDetails(dni, verifiedToken.get());
+                        if (userDetails == null) {
+                            return;
+                        }
                         logger.debug("UserDetails loaded successfully for DNI: {}", dni);
                         final UsernamePasswordAuthenticationToken authentication
                                 = new UsernamePasswordAuthenticationToken(
@@ -79,6 +101,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Builds the principal from the token claims in stateless mode, or loads it from the user store.
+     * Returns {@code null} when the claims say the member may not be authenticated.
+     */
+    private UserDetails resolveUserDetails(String dni, VerifiedToken token) {
+        if (!jwtProperties.statelessAuth() || !token.hasUserClaims()) {
+            return userDetailsService.loadUserByUsername(dni);
+        }
+        if (!UserState.AUTHORIZED.equals(token.state()) || userDenylistPort.isDenied(dni)) {
+            logger.warn("Rejected token claims for DNI {}: member is not AUTHORIZED.", dni);
+            return null;
+        }
+        return new User(
+                dni,
+                "[PROTECTED]",
+                token.roles().stream().map(SimpleGrantedAuthority::new).toList()
+        );
+    }
+
     private String extractJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
@@ -1,5 +1,6 @@
 package com.sportclub.challenge.adapter.out.security.service;
 
+import com.sportclub.challenge.adapter.out.security.SecurityRoles;
 import com.sportclub.challenge.application.port.out.log.LoggingPort;
 import com.sportclub.challenge.application.port.out.persistence.target.TargetUserRepositoryPort;
 import com.sportclub.challenge.domain.model.user.User;
@@ -55,6 +56,6 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
     private Collection<? extends GrantedAuthority> determineAuthorities(User user) {
         logger.debug("Assigning default 'ROLE_USER' authority to user with DNI: {}", user.dni());
-        return List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        return List.of(new SimpleGrantedAuthority(SecurityRoles.DEFAULT_ROLE));
     }
 }
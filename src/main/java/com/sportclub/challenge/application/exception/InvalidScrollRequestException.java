@@ -0,0 +1,7 @@
+package com.sportclub.challenge.application.exception;
+
+public class InvalidScrollRequestException extends RuntimeException {
+    public InvalidScrollRequestException(String message) {
+        super(message);
+    }
+}
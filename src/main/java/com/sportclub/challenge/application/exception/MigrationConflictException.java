@@ -0,0 +1,7 @@
+package com.sportclub.challenge.application.exception;
+
+public class MigrationConflictException extends RuntimeException {
+    public MigrationConflictException(String message, Throwable throwable) {
+        super(message, throwable);
+    }
+}
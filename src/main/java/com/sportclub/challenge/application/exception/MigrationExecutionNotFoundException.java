@@ -0,0 +1,7 @@
+package com.sportclub.challenge.application.exception;
+
+public class MigrationExecutionNotFoundException extends RuntimeException {
+    public MigrationExecutionNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.sportclub.challenge.application.port.in;
+
+import com.sportclub.challenge.application.port.in.result.MigrationStatus;
+
+public interface GetMigrationStatusUseCase {
+    MigrationStatus getMigrationStatus(long executionId);
+}
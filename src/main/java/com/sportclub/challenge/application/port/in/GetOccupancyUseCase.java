@@ -0,0 +1,10 @@
+package com.sportclub.challenge.application.port.in;
+
+import com.sportclub.challenge.application.port.in.result.BranchOccupancy;
+import com.sportclub.challenge.application.port.in.result.OccupancyGranularity;
+
+import java.util.List;
+
+public interface GetOccupancyUseCase {
+    List<BranchOccupancy> getOccupancy(OccupancyGranularity granularity);
+}
@@ -1,5 +1,9 @@
 package com.sportclub.challenge.application.port.in;
 
+import com.sportclub.challenge.application.port.in.command.MigrationMode;
+
 public interface MigrateDataUseCase {
-    void migrateData();
+    long migrateData(MigrationMode mode);
+
+    long resumeMigration(long executionId);
 }
@@ -1,9 +1,22 @@
 package com.sportclub.challenge.application.port.in;
 
+import com.sportclub.challenge.application.port.in.result.UserScrollPage;
 import com.sportclub.challenge.domain.model.user.User;
+import com.sportclub.challenge.domain.model.user.UserSortKey;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface PaginateUsersUseCase {
     Page<User> findUsers(Pageable pageable);
+
+    /** Like {@link #findUsers(Pageable)} but without totals, so no count is needed. */
+    Slice<User> findUsersSlice(Pageable pageable);
+
+    /**
+     * Keyset scroll over the users. Without a {@code cursor} the scroll starts at the beginning of
+     * the given order; with one it continues where the cursor points and keeps the order the cursor
+     * was issued for.
+     */
+    UserScrollPage scrollUsers(String cursor, UserSortKey sortKey, boolean ascending, int size);
 }
@@ -1,7 +1,18 @@
 package com.sportclub.challenge.application.port.in;
 
+import com.sportclub.challenge.application.port.in.result.AccessDecision;
+import com.sportclub.challenge.application.port.in.result.AccessValidationResult;
 import com.sportclub.challenge.domain.model.user.User;
 
+import java.util.List;
+
 public interface ValidateAccessUseCase {
+    /** Returns the admitted member with its DNI, state and branch; throws for any other decision. */
     User validateAccessByDni(String dni);
+
+    /** Same check as {@link #validateAccessByDni} but reports denials and unknown DNIs as a result instead of throwing. */
+    AccessDecision decideAccess(String dni);
+
+    /** Validates every DNI without throwing; results are in the order of {@code dnis}. */
+    List<AccessValidationResult> validateAccessBatch(List<String> dnis);
 }
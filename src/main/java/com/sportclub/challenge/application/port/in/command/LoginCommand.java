@@ -6,6 +6,7 @@ import jakarta.validation.constraints.Size;
 public record LoginCommand(
         @NotBlank(message = "DNI cannot be blank")
         @Size(min = 7, max = 9, message = "DNI must be between 7 and 9 characters")
-        String dni
+        String dni,
+        String clientAddress
 ) {
 }
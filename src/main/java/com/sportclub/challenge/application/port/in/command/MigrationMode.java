@@ -0,0 +1,8 @@
+package com.sportclub.challenge.application.port.in.command;
+
+public enum MigrationMode {
+    /** Re-reads every source row; used for reconciliation. */
+    FULL,
+    /** Reads only source rows modified since the watermark of the last completed run. */
+    INCREMENTAL
+}
@@ -0,0 +1,73 @@
+package com.sportclub.challenge.application.port.in.result;
+
+import com.sportclub.challenge.domain.model.branch.Branch;
+import com.sportclub.challenge.domain.model.user.UserState;
+
+/**
+ * Outcome of a single access check. Unlike the exceptions thrown by
+ * {@code validateAccessByDni}, a decision carries no message or stack trace, so rejecting a
+ * member costs no more than admitting one. {@link #message()} builds the description on demand,
+ * for callers that report the decision to a person.
+ */
+public sealed interface AccessDecision {
+
+    AccessOutcome outcome();
+
+    /** Description of the decision, built on each call. */
+    String message();
+
+    /**
+     * The member exists and is {@code AUTHORIZED}; {@code branch} is the member's branch, if known.
+     * Carries only what the access index holds, so granting from the index builds no {@code User}.
+     */
+    record Granted(String dni, UserState state, Branch branch) implements AccessDecision {
+        @Override
+        public AccessOutcome outcome() {
+            return AccessOutcome.GRANTED;
+        }
+
+        @Override
+        public String message() {
+            return "Access granted for user with DNI " + dni + ".";
+        }
+    }
+
+    /** The member exists but is {@code DENIED}; {@code branch} is the member's branch, if known. */
+    record Denied(String dni, Branch branch) implements AccessDecision {
+        @Override
+        public AccessOutcome outcome() {
+            return AccessOutcome.DENIED;
+        }
+
+        @Override
+        public String message() {
+            return "Access denied for user with DNI " + dni + ". User state is DENIED.";
+        }
+    }
+
+    /** No member has this DNI. */
+    record Unknown(String dni) implements AccessDecision {
+        @Override
+        public AccessOutcome outcome() {
+            return AccessOutcome.NOT_FOUND;
+        }
+
+        @Override
+        public String message() {
+            return "User with DNI " + dni + " not found.";
+        }
+    }
+
+    /** The DNI is not 7 to 9 digits. */
+    record Invalid(String dni) implements AccessDecision {
+        @Override
+        public AccessOutcome outcome() {
+            return AccessOutcome.INVALID;
+        }
+
+        @Override
+        public String message() {
+            return "Invalid DNI format provided: " + dni;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.sportclub.challenge.application.port.in.result;
+
+public enum AccessOutcome {
+    GRANTED, DENIED, NOT_FOUND, INVALID
+}
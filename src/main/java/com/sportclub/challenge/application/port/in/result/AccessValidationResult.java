@@ -0,0 +1,7 @@
+package com.sportclub.challenge.application.port.in.result;
+
+public record AccessValidationResult(
+        String dni,
+        AccessOutcome outcome
+) {
+}
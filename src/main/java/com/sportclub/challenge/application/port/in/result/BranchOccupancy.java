@@ -0,0 +1,14 @@
+package com.sportclub.challenge.application.port.in.result;
+
+import java.util.List;
+
+/**
+ * Granted entries of one branch over the retained window of a granularity; {@code buckets} holds
+ * only the non-empty buckets, oldest first.
+ */
+public record BranchOccupancy(
+        String branchId,
+        long totalEntries,
+        List<OccupancyBucket> buckets
+) {
+}
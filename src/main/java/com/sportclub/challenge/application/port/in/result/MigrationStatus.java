@@ -0,0 +1,23 @@
+package com.sportclub.challenge.application.port.in.result;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Progress snapshot of a migration execution. {@code estimatedSecondsRemaining} is {@code null}
+ * when the execution has finished, no item has been processed yet or the source totals have not
+ * been counted yet ({@code totalItems} is then 0).
+ */
+public record MigrationStatus(
+        long executionId,
+        String status,
+        String exitCode,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        long totalItems,
+        long processedItems,
+        double itemsPerSecond,
+        Long estimatedSecondsRemaining,
+        List<MigrationStepStatus> steps
+) {
+}
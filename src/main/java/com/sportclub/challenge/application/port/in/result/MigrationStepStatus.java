@@ -0,0 +1,17 @@
+package com.sportclub.challenge.application.port.in.result;
+
+import java.time.LocalDateTime;
+
+public record MigrationStepStatus(
+        String stepName,
+        String status,
+        long readCount,
+        long writeCount,
+        long filterCount,
+        long skipCount,
+        long commitCount,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        double itemsPerSecond
+) {
+}
@@ -0,0 +1,9 @@
+package com.sportclub.challenge.application.port.in.result;
+
+import java.time.Instant;
+
+public record OccupancyBucket(
+        Instant start,
+        long entries
+) {
+}
@@ -0,0 +1,23 @@
+package com.sportclub.challenge.application.port.in.result;
+
+/** Width of an occupancy bucket and how many of the most recent buckets are kept. */
+public enum OccupancyGranularity {
+    MINUTE(60_000L, 60),
+    HOUR(3_600_000L, 24);
+
+    private final long bucketMillis;
+    private final int retainedBuckets;
+
+    OccupancyGranularity(long bucketMillis, int retainedBuckets) {
+        this.bucketMillis = bucketMillis;
+        this.retainedBuckets = retainedBuckets;
+    }
+
+    public long bucketMillis() {
+        return bucketMillis;
+    }
+
+    public int retainedBuckets() {
+        return retainedBuckets;
+    }
+}
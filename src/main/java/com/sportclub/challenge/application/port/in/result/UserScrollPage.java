@@ -0,0 +1,13 @@
+package com.sportclub.challenge.application.port.in.result;
+
+import com.sportclub.challenge.domain.model.user.User;
+
+import java.util.List;
+
+/** One page of a keyset scroll; {@code nextCursor} is {@code null} on the last page. */
+public record UserScrollPage(List<User> content, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.sportclub.challenge.application.port.out.cache;
+
+import java.util.Collection;
+
+public interface CacheWarmupPort {
+
+    /** Schedules a warm-up of the user and branch caches in the background and returns at once. */
+    void warmUp();
+
+    /**
+     * Tells a running warm-up that these keys of the given cache changed in the database, so it
+     * does not cache a value it may have read before the change. Call before refreshing the keys.
+     */
+    void keysChanged(String cacheName, Collection<String> keys);
+
+    /** Tells a running warm-up that the caches are about to be cleared; it stops filling them. */
+    void cachesCleared();
+
+    CacheWarmupStatus status();
+}
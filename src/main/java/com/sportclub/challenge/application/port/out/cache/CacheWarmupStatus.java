@@ -0,0 +1,34 @@
+package com.sportclub.challenge.application.port.out.cache;
+
+import java.time.Instant;
+
+/**
+ * Outcome of the latest cache warm-up. {@code completedAt} stays set while a later warm-up is
+ * running, so {@link #warmedOnce()} only flips once, after the first run.
+ */
+public record CacheWarmupStatus(
+        State state,
+        int warmedUsers,
+        int warmedBranches,
+        boolean prioritizedByHistory,
+        Instant completedAt,
+        long durationMs
+) {
+
+    public enum State {
+        PENDING, RUNNING, WARM, FAILED
+    }
+
+    public static CacheWarmupStatus pending() {
+        return new CacheWarmupStatus(State.PENDING, 0, 0, false, null, 0L);
+    }
+
+    public CacheWarmupStatus running() {
+        return new CacheWarmupStatus(State.RUNNING, warmedUsers, warmedBranches, prioritizedByHistory, completedAt, durationMs);
+    }
+
+    /** Whether a warm-up has finished at least once, successfully or not. */
+    public boolean warmedOnce() {
+        return completedAt != null;
+    }
+}
@@ -0,0 +1,13 @@
+package com.sportclub.challenge.application.port.out.event;
+
+import com.sportclub.challenge.application.port.in.result.AccessOutcome;
+
+public interface AccessEventPort {
+
+    /**
+     * Records one access decision without blocking the caller. Returns {@code false} when the
+     * event had to be dropped because the stream is saturated. {@code branchId} may be
+     * {@code null} when the member's branch is unknown.
+     */
+    boolean publish(String dni, String branchId, AccessOutcome outcome, long occurredAtMillis, long latencyNanos);
+}
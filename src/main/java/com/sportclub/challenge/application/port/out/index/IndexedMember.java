@@ -0,0 +1,11 @@
+package com.sportclub.challenge.application.port.out.index;
+
+import com.sportclub.challenge.domain.model.branch.Branch;
+import com.sportclub.challenge.domain.model.user.UserState;
+
+/**
+ * State and branch of an indexed member, both taken from the same index snapshot. {@code branch}
+ * is {@code null} when the member has none.
+ */
+public record IndexedMember(UserState state, Branch branch) {
+}
@@ -0,0 +1,19 @@
+package com.sportclub.challenge.application.port.out.index;
+
+public interface KnownDniFilterPort {
+
+    /**
+     * {@code false} means no member has this DNI and the repository need not be asked;
+     * {@code true} means the DNI is probably known.
+     */
+    boolean mightContain(String dni);
+
+    /** Registers a DNI that was just saved, so it passes the filter before the next rebuild. */
+    void add(String dni);
+
+    /** Counts a DNI that passed the filter but was not found in the repository. */
+    void recordFalsePositive();
+
+    /** Reloads the filter from the target database. */
+    void rebuild();
+}
@@ -0,0 +1,13 @@
+package com.sportclub.challenge.application.port.out.index;
+
+public interface UserAccessIndexPort {
+
+    /** Whether lookups can be served from the index; when {@code false} callers must use the repository. */
+    boolean isAvailable();
+
+    /** State and branch of the member with the given DNI, or {@code null} when the DNI is not indexed. */
+    IndexedMember find(long dni);
+
+    /** Reloads the index from the target database. */
+    void rebuild();
+}
@@ -0,0 +1,15 @@
+package com.sportclub.challenge.application.port.out.occupancy;
+
+import com.sportclub.challenge.application.port.in.result.BranchOccupancy;
+import com.sportclub.challenge.application.port.in.result.OccupancyGranularity;
+
+import java.util.List;
+
+public interface OccupancyCounterPort {
+
+    /** Counts one granted entry into the branch. Called on the access path, so it must not block. */
+    void recordEntry(String branchId, long occurredAtMillis);
+
+    /** Entries per branch in the buckets ending at {@code nowMillis}, sorted by branch ID. */
+    List<BranchOccupancy> snapshot(OccupancyGranularity granularity, long nowMillis);
+}
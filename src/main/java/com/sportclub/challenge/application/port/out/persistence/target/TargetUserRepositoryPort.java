@@ -1,9 +1,12 @@
 package com.sportclub.challenge.application.port.out.persistence.target;
 
 import com.sportclub.challenge.domain.model.user.User;
+import com.sportclub.challenge.domain.model.user.UserScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -16,8 +19,21 @@ public interface TargetUserRepositoryPort {
 
     Optional<User> findByDni(String dni);
 
+    /** Users with any of the given DNIs; DNIs without a user are simply absent from the result. */
+    List<User> findAllByDni(Collection<String> dnis);
+
+    /** A page with its totals; the total count is cached until the next save or migration run. */
     Page<User> findAll(Pageable pageable);
 
+    /** A page without totals: only tells whether another page follows, and never counts the users. */
+    Slice<User> findSlice(Pageable pageable);
+
+    /**
+     * Up to {@code limit} users following {@code position} in its order, branch included. Seeks on
+     * the sort key and ID instead of skipping rows, so every page costs the same.
+     */
+    List<User> findAllAfter(UserScrollPosition position, int limit);
+
     List<User> findAll();
 
     Map<String, User> findAllAsMap();
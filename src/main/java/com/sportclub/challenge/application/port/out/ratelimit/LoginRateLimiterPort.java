@@ -0,0 +1,12 @@
+package com.sportclub.challenge.application.port.out.ratelimit;
+
+public interface LoginRateLimiterPort {
+
+    /**
+     * Takes one login attempt from the buckets of the DNI and of the client address.
+     *
+     * @return {@code 0} when the attempt is allowed, otherwise the number of seconds until the
+     * next attempt would be
+     */
+    long tryAcquire(String dni, String clientAddress);
+}
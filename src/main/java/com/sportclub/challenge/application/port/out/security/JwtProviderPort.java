@@ -1,11 +1,22 @@
 package com.sportclub.challenge.application.port.out.security;
 
+import com.sportclub.challenge.domain.model.user.User;
+
 import java.util.Optional;
 
 public interface JwtProviderPort {
 
     String generateToken(String dni);
 
+    /** Issues a token that also carries the user's state and roles, enough to authenticate from claims alone. */
+    String generateToken(User user);
+
+    /**
+     * Verifies the token once and returns its claims, or empty when it is missing, malformed,
+     * badly signed or expired.
+     */
+    Optional<VerifiedToken> verify(String token);
+
     boolean validateToken(String token);
 
     Optional<String> getDniFromToken(String token);
@@ -0,0 +1,15 @@
+package com.sportclub.challenge.application.port.out.security;
+
+import com.sportclub.challenge.domain.model.user.UserState;
+
+public interface UserDenylistPort {
+
+    /** Whether the member with this DNI is currently DENIED and must not be authenticated from token claims. */
+    boolean isDenied(String dni);
+
+    /** Records the state a member was saved with; called once the save has committed. */
+    void update(String dni, UserState state);
+
+    /** Reloads the DENIED members from the target database. */
+    void rebuild();
+}
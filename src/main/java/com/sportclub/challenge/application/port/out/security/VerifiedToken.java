@@ -0,0 +1,22 @@
+package com.sportclub.challenge.application.port.out.security;
+
+import com.sportclub.challenge.domain.model.user.UserState;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Claims of a token whose signature and expiry have already been checked. {@code state} is
+ * {@code null} and {@code roles} empty for tokens issued without user claims.
+ */
+public record VerifiedToken(
+        String subject,
+        Instant issuedAt,
+        Instant expiresAt,
+        UserState state,
+        List<String> roles
+) {
+    public boolean hasUserClaims() {
+        return state != null;
+    }
+}
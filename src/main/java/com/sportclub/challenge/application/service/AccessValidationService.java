@@ -4,56 +4,197 @@ import com.sportclub.challenge.application.exception.SportClubAccessDeniedExcept
 import com.sportclub.challenge.application.exception.InvalidDniFormatException;
 import com.sportclub.challenge.application.exception.UserNotFoundException;
 import com.sportclub.challenge.application.port.in.ValidateAccessUseCase;
+import com.sportclub.challenge.application.port.in.result.AccessDecision;
+import com.sportclub.challenge.application.port.in.result.AccessOutcome;
+import com.sportclub.challenge.application.port.in.result.AccessValidationResult;
+import com.sportclub.challenge.application.port.out.event.AccessEventPort;
+import com.sportclub.challenge.application.port.out.index.KnownDniFilterPort;
+import com.sportclub.challenge.application.port.out.index.IndexedMember;
+import com.sportclub.challenge.application.port.out.index.UserAccessIndexPort;
 import com.sportclub.challenge.application.port.out.log.LoggingPort;
+import com.sportclub.challenge.application.port.out.occupancy.OccupancyCounterPort;
 import com.sportclub.challenge.application.port.out.persistence.target.TargetUserRepositoryPort;
+import com.sportclub.challenge.domain.model.branch.Branch;
 import com.sportclub.challenge.domain.model.user.User;
 import com.sportclub.challenge.domain.model.user.UserState;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class AccessValidationService implements ValidateAccessUseCase {
 
     private final TargetUserRepositoryPort targetUserRepositoryPort;
+    private final UserAccessIndexPort userAccessIndexPort;
+    private final KnownDniFilterPort knownDniFilterPort;
+    private final AccessEventPort accessEventPort;
+    private final OccupancyCounterPort occupancyCounterPort;
     private final LoggingPort logger;
-    private static final Pattern DNI_PATTERN = Pattern.compile("^\\d{7,9}$");
 
     @Override
-    @Transactional(value = "targetTransactionManager", readOnly = true)
     public User validateAccessByDni(String dni) {
         logger.info("Attempting access validation for DNI: {}", dni);
 
-        if (dni == null || !DNI_PATTERN.matcher(dni).matches()) {
-            String message = "Invalid DNI format provided: " + dni;
-            logger.warn(message);
-            throw new InvalidDniFormatException(message);
+        return switch (decideAndRecord(dni)) {
+            case AccessDecision.Granted granted -> {
+                logger.info("Access granted for user with DNI: {}. State: {}", dni, granted.state());
+                yield User.builder()
+                        .dni(granted.dni())
+                        .state(granted.state())
+                        .branch(granted.branch())
+                        .build();
+            }
+            case AccessDecision.Denied denied -> {
+                String message = denied.message();
+                logger.warn(message);
+                throw new SportClubAccessDeniedException(message);
+            }
+            case AccessDecision.Unknown unknown -> {
+                String message = unknown.message();
+                logger.warn(message);
+                throw new UserNotFoundException(message);
+            }
+            case AccessDecision.Invalid invalid -> {
+                String message = invalid.message();
+                logger.warn(message);
+                throw new InvalidDniFormatException(message);
+            }
+        };
+    }
+
+    /**
+     * Exception-free variant for the hot path: no message is built and nothing is logged, so a
+     * decision served by the access index allocates only the returned decision.
+     */
+    @Override
+    public AccessDecision decideAccess(String dni) {
+        return decideAndRecord(dni);
+    }
+
+    /**
+     * Resolves all DNIs at once: from the access index when it is loaded, otherwise with a single
+     * repository call for the distinct well-formed DNIs that pass the known-DNI filter. Every
+     * entry is then recorded like a single check, with the member's branch; its latency is its
+     * share of the bulk lookup plus its own decision.
+     */
+    @Override
+    public List<AccessValidationResult> validateAccessBatch(List<String> dnis) {
+        logger.info("Attempting batch access validation for {} DNIs", dnis.size());
+        final long startedAt = System.nanoTime();
+        final Map<String, IndexedMember> members = findMembers(dnis);
+        final long lookupNanosPerDni = (System.nanoTime() - startedAt) / Math.max(1, dnis.size());
+        final List<AccessValidationResult> results = new ArrayList<>(dnis.size());
+        for (String dni : dnis) {
+            final long entryStartedAt = System.nanoTime() - lookupNanosPerDni;
+            final IndexedMember member = members.get(dni);
+            final AccessOutcome outcome = outcomeOf(dni, member);
+            record(dni, member != null ? member.branch() : null, outcome, entryStartedAt);
+            results.add(new AccessValidationResult(dni, outcome));
+        }
+        return results;
+    }
+
+    private Map<String, IndexedMember> findMembers(List<String> dnis) {
+        final Set<String> candidates = new LinkedHashSet<>();
+        for (String dni : dnis) {
+            if (DniFormat.isValid(dni)) {
+                candidates.add(dni);
+            }
+        }
+        final Map<String, IndexedMember> members = new HashMap<>(candidates.size() * 2);
+        if (userAccessIndexPort.isAvailable()) {
+            for (String dni : candidates) {
+                final IndexedMember member = userAccessIndexPort.find(Long.parseLong(dni));
+                if (member != null) {
+                    members.put(dni, member);
+                }
+            }
+            return members;
+        }
+        candidates.removeIf(dni -> !knownDniFilterPort.mightContain(dni));
+        if (!candidates.isEmpty()) {
+            for (User user : targetUserRepositoryPort.findAllByDni(candidates)) {
+                members.put(user.dni(), new IndexedMember(user.state(), user.branch()));
+            }
+        }
+        return members;
+    }
+
+    private static AccessOutcome outcomeOf(String dni, IndexedMember member) {
+        if (!DniFormat.isValid(dni)) {
+            return AccessOutcome.INVALID;
+        }
+        if (member == null) {
+            return AccessOutcome.NOT_FOUND;
         }
+        return UserState.AUTHORIZED.equals(member.state()) ? AccessOutcome.GRANTED : AccessOutcome.DENIED;
+    }
 
-        final User user = targetUserRepositoryPort.findByDni(dni)
-                .orElseThrow(() -> {
-                    String message = "User with DNI " + dni + " not found.";
-                    logger.warn(message);
-                    return new UserNotFoundException(message);
-                });
+    private AccessDecision decideAndRecord(String dni) {
+        final long startedAt = System.nanoTime();
+        final AccessDecision decision = decide(dni);
+        record(dni, branchOf(decision), decision.outcome(), startedAt);
+        return decision;
+    }
 
-        if (UserState.DENIED.equals(user.state())) {
-            String message = "Access denied for user with DNI " + dni + ". User state is DENIED.";
-            logger.warn(message);
-            throw new SportClubAccessDeniedException(message);
+    /**
+     * Counts a granted entry towards the member's branch occupancy and hands the decision to the
+     * access event stream; neither step blocks.
+     */
+    private void record(String dni, Branch branch, AccessOutcome outcome, long startedAt) {
+        final long occurredAtMillis = System.currentTimeMillis();
+        final String branchId = branch != null ? branch.id() : null;
+        if (branchId != null && outcome == AccessOutcome.GRANTED) {
+            occupancyCounterPort.recordEntry(branchId, occurredAtMillis);
         }
+        accessEventPort.publish(dni, branchId, outcome, occurredAtMillis, System.nanoTime() - startedAt);
+    }
 
-        if (UserState.AUTHORIZED.equals(user.state())) {
-            logger.info("Access granted for user with DNI: {}. State: {}", dni, user.state());
-            return user;
-        } else {
-            String message = "Access denied for user with DNI " + dni + ". Unknown or unsupported state: " + user.state();
-            logger.error(message);
-            throw new SportClubAccessDeniedException(message);
+    private static Branch branchOf(AccessDecision decision) {
+        return switch (decision) {
+            case AccessDecision.Granted granted -> granted.branch();
+            case AccessDecision.Denied denied -> denied.branch();
+            case AccessDecision.Unknown unknown -> null;
+            case AccessDecision.Invalid invalid -> null;
+        };
+    }
+
+    /**
+     * Resolves the member from the access index when it is loaded, otherwise from the repository
+     * unless the known-DNI filter rules the DNI out.
+     */
+    private AccessDecision decide(String dni) {
+        final long key = DniFormat.parse(dni);
+        if (key == DniFormat.INVALID) {
+            return new AccessDecision.Invalid(dni);
+        }
+        if (userAccessIndexPort.isAvailable()) {
+            final IndexedMember member = userAccessIndexPort.find(key);
+            if (member == null) {
+                return new AccessDecision.Unknown(dni);
+            }
+            if (member.state() != UserState.AUTHORIZED) {
+                return new AccessDecision.Denied(dni, member.branch());
+            }
+            return new AccessDecision.Granted(dni, member.state(), member.branch());
         }
+        if (!knownDniFilterPort.mightContain(dni)) {
+            return new AccessDecision.Unknown(dni);
+        }
+        final User user = targetUserRepositoryPort.findByDni(dni).orElse(null);
+        if (user == null) {
+            knownDniFilterPort.recordFalsePositive();
+            return new AccessDecision.Unknown(dni);
+        }
+        return user.state() == UserState.AUTHORIZED
+                ? new AccessDecision.Granted(dni, user.state(), user.branch())
+                : new AccessDecision.Denied(dni, user.branch());
     }
 }
-
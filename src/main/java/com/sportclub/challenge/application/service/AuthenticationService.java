@@ -2,16 +2,18 @@ package com.sportclub.challenge.application.service;
 
 import com.sportclub.challenge.application.exception.AccountStatusException;
 import com.sportclub.challenge.application.exception.AuthenticationFailedException;
+import com.sportclub.challenge.application.exception.TooManyLoginAttemptsException;
 import com.sportclub.challenge.application.port.in.LoginUseCase;
 import com.sportclub.challenge.application.port.in.command.LoginCommand;
+import com.sportclub.challenge.application.port.out.index.KnownDniFilterPort;
 import com.sportclub.challenge.application.port.out.log.LoggingPort;
 import com.sportclub.challenge.application.port.out.persistence.target.TargetUserRepositoryPort;
+import com.sportclub.challenge.application.port.out.ratelimit.LoginRateLimiterPort;
 import com.sportclub.challenge.application.port.out.security.JwtProviderPort;
 import com.sportclub.challenge.domain.model.user.User;
 import com.sportclub.challenge.domain.model.user.UserState;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -19,29 +21,45 @@ public class AuthenticationService implements LoginUseCase {
 
     private final TargetUserRepositoryPort userRepositoryPort;
     private final JwtProviderPort jwtProviderPort;
+    private final KnownDniFilterPort knownDniFilterPort;
+    private final LoginRateLimiterPort loginRateLimiterPort;
     private final LoggingPort logger;
 
     @Override
-    @Transactional(value = "targetTransactionManager", readOnly = true)
     public String login(LoginCommand command) {
         final String dni = command.dni();
-        logger.info("Login attempt for DNI: {}", dni);
+        logger.info("Login attempt for DNI: {}", User.maskDni(dni));
 
+        final long retryAfterSeconds = loginRateLimiterPort.tryAcquire(dni, command.clientAddress());
+        if (retryAfterSeconds > 0) {
+            final String message = "Too many login attempts for DNI " + User.maskDni(dni) + ". Retry in " + retryAfterSeconds + " s.";
+            logger.warn(message);
+            throw new TooManyLoginAttemptsException(message, retryAfterSeconds);
+        }
+
+        if (!knownDniFilterPort.mightContain(dni)) {
+            throw invalidCredentials(dni);
+        }
         final User user = userRepositoryPort.findByDni(dni)
                 .orElseThrow(() -> {
-                    final String message = "Authentication failed: Invalid credentials for DNI: " + dni;
-                    logger.warn(message);
-                    return new AuthenticationFailedException(message);
+                    knownDniFilterPort.recordFalsePositive();
+                    return invalidCredentials(dni);
                 });
 
         if (UserState.DENIED.equals(user.state())) {
-            final String message = "Authentication failed: User account with DNI " + dni + " is denied access.";
+            final String message = "Authentication failed: User account with DNI " + User.maskDni(dni) + " is denied access.";
             logger.warn(message);
             throw new AccountStatusException(message);
         }
 
-        final String token = jwtProviderPort.generateToken(user.dni());
-        logger.info("Login successful for DNI: {}. Token generated.", dni);
+        final String token = jwtProviderPort.generateToken(user);
+        logger.info("Login successful for DNI: {}. Token generated.", User.maskDni(dni));
         return token;
     }
+
+    private AuthenticationFailedException invalidCredentials(String dni) {
+        final String message = "Authentication failed: Invalid credentials for DNI: " + User.maskDni(dni);
+        logger.warn(message);
+        return new AuthenticationFailedException(message);
+    }
 }
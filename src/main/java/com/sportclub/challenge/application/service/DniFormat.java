@@ -0,0 +1,40 @@
+package com.sportclub.challenge.application.service;
+
+/**
+ * Regex-free DNI syntax check: 7 to 9 ASCII digits. {@link #parse} validates and converts in the
+ * same pass over the characters, so a malformed DNI costs neither a {@code Matcher} nor a
+ * {@code NumberFormatException}.
+ */
+final class DniFormat {
+
+    static final long INVALID = -1L;
+    private static final int MIN_LENGTH = 7;
+    private static final int MAX_LENGTH = 9;
+
+    private DniFormat() {
+    }
+
+    /** Numeric value of the DNI, or {@link #INVALID} when it is {@code null} or malformed. */
+    static long parse(String dni) {
+        if (dni == null) {
+            return INVALID;
+        }
+        final int length = dni.length();
+        if (length < MIN_LENGTH || length > MAX_LENGTH) {
+            return INVALID;
+        }
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = dni.charAt(i);
+            if (c < '0' || c > '9') {
+                return INVALID;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    static boolean isValid(String dni) {
+        return parse(dni) != INVALID;
+    }
+}
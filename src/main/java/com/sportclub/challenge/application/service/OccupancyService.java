@@ -0,0 +1,25 @@
+package com.sportclub.challenge.application.service;
+
+import com.sportclub.challenge.application.port.in.GetOccupancyUseCase;
+import com.sportclub.challenge.application.port.in.result.BranchOccupancy;
+import com.sportclub.challenge.application.port.in.result.OccupancyGranularity;
+import com.sportclub.challenge.application.port.out.log.LoggingPort;
+import com.sportclub.challenge.application.port.out.occupancy.OccupancyCounterPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class OccupancyService implements GetOccupancyUseCase {
+
+    private final OccupancyCounterPort occupancyCounterPort;
+    private final LoggingPort logger;
+
+    @Override
+    public List<BranchOccupancy> getOccupancy(OccupancyGranularity granularity) {
+        logger.debug("Fetching branch occupancy per {}", granularity);
+        return occupancyCounterPort.snapshot(granularity, System.currentTimeMillis());
+    }
+}
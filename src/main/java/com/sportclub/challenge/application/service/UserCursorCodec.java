@@ -0,0 +1,64 @@
+package com.sportclub.challenge.application.service;
+
+import com.sportclub.challenge.application.exception.InvalidScrollRequestException;
+import com.sportclub.challenge.domain.model.user.UserScrollPosition;
+import com.sportclub.challenge.domain.model.user.UserSortKey;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Turns a {@link UserScrollPosition} into an opaque URL-safe token and back. The token carries the
+ * sort key, the direction, and the sort value and ID of the last user handed out.
+ */
+final class UserCursorCodec {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "\u001F";
+    private static final String ASCENDING = "A";
+    private static final String DESCENDING = "D";
+
+    private UserCursorCodec() {
+    }
+
+    static String encode(UserScrollPosition position) {
+        final String raw = String.join(SEPARATOR,
+                VERSION,
+                position.sortKey().name(),
+                position.ascending() ? ASCENDING : DESCENDING,
+                position.lastId(),
+                position.lastSortValue());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static UserScrollPosition decode(String cursor) {
+        final String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(SEPARATOR, -1);
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+        if (parts.length != 5 || !VERSION.equals(parts[0]) || parts[3].isEmpty()) {
+            throw invalid();
+        }
+        final UserSortKey sortKey;
+        try {
+            sortKey = UserSortKey.valueOf(parts[1]);
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+        final boolean ascending;
+        if (ASCENDING.equals(parts[2])) {
+            ascending = true;
+        } else if (DESCENDING.equals(parts[2])) {
+            ascending = false;
+        } else {
+            throw invalid();
+        }
+        return new UserScrollPosition(sortKey, ascending, parts[4], parts[3]);
+    }
+
+    private static InvalidScrollRequestException invalid() {
+        return new InvalidScrollRequestException("Invalid pagination cursor.");
+    }
+}
@@ -1,15 +1,21 @@
 package com.sportclub.challenge.application.service;
 
 import com.sportclub.challenge.application.port.in.PaginateUsersUseCase;
+import com.sportclub.challenge.application.port.in.result.UserScrollPage;
 import com.sportclub.challenge.application.port.out.log.LoggingPort;
 import com.sportclub.challenge.application.port.out.persistence.target.TargetUserRepositoryPort;
 import com.sportclub.challenge.domain.model.user.User;
+import com.sportclub.challenge.domain.model.user.UserScrollPosition;
+import com.sportclub.challenge.domain.model.user.UserSortKey;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class UserPaginationService implements PaginateUsersUseCase {
@@ -30,4 +36,35 @@ public class UserPaginationService implements PaginateUsersUseCase {
                 userPage.getTotalElements());
         return userPage;
     }
+
+    @Override
+    @Transactional(value = "targetTransactionManager", readOnly = true)
+    public Slice<User> findUsersSlice(Pageable pageable) {
+        logger.info("Fetching users without totals: page={}, size={}, sort={}",
+                pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+        final Slice<User> userSlice = targetUserRepositoryPort.findSlice(pageable);
+        logger.info("Found {} users on page {} (has next: {})",
+                userSlice.getNumberOfElements(),
+                userSlice.getNumber(),
+                userSlice.hasNext());
+        return userSlice;
+    }
+
+    @Override
+    @Transactional(value = "targetTransactionManager", readOnly = true)
+    public UserScrollPage scrollUsers(String cursor, UserSortKey sortKey, boolean ascending, int size) {
+        final UserScrollPosition position = cursor == null || cursor.isBlank()
+                ? UserScrollPosition.start(sortKey, ascending)
+                : UserCursorCodec.decode(cursor);
+        logger.info("Scrolling users: sort={}, ascending={}, size={}, fromStart={}",
+                position.sortKey(), position.ascending(), size, position.isStart());
+        final List<User> fetched = targetUserRepositoryPort.findAllAfter(position, size + 1);
+        if (fetched.size() <= size) {
+            logger.info("Found {} users on the last scroll page", fetched.size());
+            return new UserScrollPage(fetched, null);
+        }
+        final List<User> content = List.copyOf(fetched.subList(0, size));
+        logger.info("Found {} users, more available", content.size());
+        return new UserScrollPage(content, UserCursorCodec.encode(position.after(content.getLast())));
+    }
 }
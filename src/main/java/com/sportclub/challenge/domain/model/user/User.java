@@ -14,6 +14,14 @@ public record User(
         UserState state,
         Branch branch
 ) {
+    /** Keeps only the leading digits of a DNI, for log lines and error messages. */
+    public static String maskDni(String dni) {
+        if (dni == null || dni.length() <= 4) {
+            return "****";
+        }
+        return dni.substring(0, dni.length() - 4) + "****";
+    }
+
     public boolean isAuthorized() {
         return UserState.AUTHORIZED.equals(this.state);
     }
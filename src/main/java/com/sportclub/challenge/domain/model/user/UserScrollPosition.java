@@ -0,0 +1,25 @@
+package com.sportclub.challenge.domain.model.user;
+
+/**
+ * Where a keyset scroll continues: right after the user with {@code lastId} whose sort key is
+ * {@code lastSortValue}. Both are {@code null} for the first page.
+ */
+public record UserScrollPosition(
+        UserSortKey sortKey,
+        boolean ascending,
+        String lastSortValue,
+        String lastId
+) {
+
+    public static UserScrollPosition start(UserSortKey sortKey, boolean ascending) {
+        return new UserScrollPosition(sortKey, ascending, null, null);
+    }
+
+    public boolean isStart() {
+        return lastId == null;
+    }
+
+    public UserScrollPosition after(User user) {
+        return new UserScrollPosition(sortKey, ascending, sortKey.valueOf(user), user.id());
+    }
+}
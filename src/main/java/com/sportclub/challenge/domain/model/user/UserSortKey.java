@@ -0,0 +1,38 @@
+package com.sportclub.challenge.domain.model.user;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Sort keys supported by keyset scrolling. Only non-null columns qualify, and ties are broken by
+ * the user ID, so every key gives a total order.
+ */
+public enum UserSortKey {
+    ID("id", User::id),
+    FIRST_NAME("firstName", User::firstName),
+    LAST_NAME("lastName", User::lastName),
+    DNI("dni", User::dni);
+
+    private final String property;
+    private final Function<User, String> extractor;
+
+    UserSortKey(String property, Function<User, String> extractor) {
+        this.property = property;
+        this.extractor = extractor;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    public String valueOf(User user) {
+        return extractor.apply(user);
+    }
+
+    public static Optional<UserSortKey> fromProperty(String property) {
+        return Arrays.stream(values())
+                .filter(key -> key.property.equals(property))
+                .findFirst();
+    }
+}
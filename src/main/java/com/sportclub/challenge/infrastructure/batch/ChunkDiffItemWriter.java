@@ -0,0 +1,156 @@
+package com.sportclub.challenge.infrastructure.batch;
+
+import com.sportclub.challenge.application.port.out.log.LoggingPort;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemWriter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Classifies a whole chunk into CREATE / UPDATE / IDENTICAL against the content hashes of the
+ * target rows, loaded with a single {@code id, hash} query, and hands only the CREATE and UPDATE
+ * items to the delegate writer. Target rows without a stored hash are treated as UPDATE, which
+ * backfills the hash. Totals and the counts of the last chunk are kept in the step
+ * {@link ExecutionContext}; they are only added in {@link #afterChunk} once the chunk has committed,
+ * so a rolled-back chunk, a retry or the item-by-item scan after a skip is counted once. The writer
+ * is registered as a chunk listener of the step that uses it, and partitions share it, so the
+ * counts of the running chunk are held per thread. An optional {@link ChangeRecorder} sees the CREATE and UPDATE items
+ * right before they are written, while the target still holds the previous values.
+ */
+public class ChunkDiffItemWriter<T> implements ItemWriter<T>, ChunkListener {
+
+    public static final String CREATED_COUNT_KEY = "diff.created";
+    public static final String UPDATED_COUNT_KEY = "diff.updated";
+    public static final String IDENTICAL_COUNT_KEY = "diff.identical";
+    public static final String LAST_CHUNK_PREFIX = "diff.lastChunk.";
+
+    private final String itemType;
+    private final Function<T, String> idExtractor;
+    private final ToLongFunction<T> contentHash;
+    private final Function<Collection<String>, Map<String, Long>> existingHashesLoader;
+    private final ItemWriter<T> delegate;
+    private final ChangeRecorder<T> changeRecorder;
+    private final LoggingPort logger;
+    private final ThreadLocal<PendingCounts> pendingCounts = new ThreadLocal<>();
+
+    public ChunkDiffItemWriter(
+            String itemType,
+            Function<T, String> idExtractor,
+            ToLongFunction<T> contentHash,
+            Function<Collection<String>, Map<String, Long>> existingHashesLoader,
+            ItemWriter<T> delegate,
+            LoggingPort logger
+    ) {
+        this(itemType, idExtractor, contentHash, existingHashesLoader, delegate, (created, updated) -> {
+        }, logger);
+    }
+
+    public ChunkDiffItemWriter(
+            String itemType,
+            Function<T, String> idExtractor,
+            ToLongFunction<T> contentHash,
+            Function<Collection<String>, Map<String, Long>> existingHashesLoader,
+            ItemWriter<T> delegate,
+            ChangeRecorder<T> changeRecorder,
+            LoggingPort logger
+    ) {
+        this.itemType = itemType;
+        this.idExtractor = idExtractor;
+        this.contentHash = contentHash;
+        this.existingHashesLoader = existingHashesLoader;
+        this.delegate = delegate;
+        this.changeRecorder = changeRecorder;
+        this.logger = logger;
+    }
+
+    @Override
+    public void write(Chunk<? extends T> chunk) throws Exception {
+        final List<String> ids = new ArrayList<>(chunk.size());
+        for (T item : chunk) {
+            ids.add(idExtractor.apply(item));
+        }
+        final Map<String, Long> existingHashes = existingHashesLoader.apply(ids);
+
+        final List<T> toWrite = new ArrayList<>(chunk.size());
+        final List<T> created = new ArrayList<>();
+        final List<T> updated = new ArrayList<>();
+        int identical = 0;
+        for (T item : chunk) {
+            final String id = idExtractor.apply(item);
+            if (!existingHashes.containsKey(id)) {
+                logger.debug("{} ID '{}'. Action: CREATE.", itemType, id);
+                toWrite.add(item);
+                created.add(item);
+            } else if (!Objects.equals(existingHashes.get(id), contentHash.applyAsLong(item))) {
+                logger.debug("{} ID '{}'. Action: UPDATE.", itemType, id);
+                toWrite.add(item);
+                updated.add(item);
+            } else {
+                logger.trace("{} ID '{}'. Action: IDENTICAL. Skipping write.", itemType, id);
+                identical++;
+            }
+        }
+        if (!toWrite.isEmpty()) {
+            changeRecorder.record(created, updated);
+            delegate.write(new Chunk<>(toWrite));
+        }
+        PendingCounts counts = pendingCounts.get();
+        if (counts == null) {
+            counts = new PendingCounts();
+            pendingCounts.set(counts);
+        }
+        counts.created += created.size();
+        counts.updated += updated.size();
+        counts.identical += identical;
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        pendingCounts.remove();
+    }
+
+    @Override
+    public void afterChunk(ChunkContext chunkContext) {
+        final PendingCounts counts = pendingCounts.get();
+        pendingCounts.remove();
+        if (counts == null) {
+            return;
+        }
+        final StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
+        final ExecutionContext context = stepExecution.getExecutionContext();
+        context.putLong(CREATED_COUNT_KEY, context.getLong(CREATED_COUNT_KEY, 0L) + counts.created);
+        context.putLong(UPDATED_COUNT_KEY, context.getLong(UPDATED_COUNT_KEY, 0L) + counts.updated);
+        context.putLong(IDENTICAL_COUNT_KEY, context.getLong(IDENTICAL_COUNT_KEY, 0L) + counts.identical);
+        context.putLong(LAST_CHUNK_PREFIX + "created", counts.created);
+        context.putLong(LAST_CHUNK_PREFIX + "updated", counts.updated);
+        context.putLong(LAST_CHUNK_PREFIX + "identical", counts.identical);
+        logger.debug("Step '{}' chunk diff: created={}, updated={}, identical={}",
+                stepExecution.getStepName(), counts.created, counts.updated, counts.identical);
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        pendingCounts.remove();
+    }
+
+    private static final class PendingCounts {
+        private long created;
+        private long updated;
+        private long identical;
+    }
+
+    @FunctionalInterface
+    public interface ChangeRecorder<T> {
+        void record(List<T> created, List<T> updated);
+    }
+}
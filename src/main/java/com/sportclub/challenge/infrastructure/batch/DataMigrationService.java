@@ -1,13 +1,17 @@
 package com.sportclub.challenge.infrastructure.batch;
 
+import com.sportclub.challenge.application.exception.MigrationConflictException;
+import com.sportclub.challenge.application.exception.MigrationExecutionNotFoundException;
 import com.sportclub.challenge.application.exception.MigrationFailedException;
 import com.sportclub.challenge.application.port.in.MigrateDataUseCase;
+import com.sportclub.challenge.application.port.in.command.MigrationMode;
 import com.sportclub.challenge.application.port.out.log.LoggingPort;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
 import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
@@ -19,27 +23,49 @@ import org.springframework.stereotype.Service;
 public class DataMigrationService implements MigrateDataUseCase {
 
     private final JobLauncher jobLauncher;
+    private final JobExplorer jobExplorer;
     private final LoggingPort logger;
     private final Job dataMigrationJob;
 
     public DataMigrationService(
-            JobLauncher jobLauncher, LoggingPort loggingPort,
+            @Qualifier("asyncMigrationJobLauncher") JobLauncher jobLauncher,
+            JobExplorer jobExplorer, LoggingPort loggingPort,
             @Qualifier("dataMigrationJob") Job job
     ) {
         this.jobLauncher = jobLauncher;
+        this.jobExplorer = jobExplorer;
         logger = loggingPort;
         dataMigrationJob = job;
     }
 
     @Override
-    public void migrateData() {
+    public long migrateData(MigrationMode mode) {
         logger.info("Attempting to launch data migration batch job '{}'...", dataMigrationJob.getName());
+        return launch(new JobParametersBuilder()
+                .addLong("run.timestamp", System.currentTimeMillis(), true)
+                .addString(MigrationWatermarkListener.MODE_PARAMETER, mode.name(), false)
+                .toJobParameters());
+    }
+
+    /**
+     * Relaunches the job instance of a failed or stopped execution with its original parameters.
+     * Spring Batch then skips the steps that already completed and every partition resumes from
+     * the reader position checkpointed with its last committed chunk.
+     */
+    @Override
+    public long resumeMigration(long executionId) {
+        final JobExecution previousExecution = jobExplorer.getJobExecution(executionId);
+        if (previousExecution == null
+                || !dataMigrationJob.getName().equals(previousExecution.getJobInstance().getJobName())) {
+            throw new MigrationExecutionNotFoundException("Migration execution with ID " + executionId + " not found.");
+        }
+        logger.info("Attempting to restart data migration batch job '{}' from Job Execution ID: {} (Status: {})...",
+                dataMigrationJob.getName(), executionId, previousExecution.getStatus());
+        return launch(previousExecution.getJobParameters());
+    }
 
-        JobParameters jobParameters = null;
+    private long launch(JobParameters jobParameters) {
         try {
-            jobParameters = new JobParametersBuilder()
-                    .addLong("run.timestamp", System.currentTimeMillis(), true)
-                    .toJobParameters();
             JobExecution jobExecution = jobLauncher.run(dataMigrationJob, jobParameters);
 
             logger.info("Data migration batch job '{}' launched. Job Execution ID: {}, Job Parameters: [{}], Initial Status: {}",
@@ -47,18 +73,18 @@ public class DataMigrationService implements MigrateDataUseCase {
                     jobExecution.getId(),
                     jobParameters,
                     jobExecution.getStatus());
-
+            return jobExecution.getId();
         } catch (JobExecutionAlreadyRunningException e) {
-            logger.error("Failed to launch data migration job: Job execution is already running.", e);
-            throw new MigrationFailedException("Migration job is already running: " + e.getMessage(), e);
+            logger.warn("Failed to launch data migration job: Job execution is already running. Exception: {}", e.getMessage());
+            throw new MigrationConflictException("Migration job is already running: " + e.getMessage(), e);
         } catch (JobRestartException e) {
-            logger.error("Failed to launch data migration job: Job restart is not allowed or failed.", e);
-            throw new MigrationFailedException("Migration job restart failed: " + e.getMessage(), e);
+            logger.warn("Failed to launch data migration job: Job restart is not allowed. Exception: {}", e.getMessage());
+            throw new MigrationConflictException("Migration execution cannot be restarted: " + e.getMessage(), e);
         } catch (JobInstanceAlreadyCompleteException e) {
             logger.warn("Failed to launch data migration job: Job instance is already complete for parameters: {}. Exception: {}",
                     jobParameters,
                     e.getMessage());
-            throw new MigrationFailedException("Migration job instance already complete: " + e.getMessage(), e);
+            throw new MigrationConflictException("Migration job instance already complete: " + e.getMessage(), e);
         } catch (JobParametersInvalidException e) {
             logger.error("Failed to launch data migration job: Invalid job parameters.", e);
             throw new MigrationFailedException("Invalid parameters for migration job: " + e.getMessage(), e);
@@ -0,0 +1,93 @@
+package com.sportclub.challenge.infrastructure.batch;
+
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Writes a chunk with one batched upsert statement per {@code batchSize} rows instead of a
+ * {@code merge()} (SELECT + INSERT/UPDATE) per entity. The statement is chosen from the target
+ * database product: {@code MERGE INTO ... KEY (...)} for H2 and
+ * {@code INSERT ... ON CONFLICT (...) DO UPDATE} for PostgreSQL.
+ * <p>
+ * Runs on the JDBC connection bound to the step transaction, so it commits and rolls back
+ * together with the rest of the chunk.
+ */
+public class JdbcUpsertItemWriter<T> implements ItemWriter<T> {
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+    private final String keyColumn;
+    private final List<String> columns;
+    private final Function<T, Object[]> rowValues;
+    private final int batchSize;
+    private volatile String upsertSql;
+
+    public JdbcUpsertItemWriter(
+            DataSource dataSource,
+            String table,
+            String keyColumn,
+            List<String> columns,
+            Function<T, Object[]> rowValues,
+            int batchSize
+    ) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.table = table;
+        this.keyColumn = keyColumn;
+        this.columns = List.copyOf(columns);
+        this.rowValues = rowValues;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void write(Chunk<? extends T> chunk) throws MetaDataAccessException {
+        final List<Object[]> rows = new ArrayList<>(chunk.size());
+        for (T item : chunk) {
+            rows.add(rowValues.apply(item));
+        }
+        jdbcTemplate.batchUpdate(upsertSql(), rows, batchSize, (ps, values) -> {
+            for (int i = 0; i < values.length; i++) {
+                StatementCreatorUtils.setParameterValue(ps, i + 1, SqlTypeValue.TYPE_UNKNOWN, values[i]);
+            }
+        });
+    }
+
+    private String upsertSql() throws MetaDataAccessException {
+        String sql = upsertSql;
+        if (sql == null) {
+            sql = buildUpsertSql(JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName));
+            upsertSql = sql;
+        }
+        return sql;
+    }
+
+    private String buildUpsertSql(String databaseProductName) {
+        final String columnList = String.join(", ", columns);
+        final String placeholders = String.join(", ", Collections.nCopies(columns.size(), "?"));
+        return switch (databaseProductName) {
+            case "H2" -> "MERGE INTO %s (%s) KEY (%s) VALUES (%s)"
+                    .formatted(table, columnList, keyColumn, placeholders);
+            case "PostgreSQL" -> "INSERT INTO %s (%s) VALUES (%s) ON CONFLICT (%s) DO UPDATE SET %s"
+                    .formatted(table, columnList, placeholders, keyColumn, columns.stream()
+                            .filter(column -> !column.equals(keyColumn))
+                            .map(column -> column + " = EXCLUDED." + column)
+                            .collect(Collectors.joining(", ")));
+            default -> throw new IllegalStateException(
+                    "JDBC upsert is not supported for database '" + databaseProductName + "'. Use app.migration.writer=jpa.");
+        };
+    }
+}
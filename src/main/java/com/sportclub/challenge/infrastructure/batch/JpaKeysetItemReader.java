@@ -0,0 +1,126 @@
+package com.sportclub.challenge.infrastructure.batch;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Seek-based paging reader. Every page is fetched with {@code WHERE key > :lastKey ORDER BY key},
+ * so the cost of a page does not depend on how deep into the table it is. The query must bind
+ * {@code :lastKey} and order by the same key that {@code keyExtractor} returns.
+ * <p>
+ * The key of the last item handed out is saved in the {@link ExecutionContext}; a restarted step
+ * continues right after it instead of re-reading the skipped items.
+ */
+public class JpaKeysetItemReader<T> extends AbstractItemCountingItemStreamItemReader<T> {
+
+    public static final String LAST_KEY_PARAMETER = "lastKey";
+    private static final String LAST_KEY_CONTEXT_KEY = "last.key";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final String queryString;
+    private final Class<T> itemType;
+    private final Map<String, Object> parameterValues;
+    private final Function<T, String> keyExtractor;
+    private final String initialKey;
+    private final int pageSize;
+
+    private EntityManager entityManager;
+    private List<T> page = List.of();
+    private int pageIndex;
+    private boolean lastPageFetched;
+    private String lastReadKey;
+
+    public JpaKeysetItemReader(
+            String name,
+            EntityManagerFactory entityManagerFactory,
+            String queryString,
+            Class<T> itemType,
+            Map<String, Object> parameterValues,
+            Function<T, String> keyExtractor,
+            String initialKey,
+            int pageSize
+    ) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.queryString = queryString;
+        this.itemType = itemType;
+        this.parameterValues = parameterValues;
+        this.keyExtractor = keyExtractor;
+        this.initialKey = initialKey;
+        this.pageSize = pageSize;
+        setName(name);
+    }
+
+    @Override
+    protected void doOpen() {
+        entityManager = entityManagerFactory.createEntityManager();
+        page = List.of();
+        pageIndex = 0;
+        lastPageFetched = false;
+        lastReadKey = null;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        super.open(executionContext);
+        final String contextKey = getExecutionContextKey(LAST_KEY_CONTEXT_KEY);
+        if (isSaveState() && executionContext.containsKey(contextKey)) {
+            lastReadKey = executionContext.getString(contextKey);
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        super.update(executionContext);
+        if (isSaveState() && lastReadKey != null) {
+            executionContext.putString(getExecutionContextKey(LAST_KEY_CONTEXT_KEY), lastReadKey);
+        }
+    }
+
+    @Override
+    protected T doRead() {
+        if (pageIndex >= page.size()) {
+            if (lastPageFetched) {
+                return null;
+            }
+            fetchNextPage();
+            if (page.isEmpty()) {
+                return null;
+            }
+        }
+        final T item = page.get(pageIndex++);
+        lastReadKey = keyExtractor.apply(item);
+        return item;
+    }
+
+    @Override
+    protected void jumpToItem(int itemIndex) {
+        // The restored last key already positions the reader; nothing to skip.
+    }
+
+    @Override
+    protected void doClose() {
+        if (entityManager != null) {
+            entityManager.close();
+            entityManager = null;
+        }
+        page = List.of();
+    }
+
+    private void fetchNextPage() {
+        entityManager.clear();
+        final TypedQuery<T> query = entityManager.createQuery(queryString, itemType);
+        parameterValues.forEach(query::setParameter);
+        query.setParameter(LAST_KEY_PARAMETER, lastReadKey != null ? lastReadKey : initialKey);
+        query.setMaxResults(pageSize);
+        page = query.getResultList();
+        pageIndex = 0;
+        lastPageFetched = page.size() < pageSize;
+    }
+}
@@ -0,0 +1,50 @@
+package com.sportclub.challenge.infrastructure.batch;
+
+import com.sportclub.challenge.adapter.out.persistence.target.entity.TargetUserJpaEntity;
+import com.sportclub.challenge.application.port.out.index.KnownDniFilterPort;
+import com.sportclub.challenge.application.port.out.security.UserDenylistPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tells the in-memory member filters about the users a migration chunk created or updated, once the
+ * chunk has committed, the same way {@code TargetUserRepositoryAdapter.save} does for single saves.
+ * Without it a member inserted by a running migration would be rejected by the known-DNI filter,
+ * and a member the migration DENIED would still be authenticated from token claims, until the
+ * rebuilds at the end of the job. A chunk that rolls back notifies nothing.
+ */
+@Component
+@RequiredArgsConstructor
+public class MigratedMemberNotifier {
+
+    private final KnownDniFilterPort knownDniFilterPort;
+    private final UserDenylistPort userDenylistPort;
+
+    public void membersWritten(List<TargetUserJpaEntity> created, List<TargetUserJpaEntity> updated) {
+        final List<TargetUserJpaEntity> written = new ArrayList<>(created.size() + updated.size());
+        written.addAll(created);
+        written.addAll(updated);
+        afterCommit(() -> written.forEach(user -> {
+            knownDniFilterPort.add(user.getDni());
+            userDenylistPort.update(user.getDni(), user.getState());
+        }));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,108 @@
+package com.sportclub.challenge.infrastructure.batch;
+
+import com.sportclub.challenge.infrastructure.config.MigrationProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Collects, per job execution, the cache keys touched by the migration writers: ids and DNIs
+ * (old and new) of created or updated users and ids of created or updated branches. Recording
+ * happens before the chunk is written, so keys of a chunk that later rolls back are included too;
+ * evicting them is harmless. Once more than {@code app.migration.max-tracked-cache-keys} keys have
+ * been recorded the set is marked as overflowed and the caller should clear the caches instead.
+ */
+@Component
+@RequiredArgsConstructor
+public class MigrationChangeTracker {
+
+    private final MigrationProperties migrationProperties;
+    private final ConcurrentMap<Long, ChangeSet> changesByExecution = new ConcurrentHashMap<>();
+
+    public void recordUsers(Collection<String> userIds, Collection<String> dnis) {
+        final ChangeSet changes = currentChangeSet();
+        if (changes != null && !changes.overflowed) {
+            changes.userIds.addAll(userIds);
+            changes.dnis.addAll(dnis);
+            changes.checkOverflow(migrationProperties.maxTrackedCacheKeys());
+        }
+    }
+
+    public void recordBranches(Collection<String> createdIds, Collection<String> updatedIds) {
+        final ChangeSet changes = currentChangeSet();
+        if (changes != null && !changes.overflowed) {
+            changes.branchIds.addAll(createdIds);
+            changes.branchIds.addAll(updatedIds);
+            if (!updatedIds.isEmpty()) {
+                changes.branchesUpdated = true;
+            }
+            changes.checkOverflow(migrationProperties.maxTrackedCacheKeys());
+        }
+    }
+
+    /**
+     * Returns and forgets the changes recorded for the given job execution.
+     */
+    public ChangeSet drain(long jobExecutionId) {
+        final ChangeSet changes = changesByExecution.remove(jobExecutionId);
+        return changes != null ? changes : new ChangeSet();
+    }
+
+    private ChangeSet currentChangeSet() {
+        final StepContext stepContext = StepSynchronizationManager.getContext();
+        if (stepContext == null) {
+            return null;
+        }
+        return changesByExecution.computeIfAbsent(
+                stepContext.getStepExecution().getJobExecutionId(), id -> new ChangeSet());
+    }
+
+    public static final class ChangeSet {
+
+        private final Set<String> userIds = ConcurrentHashMap.newKeySet();
+        private final Set<String> dnis = ConcurrentHashMap.newKeySet();
+        private final Set<String> branchIds = ConcurrentHashMap.newKeySet();
+        private volatile boolean branchesUpdated;
+        private volatile boolean overflowed;
+
+        public Set<String> userIds() {
+            return userIds;
+        }
+
+        public Set<String> dnis() {
+            return dnis;
+        }
+
+        public Set<String> branchIds() {
+            return branchIds;
+        }
+
+        /** Whether an existing branch changed; cached users embed their branch, so they are stale too. */
+        public boolean branchesUpdated() {
+            return branchesUpdated;
+        }
+
+        public boolean overflowed() {
+            return overflowed;
+        }
+
+        public int size() {
+            return userIds.size() + dnis.size() + branchIds.size();
+        }
+
+        private void checkOverflow(int maxKeys) {
+            if (!overflowed && size() > maxKeys) {
+                overflowed = true;
+                userIds.clear();
+                dnis.clear();
+                branchIds.clear();
+            }
+        }
+    }
+}
@@ -1,6 +1,12 @@
 package com.sportclub.challenge.infrastructure.batch;
 
+import com.sportclub.challenge.application.port.out.cache.CacheWarmupPort;
+import com.sportclub.challenge.application.port.out.index.KnownDniFilterPort;
+import com.sportclub.challenge.application.port.out.index.UserAccessIndexPort;
 import com.sportclub.challenge.application.port.out.log.LoggingPort;
+import com.sportclub.challenge.application.port.out.persistence.target.TargetBranchRepositoryPort;
+import com.sportclub.challenge.application.port.out.persistence.target.TargetUserRepositoryPort;
+import com.sportclub.challenge.application.port.out.security.UserDenylistPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.JobExecution;
@@ -10,18 +16,40 @@ import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
+/**
+ * After a migration run only the cache entries of rows the writers created or updated are touched:
+ * entries that were cached are evicted and reloaded right away, so the turnstiles keep hitting a
+ * warm cache. The whole caches are cleared only when too many keys changed to track them, and are
+ * then warmed up again in the background. The cached user count is dropped after every run.
+ * The user access index, when enabled, the known-DNI filter and the user denylist are rebuilt
+ * after every run.
+ */
 @Component
 @RequiredArgsConstructor
 public class MigrationJobCompletionListener implements JobExecutionListener {
 
+    private static final String USERS_BY_DNI = "usersByDni";
+    private static final String USERS_BY_ID = "usersById";
+    private static final String BRANCHES_BY_ID = "branchesById";
+    private static final String USER_COUNT = "userCount";
+
     private final CacheManager cacheManager;
+    private final MigrationChangeTracker changeTracker;
+    private final TargetUserRepositoryPort targetUserRepositoryPort;
+    private final TargetBranchRepositoryPort targetBranchRepositoryPort;
+    private final UserAccessIndexPort userAccessIndexPort;
+    private final KnownDniFilterPort knownDniFilterPort;
+    private final UserDenylistPort userDenylistPort;
+    private final CacheWarmupPort cacheWarmupPort;
     private final LoggingPort logger;
     private static final List<String> CACHE_NAMES_TO_CLEAR = Arrays.asList(
-            "usersByDni",
-            "usersById",
-            "branchesById"
+            USERS_BY_DNI,
+            USERS_BY_ID,
+            BRANCHES_BY_ID
     );
 
     @Override
@@ -38,27 +66,82 @@ public class MigrationJobCompletionListener implements JobExecutionListener {
         long instanceId = jobExecution.getJobInstance().getInstanceId();
         long executionId = jobExecution.getId();
         BatchStatus status = jobExecution.getStatus();
+        final MigrationChangeTracker.ChangeSet changes = changeTracker.drain(executionId);
 
         if (status == BatchStatus.COMPLETED) {
-            logger.info("<<< Migration job '{}' (Instance: {}, Execution: {}) completed successfully. Clearing caches...",
+            logger.info("<<< Migration job '{}' (Instance: {}, Execution: {}) completed successfully. Refreshing changed cache entries...",
                     jobName, instanceId, executionId);
-            clearCaches(jobExecution);
         } else {
             logger.warn("<<< Migration job '{}' (Instance: {}, Execution: {}) " +
-                            "finished with status: {}. Caches will NOT be cleared.",
+                            "finished with status: {}. Refreshing cache entries changed by committed chunks.",
                     jobName, instanceId, executionId, status
             );
             jobExecution.getAllFailureExceptions().forEach(
                     ex -> logger.error("Failure exception during job execution {}: ", executionId, ex)
             );
         }
+        if (changes.overflowed()) {
+            logger.info("Too many changed keys to track for job execution ID: {}. Clearing caches.", executionId);
+            cacheWarmupPort.cachesCleared();
+            clearCaches(jobExecution, CACHE_NAMES_TO_CLEAR);
+            cacheWarmupPort.warmUp();
+        } else {
+            refreshChangedEntries(jobExecution, changes);
+        }
+        clearCaches(jobExecution, List.of(USER_COUNT));
+        userAccessIndexPort.rebuild();
+        knownDniFilterPort.rebuild();
+        userDenylistPort.rebuild();
+    }
+
+    private void refreshChangedEntries(JobExecution jobExecution, MigrationChangeTracker.ChangeSet changes) {
+        if (changes.branchesUpdated()) {
+            logger.info("Existing branches changed in job execution ID: {}. Cached users embed their branch; clearing user caches.",
+                    jobExecution.getId());
+            cacheWarmupPort.cachesCleared();
+            clearCaches(jobExecution, List.of(USERS_BY_DNI, USERS_BY_ID));
+            cacheWarmupPort.warmUp();
+        } else {
+            refresh(USERS_BY_ID, changes.userIds(), targetUserRepositoryPort::findById);
+            refresh(USERS_BY_DNI, changes.dnis(), targetUserRepositoryPort::findByDni);
+        }
+        refresh(BRANCHES_BY_ID, changes.branchIds(), targetBranchRepositoryPort::findById);
+        logger.info("Cache refresh finished for job execution ID: {} ({} changed keys)",
+                jobExecution.getId(), changes.size());
+    }
+
+    /**
+     * Evicts each changed key that is currently cached and reloads it through the cached port,
+     * which puts the fresh value back. Keys that were not cached are left alone; a running
+     * warm-up is told about all of them first, so it does not cache a value read before the run.
+     */
+    private void refresh(String cacheName, Collection<String> keys, Consumer<String> loader) {
+        final Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null || keys.isEmpty()) {
+            return;
+        }
+        cacheWarmupPort.keysChanged(cacheName, keys);
+        int refreshed = 0;
+        for (String key : keys) {
+            if (cache.get(key) == null) {
+                continue;
+            }
+            cache.evict(key);
+            try {
+                loader.accept(key);
+                refreshed++;
+            } catch (Exception e) {
+                logger.error("Failed to reload cache '{}' key '{}'. Error: {}", cacheName, key, e.getMessage(), e);
+            }
+        }
+        logger.debug("Refreshed {} of {} changed keys in cache '{}'", refreshed, keys.size(), cacheName);
     }
 
-    private void clearCaches(JobExecution jobExecution) {
-        logger.info("Attempting to clear specified caches after successful job execution ID: {}",
+    private void clearCaches(JobExecution jobExecution, List<String> cacheNames) {
+        logger.info("Attempting to clear specified caches after job execution ID: {}",
                 jobExecution.getId()
         );
-        CACHE_NAMES_TO_CLEAR.forEach(cacheName -> {
+        cacheNames.forEach(cacheName -> {
             try {
                 Cache cache = cacheManager.getCache(cacheName);
                 if (cache != null) {
@@ -78,4 +161,4 @@ public class MigrationJobCompletionListener implements JobExecutionListener {
                 jobExecution.getId()
         );
     }
-}
\ No newline at end of file
+}
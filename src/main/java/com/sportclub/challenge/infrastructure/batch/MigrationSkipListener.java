@@ -0,0 +1,49 @@
+package com.sportclub.challenge.infrastructure.batch;
+
+import com.sportclub.challenge.adapter.out.persistence.source.entity.SourceBranchJpaEntity;
+import com.sportclub.challenge.adapter.out.persistence.source.entity.SourceUserJpaEntity;
+import com.sportclub.challenge.adapter.out.persistence.target.entity.TargetBranchJpaEntity;
+import com.sportclub.challenge.adapter.out.persistence.target.entity.TargetUserJpaEntity;
+import com.sportclub.challenge.application.port.out.log.LoggingPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Logs skipped rows by entity type and id only; the rows themselves hold personal data.
+ */
+@Component
+@RequiredArgsConstructor
+public class MigrationSkipListener implements SkipListener<Object, Object> {
+
+    private final LoggingPort logger;
+
+    @Override
+    public void onSkipInRead(Throwable t) {
+        logger.warn("Skipped unreadable source row. Reason: {}", t.getMessage());
+    }
+
+    @Override
+    public void onSkipInProcess(Object item, Throwable t) {
+        logger.warn("Skipped item during processing: {}. Reason: {}", describe(item), t.getMessage());
+    }
+
+    @Override
+    public void onSkipInWrite(Object item, Throwable t) {
+        logger.warn("Skipped item during write: {}. Reason: {}", describe(item), t.getMessage());
+    }
+
+    private static String describe(Object item) {
+        if (item == null) {
+            return "null";
+        }
+        final String id = switch (item) {
+            case SourceBranchJpaEntity branch -> branch.getId();
+            case SourceUserJpaEntity user -> user.getId();
+            case TargetBranchJpaEntity branch -> branch.getId();
+            case TargetUserJpaEntity user -> user.getId();
+            default -> "?";
+        };
+        return item.getClass().getSimpleName() + "[id=" + id + "]";
+    }
+}
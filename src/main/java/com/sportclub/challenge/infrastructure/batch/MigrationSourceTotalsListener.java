@@ -0,0 +1,68 @@
+package com.sportclub.challenge.infrastructure.batch;
+
+import com.sportclub.challenge.application.port.out.log.LoggingPort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Counts the source rows when a migration execution starts and stores them in the job
+ * {@link ExecutionContext}, so progress and ETA can be reported while the job is running.
+ * Runs after {@link MigrationWatermarkListener}; an incremental run only counts the changed rows.
+ */
+@Component
+public class MigrationSourceTotalsListener implements JobExecutionListener {
+
+    public static final String SOURCE_BRANCHES_KEY = "migration.source.branches";
+    public static final String SOURCE_USERS_KEY = "migration.source.users";
+
+    private final EntityManagerFactory sourceEntityManagerFactory;
+    private final JobRepository jobRepository;
+    private final LoggingPort logger;
+
+    public MigrationSourceTotalsListener(
+            @Qualifier("sourceEntityManagerFactory") EntityManagerFactory sourceEntityManagerFactory,
+            JobRepository jobRepository,
+            LoggingPort logger
+    ) {
+        this.sourceEntityManagerFactory = sourceEntityManagerFactory;
+        this.jobRepository = jobRepository;
+        this.logger = logger;
+    }
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        final ExecutionContext context = jobExecution.getExecutionContext();
+        final LocalDateTime changedSince = MigrationWatermarkListener.changedSince(context);
+        final EntityManager entityManager = sourceEntityManagerFactory.createEntityManager();
+        try {
+            final long branches = count(entityManager, "SourceBranchJpaEntity", changedSince);
+            final long users = count(entityManager, "SourceUserJpaEntity", changedSince);
+            context.putLong(SOURCE_BRANCHES_KEY, branches);
+            context.putLong(SOURCE_USERS_KEY, users);
+            jobRepository.updateExecutionContext(jobExecution);
+            logger.info("Source totals for Job Execution ID {}: {} branches, {} users",
+                    jobExecution.getId(), branches, users);
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private static long count(EntityManager entityManager, String entityName, LocalDateTime changedSince) {
+        if (changedSince == null) {
+            return entityManager.createQuery("SELECT COUNT(e) FROM " + entityName + " e", Long.class)
+                    .getSingleResult();
+        }
+        return entityManager.createQuery("SELECT COUNT(e) FROM " + entityName + " e WHERE "
+                        + MigrationWatermarkListener.changedSinceCondition("e"), Long.class)
+                .setParameter("since", changedSince)
+                .getSingleResult();
+    }
+}
@@ -0,0 +1,100 @@
+package com.sportclub.challenge.infrastructure.batch;
+
+import com.sportclub.challenge.application.exception.MigrationExecutionNotFoundException;
+import com.sportclub.challenge.application.port.in.GetMigrationStatusUseCase;
+import com.sportclub.challenge.application.port.in.result.MigrationStatus;
+import com.sportclub.challenge.application.port.in.result.MigrationStepStatus;
+import com.sportclub.challenge.infrastructure.config.BatchMigrationConfig;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Builds progress snapshots of migration executions from the {@link JobExplorer}. Processed items
+ * are the read counts of the chunk steps; the partition manager step is left out because it only
+ * repeats the sum of its workers once they have finished.
+ */
+@Service
+public class MigrationStatusService implements GetMigrationStatusUseCase {
+
+    private final JobExplorer jobExplorer;
+    private final Job dataMigrationJob;
+
+    public MigrationStatusService(JobExplorer jobExplorer, @Qualifier("dataMigrationJob") Job job) {
+        this.jobExplorer = jobExplorer;
+        dataMigrationJob = job;
+    }
+
+    @Override
+    public MigrationStatus getMigrationStatus(long executionId) {
+        final JobExecution jobExecution = jobExplorer.getJobExecution(executionId);
+        if (jobExecution == null
+                || !dataMigrationJob.getName().equals(jobExecution.getJobInstance().getJobName())) {
+            throw new MigrationExecutionNotFoundException("Migration execution with ID " + executionId + " not found.");
+        }
+
+        final List<StepExecution> stepExecutions = jobExecution.getStepExecutions().stream()
+                .sorted(Comparator.comparing(StepExecution::getId))
+                .toList();
+        final long processedItems = stepExecutions.stream()
+                .filter(step -> !BatchMigrationConfig.USERS_STEP_NAME.equals(step.getStepName()))
+                .mapToLong(StepExecution::getReadCount)
+                .sum();
+        final ExecutionContext jobContext = jobExecution.getExecutionContext();
+        final boolean totalKnown = jobContext.containsKey(MigrationSourceTotalsListener.SOURCE_BRANCHES_KEY)
+                || jobContext.containsKey(MigrationSourceTotalsListener.SOURCE_USERS_KEY);
+        final long totalItems = jobContext.getLong(MigrationSourceTotalsListener.SOURCE_BRANCHES_KEY, 0L)
+                + jobContext.getLong(MigrationSourceTotalsListener.SOURCE_USERS_KEY, 0L);
+        final double itemsPerSecond = perSecond(processedItems, jobExecution.getStartTime(), jobExecution.getEndTime());
+
+        Long estimatedSecondsRemaining = null;
+        if (jobExecution.isRunning() && totalKnown && itemsPerSecond > 0) {
+            estimatedSecondsRemaining = (long) Math.ceil(Math.max(0, totalItems - processedItems) / itemsPerSecond);
+        }
+
+        return new MigrationStatus(
+                executionId,
+                jobExecution.getStatus().name(),
+                jobExecution.getExitStatus().getExitCode(),
+                jobExecution.getStartTime(),
+                jobExecution.getEndTime(),
+                totalItems,
+                processedItems,
+                itemsPerSecond,
+                estimatedSecondsRemaining,
+                stepExecutions.stream().map(MigrationStatusService::toStepStatus).toList()
+        );
+    }
+
+    private static MigrationStepStatus toStepStatus(StepExecution step) {
+        return new MigrationStepStatus(
+                step.getStepName(),
+                step.getStatus().name(),
+                step.getReadCount(),
+                step.getWriteCount(),
+                step.getFilterCount(),
+                step.getSkipCount(),
+                step.getCommitCount(),
+                step.getStartTime(),
+                step.getEndTime(),
+                perSecond(step.getReadCount(), step.getStartTime(), step.getEndTime())
+        );
+    }
+
+    private static double perSecond(long items, LocalDateTime start, LocalDateTime end) {
+        if (start == null || items == 0) {
+            return 0;
+        }
+        final long elapsedMillis = Duration.between(start, end != null ? end : LocalDateTime.now()).toMillis();
+        return elapsedMillis > 0 ? items * 1000.0 / elapsedMillis : 0;
+    }
+}
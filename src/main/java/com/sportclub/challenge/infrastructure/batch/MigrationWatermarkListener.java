@@ -0,0 +1,182 @@
+package com.sportclub.challenge.infrastructure.batch;
+
+import com.sportclub.challenge.application.port.in.command.MigrationMode;
+import com.sportclub.challenge.application.port.out.log.LoggingPort;
+import com.sportclub.challenge.infrastructure.config.MigrationProperties;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Decides the change window of a migration run. The high-water mark is the newest
+ * {@code last_modified} in the source at job start (a database timestamp); an incremental run
+ * reads rows modified at or after the mark stored by the last COMPLETED run minus
+ * {@code app.migration.incremental-overlap-ms}, plus rows that have no {@code last_modified} at
+ * all, or everything when there is no such run. The overlap re-reads rows whose transaction
+ * committed after the mark was taken but carries an earlier timestamp; re-read rows that did not
+ * change are recognized by their content hash and not written again.
+ * <p>
+ * A run that skipped items keeps the previous mark (or none, for a FULL run), so the skipped
+ * rows are read again by the next incremental run. The window is kept in the job
+ * {@link ExecutionContext}, so a restarted execution reuses it.
+ */
+@Component
+public class MigrationWatermarkListener implements JobExecutionListener {
+
+    public static final String MODE_PARAMETER = "migration.mode";
+    public static final String MODE_KEY = "migration.mode";
+    public static final String SINCE_KEY = "migration.since";
+    public static final String WATERMARK_KEY = "migration.watermark";
+    public static final String PREVIOUS_WATERMARK_KEY = "migration.previousWatermark";
+    public static final String SKIPPED_KEY = "migration.skipped";
+    private static final int INSTANCE_PAGE_SIZE = 20;
+    private static final int MAX_INSTANCES_SCANNED = 100;
+
+    private final EntityManagerFactory sourceEntityManagerFactory;
+    private final JobExplorer jobExplorer;
+    private final JobRepository jobRepository;
+    private final MigrationProperties migrationProperties;
+    private final LoggingPort logger;
+
+    public MigrationWatermarkListener(
+            @Qualifier("sourceEntityManagerFactory") EntityManagerFactory sourceEntityManagerFactory,
+            JobExplorer jobExplorer,
+            JobRepository jobRepository,
+            MigrationProperties migrationProperties,
+            LoggingPort logger
+    ) {
+        this.sourceEntityManagerFactory = sourceEntityManagerFactory;
+        this.jobExplorer = jobExplorer;
+        this.jobRepository = jobRepository;
+        this.migrationProperties = migrationProperties;
+        this.logger = logger;
+    }
+
+    /**
+     * JPQL condition selecting the rows of the change window for the entity alias; binds
+     * {@code :since}. Rows without a {@code last_modified} always qualify.
+     */
+    public static String changedSinceCondition(String alias) {
+        return "(" + alias + ".lastModified >= :since OR " + alias + ".lastModified IS NULL)";
+    }
+
+    public static LocalDateTime changedSince(ExecutionContext jobContext) {
+        return jobContext.containsKey(SINCE_KEY) ? LocalDateTime.parse(jobContext.getString(SINCE_KEY)) : null;
+    }
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        final ExecutionContext context = jobExecution.getExecutionContext();
+        if (context.containsKey(MODE_KEY)) {
+            logger.info("Restarted Job Execution ID {} keeps its {} window (since: {})",
+                    jobExecution.getId(), context.getString(MODE_KEY), context.getString(SINCE_KEY, "-"));
+            return;
+        }
+
+        final MigrationMode requestedMode = MigrationMode.valueOf(
+                jobExecution.getJobParameters().getString(MODE_PARAMETER, MigrationMode.FULL.name()));
+        final LocalDateTime watermark = currentSourceWatermark();
+        MigrationMode effectiveMode = MigrationMode.FULL;
+        if (requestedMode == MigrationMode.INCREMENTAL) {
+            final Optional<String> previousWatermark = findLastCompletedWatermark(jobExecution.getJobInstance().getJobName());
+            if (previousWatermark.isPresent()) {
+                final LocalDateTime since = LocalDateTime.parse(previousWatermark.get())
+                        .minus(Duration.ofMillis(migrationProperties.incrementalOverlapMs()));
+                context.putString(PREVIOUS_WATERMARK_KEY, previousWatermark.get());
+                context.putString(SINCE_KEY, since.toString());
+                effectiveMode = MigrationMode.INCREMENTAL;
+            } else {
+                logger.info("No completed migration with a watermark found. Job Execution ID {} runs in FULL mode.",
+                        jobExecution.getId());
+            }
+        }
+        context.putString(MODE_KEY, effectiveMode.name());
+        if (watermark != null) {
+            context.putString(WATERMARK_KEY, watermark.toString());
+        } else if (context.containsKey(PREVIOUS_WATERMARK_KEY)) {
+            context.putString(WATERMARK_KEY, context.getString(PREVIOUS_WATERMARK_KEY));
+        }
+        jobRepository.updateExecutionContext(jobExecution);
+        logger.info("Job Execution ID {} migrates in {} mode (since: {}, new watermark: {})",
+                jobExecution.getId(), effectiveMode, context.getString(SINCE_KEY, "-"),
+                context.getString(WATERMARK_KEY, "-"));
+    }
+
+    /**
+     * Holds the watermark back when the run skipped items: an incremental run keeps the previous
+     * mark and a FULL run stores none, so the next incremental run reads the skipped rows again.
+     * Skips are accumulated in the job context, so they still count after a restart.
+     */
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        final ExecutionContext context = jobExecution.getExecutionContext();
+        final long skipped = context.getLong(SKIPPED_KEY, 0L) + jobExecution.getStepExecutions().stream()
+                .mapToLong(StepExecution::getSkipCount)
+                .sum();
+        if (skipped == 0) {
+            return;
+        }
+        context.putLong(SKIPPED_KEY, skipped);
+        if (context.containsKey(PREVIOUS_WATERMARK_KEY)) {
+            context.putString(WATERMARK_KEY, context.getString(PREVIOUS_WATERMARK_KEY));
+        } else {
+            context.remove(WATERMARK_KEY);
+        }
+        jobRepository.updateExecutionContext(jobExecution);
+        logger.warn("Job Execution ID {} skipped {} item(s); watermark not advanced (kept: {})",
+                jobExecution.getId(), skipped, context.getString(WATERMARK_KEY, "-"));
+    }
+
+    private LocalDateTime currentSourceWatermark() {
+        final EntityManager entityManager = sourceEntityManagerFactory.createEntityManager();
+        try {
+            final LocalDateTime branches = entityManager
+                    .createQuery("SELECT MAX(b.lastModified) FROM SourceBranchJpaEntity b", LocalDateTime.class)
+                    .getSingleResult();
+            final LocalDateTime users = entityManager
+                    .createQuery("SELECT MAX(u.lastModified) FROM SourceUserJpaEntity u", LocalDateTime.class)
+                    .getSingleResult();
+            if (branches == null || users == null) {
+                return branches != null ? branches : users;
+            }
+            return branches.isAfter(users) ? branches : users;
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private Optional<String> findLastCompletedWatermark(String jobName) {
+        for (int start = 0; start < MAX_INSTANCES_SCANNED; start += INSTANCE_PAGE_SIZE) {
+            final List<JobInstance> instances = jobExplorer.getJobInstances(jobName, start, INSTANCE_PAGE_SIZE);
+            for (JobInstance instance : instances) {
+                for (JobExecution execution : jobExplorer.getJobExecutions(instance)) {
+                    // The newest COMPLETED run decides: one that stored no watermark forces a full read.
+                    if (execution.getStatus() == BatchStatus.COMPLETED) {
+                        final ExecutionContext context = execution.getExecutionContext();
+                        return context.containsKey(WATERMARK_KEY)
+                                ? Optional.of(context.getString(WATERMARK_KEY))
+                                : Optional.empty();
+                    }
+                }
+            }
+            if (instances.size() < INSTANCE_PAGE_SIZE) {
+                break;
+            }
+        }
+        return Optional.empty();
+    }
+}
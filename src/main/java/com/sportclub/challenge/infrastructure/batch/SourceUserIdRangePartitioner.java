@@ -0,0 +1,135 @@
+package com.sportclub.challenge.infrastructure.batch;
+
+import com.sportclub.challenge.application.port.out.log.LoggingPort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Splits the source {@code users} table into contiguous id ranges of roughly equal size.
+ * Each partition covers {@code (minIdExclusive, maxIdInclusive]}; the first range starts
+ * after the empty string, which sorts before every id. Each boundary is one query that lets the
+ * database skip along the id index from the previous boundary
+ * ({@code id > :afterId ORDER BY id OFFSET n-1 LIMIT 1}), so only the boundary ids reach the
+ * application. In an incremental run only the rows changed since the job's watermark are counted, so the partitions
+ * split the delta rather than the table.
+ */
+@Component
+public class SourceUserIdRangePartitioner implements Partitioner {
+
+    public static final String MIN_ID_EXCLUSIVE_KEY = "partition.minIdExclusive";
+    public static final String MAX_ID_INCLUSIVE_KEY = "partition.maxIdInclusive";
+    private static final String PARTITION_PREFIX = "partition";
+    private static final String LOWEST_ID = "";
+
+    private final EntityManagerFactory sourceEntityManagerFactory;
+    private final LoggingPort logger;
+
+    public SourceUserIdRangePartitioner(
+            @Qualifier("sourceEntityManagerFactory") EntityManagerFactory sourceEntityManagerFactory,
+            LoggingPort logger
+    ) {
+        this.sourceEntityManagerFactory = sourceEntityManagerFactory;
+        this.logger = logger;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        final Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        final LocalDateTime changedSince = currentChangedSince();
+        final EntityManager entityManager = sourceEntityManagerFactory.createEntityManager();
+        try {
+            final long total = query(entityManager, "SELECT COUNT(u) FROM SourceUserJpaEntity u", Long.class, changedSince)
+                    .getSingleResult();
+            if (total == 0) {
+                partitions.put(PARTITION_PREFIX + 0, rangeContext(LOWEST_ID, LOWEST_ID));
+                return partitions;
+            }
+
+            final int partitionCount = (int) Math.min(gridSize, total);
+            String lowerBound = LOWEST_ID;
+            long rowsBefore = 0;
+            for (int i = 1; i < partitionCount; i++) {
+                final long rowsUpTo = total * i / partitionCount;
+                final String upperBound = nthIdAfter(entityManager, lowerBound, rowsUpTo - rowsBefore, changedSince);
+                if (upperBound == null) {
+                    // Rows were deleted since the count: the last partition takes the rest.
+                    break;
+                }
+                partitions.put(PARTITION_PREFIX + partitions.size(), rangeContext(lowerBound, upperBound));
+                lowerBound = upperBound;
+                rowsBefore = rowsUpTo;
+            }
+            final String maxId = query(entityManager, "SELECT MAX(u.id) FROM SourceUserJpaEntity u", String.class, changedSince)
+                    .getSingleResult();
+            partitions.put(PARTITION_PREFIX + partitions.size(), rangeContext(lowerBound, maxId == null ? lowerBound : maxId));
+            logger.info("Split {} source users into {} id-range partitions", total, partitions.size());
+            return partitions;
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    /**
+     * The {@code n}-th id after {@code afterId} in id order; {@code null} when fewer than {@code n}
+     * ids follow. A distance beyond the int range of {@code setFirstResult} is covered in several hops.
+     */
+    private static String nthIdAfter(EntityManager entityManager, String afterId, long n, LocalDateTime changedSince) {
+        final TypedQuery<String> idQuery = entityManager.createQuery(
+                "SELECT u.id FROM SourceUserJpaEntity u WHERE u.id > :afterId"
+                        + (changedSince == null ? "" : " AND " + MigrationWatermarkListener.changedSinceCondition("u"))
+                        + " ORDER BY u.id ASC", String.class)
+                .setMaxResults(1);
+        if (changedSince != null) {
+            idQuery.setParameter("since", changedSince);
+        }
+        String lastId = afterId;
+        long remaining = n;
+        while (remaining > 0) {
+            final int hop = (int) Math.min(Integer.MAX_VALUE, remaining);
+            final List<String> ids = idQuery
+                    .setParameter("afterId", lastId)
+                    .setFirstResult(hop - 1)
+                    .getResultList();
+            if (ids.isEmpty()) {
+                return null;
+            }
+            lastId = ids.get(0);
+            remaining -= hop;
+        }
+        return lastId;
+    }
+
+    private static <T> TypedQuery<T> query(EntityManager entityManager, String select, Class<T> resultType,
+                                           LocalDateTime changedSince) {
+        if (changedSince == null) {
+            return entityManager.createQuery(select, resultType);
+        }
+        return entityManager.createQuery(select + " WHERE " + MigrationWatermarkListener.changedSinceCondition("u"), resultType)
+                .setParameter("since", changedSince);
+    }
+
+    private static LocalDateTime currentChangedSince() {
+        final StepContext stepContext = StepSynchronizationManager.getContext();
+        return stepContext == null ? null : MigrationWatermarkListener.changedSince(
+                stepContext.getStepExecution().getJobExecution().getExecutionContext());
+    }
+
+    private ExecutionContext rangeContext(String minIdExclusive, String maxIdInclusive) {
+        final ExecutionContext context = new ExecutionContext();
+        context.putString(MIN_ID_EXCLUSIVE_KEY, minIdExclusive);
+        context.putString(MAX_ID_INCLUSIVE_KEY, maxIdInclusive);
+        return context;
+    }
+}
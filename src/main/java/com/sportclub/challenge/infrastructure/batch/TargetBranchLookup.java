@@ -0,0 +1,44 @@
+package com.sportclub.challenge.infrastructure.batch;
+
+import com.sportclub.challenge.application.port.out.log.LoggingPort;
+import com.sportclub.challenge.application.port.out.persistence.target.TargetBranchRepositoryPort;
+import com.sportclub.challenge.domain.model.branch.Branch;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Read-only branch lookup for the user migration step. The target branches are loaded once,
+ * right before the user step starts (i.e. after {@code migrateBranchesStep} has completed),
+ * so resolving a user's branch never goes to the database.
+ */
+@Component
+@RequiredArgsConstructor
+public class TargetBranchLookup implements StepExecutionListener {
+
+    private final TargetBranchRepositoryPort targetBranchRepositoryPort;
+    private final LoggingPort logger;
+    private volatile Map<String, Branch> branchesById = Map.of();
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        branchesById = Map.copyOf(targetBranchRepositoryPort.findAllAsMap());
+        logger.info("Loaded {} target branches for step '{}' (Execution ID: {})",
+                branchesById.size(), stepExecution.getStepName(), stepExecution.getJobExecutionId());
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        branchesById = Map.of();
+        return stepExecution.getExitStatus();
+    }
+
+    public Optional<Branch> findById(String branchId) {
+        return Optional.ofNullable(branchesById.get(branchId));
+    }
+}
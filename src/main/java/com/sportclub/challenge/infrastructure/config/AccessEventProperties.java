@@ -0,0 +1,27 @@
+package com.sportclub.challenge.infrastructure.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@ConfigurationProperties(prefix = "app.access-events")
+@Validated
+public record AccessEventProperties(
+
+        @DefaultValue("true")
+        boolean enabled,
+
+        @Min(value = 2, message = "Access event buffer capacity (app.access-events.buffer-capacity) must be at least 2")
+        @DefaultValue("65536")
+        int bufferCapacity,
+
+        @Min(value = 1, message = "Access event batch size (app.access-events.batch-size) must be at least 1")
+        @DefaultValue("500")
+        int batchSize,
+
+        @Min(value = 1, message = "Access event flush interval (app.access-events.flush-interval-ms) must be at least 1")
+        @DefaultValue("200")
+        long flushIntervalMs
+) {
+}
@@ -8,37 +8,67 @@ import com.sportclub.challenge.adapter.out.persistence.target.entity.TargetBranc
 import com.sportclub.challenge.adapter.out.persistence.target.entity.TargetUserJpaEntity;
 import com.sportclub.challenge.adapter.out.persistence.target.mapper.TargetBranchPersistenceMapper;
 import com.sportclub.challenge.adapter.out.persistence.target.mapper.TargetUserPersistenceMapper;
+import com.sportclub.challenge.adapter.out.persistence.target.repository.ContentHashView;
 import com.sportclub.challenge.adapter.out.persistence.target.repository.TargetBranchJpaRepository;
 import com.sportclub.challenge.adapter.out.persistence.target.repository.TargetUserJpaRepository;
 import com.sportclub.challenge.application.port.out.log.LoggingPort;
 import com.sportclub.challenge.domain.model.branch.Branch;
 import com.sportclub.challenge.domain.model.user.User;
+import com.sportclub.challenge.infrastructure.batch.ChunkDiffItemWriter;
+import com.sportclub.challenge.infrastructure.batch.JdbcUpsertItemWriter;
+import com.sportclub.challenge.infrastructure.batch.JpaKeysetItemReader;
+import com.sportclub.challenge.infrastructure.batch.MigratedMemberNotifier;
+import com.sportclub.challenge.infrastructure.batch.MigrationChangeTracker;
 import com.sportclub.challenge.infrastructure.batch.MigrationJobCompletionListener;
+import com.sportclub.challenge.infrastructure.batch.MigrationSkipListener;
+import com.sportclub.challenge.infrastructure.batch.MigrationSourceTotalsListener;
+import com.sportclub.challenge.infrastructure.batch.MigrationWatermarkListener;
+import com.sportclub.challenge.infrastructure.batch.SourceUserIdRangePartitioner;
+import com.sportclub.challenge.infrastructure.batch.TargetBranchLookup;
 import jakarta.persistence.EntityManagerFactory;
-import lombok.RequiredArgsConstructor;
+import jakarta.persistence.LockTimeoutException;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.PessimisticLockException;
+import jakarta.persistence.QueryTimeoutException;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.FaultTolerantStepBuilder;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
-import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.JpaItemWriter;
-import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.retry.backoff.ExponentialBackOffPolicy;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
-import java.util.Objects;
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Configuration
+@EnableConfigurationProperties(MigrationProperties.class)
 public class BatchMigrationConfig {
 
-    private static final int CHUNK_SIZE = 100;
+    public static final String USERS_STEP_NAME = "migrateUsersStep";
+
     private final JobRepository jobRepository;
     private final LoggingPort logger;
 
@@ -46,6 +76,8 @@ public class BatchMigrationConfig {
     private final EntityManagerFactory targetEntityManagerFactory;
     @Qualifier("targetTransactionManager")
     private final PlatformTransactionManager targetTransactionManager;
+    @Qualifier("targetDataSource")
+    private final DataSource targetDataSource;
     private final TargetBranchJpaRepository targetBranchJpaRepository;
     private final TargetUserJpaRepository targetUserJpaRepository;
     private final TargetBranchPersistenceMapper targetBranchMapper;
@@ -55,6 +87,14 @@ public class BatchMigrationConfig {
     private final SourceBranchPersistenceMapper sourceBranchMapper;
     private final SourceUserPersistenceMapper sourceUserMapper;
     private final MigrationJobCompletionListener jobCompletionNotificationListener;
+    private final MigrationSourceTotalsListener sourceTotalsListener;
+    private final MigrationWatermarkListener watermarkListener;
+    private final TargetBranchLookup targetBranchLookup;
+    private final SourceUserIdRangePartitioner sourceUserPartitioner;
+    private final MigrationSkipListener migrationSkipListener;
+    private final MigrationChangeTracker migrationChangeTracker;
+    private final MigratedMemberNotifier migratedMemberNotifier;
+    private final MigrationProperties migrationProperties;
 
     public BatchMigrationConfig(
             JobRepository jobRepository,
@@ -63,6 +103,8 @@ public class BatchMigrationConfig {
             EntityManagerFactory targetEntityManagerFactory,
             @Qualifier("targetTransactionManager")
             PlatformTransactionManager targetTransactionManager,
+            @Qualifier("targetDataSource")
+            DataSource targetDataSource,
             TargetBranchJpaRepository targetBranchJpaRepository,
             TargetUserJpaRepository targetUserJpaRepository,
             TargetBranchPersistenceMapper targetBranchMapper,
@@ -71,12 +113,21 @@ public class BatchMigrationConfig {
             EntityManagerFactory sourceEntityManagerFactory,
             SourceBranchPersistenceMapper sourceBranchMapper,
             SourceUserPersistenceMapper sourceUserMapper,
-            MigrationJobCompletionListener jobCompletionNotificationListener
+            MigrationJobCompletionListener jobCompletionNotificationListener,
+            MigrationSourceTotalsListener sourceTotalsListener,
+            MigrationWatermarkListener watermarkListener,
+            TargetBranchLookup targetBranchLookup,
+            SourceUserIdRangePartitioner sourceUserPartitioner,
+            MigrationSkipListener migrationSkipListener,
+            MigrationChangeTracker migrationChangeTracker,
+            MigratedMemberNotifier migratedMemberNotifier,
+            MigrationProperties migrationProperties
     ) {
         this.jobRepository = jobRepository;
         this.logger = logger;
         this.targetEntityManagerFactory = targetEntityManagerFactory;
         this.targetTransactionManager = targetTransactionManager;
+        this.targetDataSource = targetDataSource;
         this.targetBranchJpaRepository = targetBranchJpaRepository;
         this.targetUserJpaRepository = targetUserJpaRepository;
         this.targetBranchMapper = targetBranchMapper;
@@ -85,69 +136,104 @@ public class BatchMigrationConfig {
         this.sourceBranchMapper = sourceBranchMapper;
         this.sourceUserMapper = sourceUserMapper;
         this.jobCompletionNotificationListener = jobCompletionNotificationListener;
+        this.sourceTotalsListener = sourceTotalsListener;
+        this.watermarkListener = watermarkListener;
+        this.targetBranchLookup = targetBranchLookup;
+        this.sourceUserPartitioner = sourceUserPartitioner;
+        this.migrationSkipListener = migrationSkipListener;
+        this.migrationChangeTracker = migrationChangeTracker;
+        this.migratedMemberNotifier = migratedMemberNotifier;
+        this.migrationProperties = migrationProperties;
     }
 
     @Bean
-    public ItemReader<SourceBranchJpaEntity> sourceBranchReader() {
-        return new JpaPagingItemReaderBuilder<SourceBranchJpaEntity>()
-                .name("sourceBranchReader")
-                .entityManagerFactory(sourceEntityManagerFactory)
-                .queryString("SELECT b FROM SourceBranchJpaEntity b ORDER BY b.id ASC")
-                .pageSize(CHUNK_SIZE)
-                .saveState(false)
-                .build();
+    @StepScope
+    public JpaKeysetItemReader<SourceBranchJpaEntity> sourceBranchReader(
+            @Value("#{jobExecutionContext['migration.since']}") String changedSince
+    ) {
+        return new JpaKeysetItemReader<>(
+                "sourceBranchReader",
+                sourceEntityManagerFactory,
+                "SELECT b FROM SourceBranchJpaEntity b WHERE b.id > :lastKey" +
+                        (changedSince == null ? "" : " AND " + MigrationWatermarkListener.changedSinceCondition("b")) +
+                        " ORDER BY b.id ASC",
+                SourceBranchJpaEntity.class,
+                changedSinceParameters(changedSince),
+                SourceBranchJpaEntity::getId,
+                "",
+                migrationProperties.chunkSize()
+        );
     }
 
     @Bean
     public ItemProcessor<SourceBranchJpaEntity, TargetBranchJpaEntity> branchProcessor() {
         return sourceEntity -> {
             logger.trace("Processing Source Branch ID: {}", sourceEntity.getId());
-            final Branch sourceBranch = sourceBranchMapper.toDomain(sourceEntity);
-            final Optional<TargetBranchJpaEntity> targetEntityOpt = targetBranchJpaRepository
-                    .findById(sourceBranch.id());
-
-            if (targetEntityOpt.isEmpty()) {
-                logger.debug("Branch ID '{}'. Action: CREATE.", sourceBranch.id());
-                return targetBranchMapper.toEntity(sourceBranch);
-            } else {
-                final Branch targetBranch = targetBranchMapper.toDomain(targetEntityOpt.get());
-                if (!areBranchesEqual(sourceBranch, targetBranch)) {
-                    logger.debug("Branch ID '{}'. Action: UPDATE.", sourceBranch.id());
-                    return targetBranchMapper.toEntity(sourceBranch);
-                } else {
-                    logger.trace("Branch ID '{}'. Action: IDENTICAL. Skipping write.", sourceBranch.id());
-                    return null;
-                }
-            }
+            final TargetBranchJpaEntity branch = targetBranchMapper.toEntity(sourceBranchMapper.toDomain(sourceEntity));
+            branch.refreshContentHash();
+            return branch;
         };
     }
 
     @Bean
     public ItemWriter<TargetBranchJpaEntity> targetBranchWriter() {
-        final JpaItemWriter<TargetBranchJpaEntity> writer = new JpaItemWriter<>();
-        writer.setEntityManagerFactory(targetEntityManagerFactory);
-        return writer;
+        final ItemWriter<TargetBranchJpaEntity> writer = migrationProperties.writer() == MigrationProperties.WriterMode.JDBC
+                ? new JdbcUpsertItemWriter<>(
+                        targetDataSource,
+                        "branches",
+                        "id",
+                        List.of("id", "name", "address", "city", "content_hash"),
+                        branch -> new Object[]{
+                                branch.getId(), branch.getName(), branch.getAddress(), branch.getCity(),
+                                branch.computeContentHash()
+                        },
+                        migrationProperties.jdbcBatchSize())
+                : jpaItemWriter();
+        return new ChunkDiffItemWriter<>(
+                "Branch",
+                TargetBranchJpaEntity::getId,
+                TargetBranchJpaEntity::computeContentHash,
+                ids -> toHashMap(targetBranchJpaRepository.findContentHashesByIdIn(ids)),
+                writer,
+                (created, updated) -> migrationChangeTracker.recordBranches(
+                        created.stream().map(TargetBranchJpaEntity::getId).toList(),
+                        updated.stream().map(TargetBranchJpaEntity::getId).toList()),
+                logger
+        );
     }
 
     @Bean
     public Step migrateBranchesStep() {
-        return new StepBuilder("migrateBranchesStep", jobRepository)
-                .<SourceBranchJpaEntity, TargetBranchJpaEntity>chunk(CHUNK_SIZE, targetTransactionManager)
-                .reader(sourceBranchReader())
+        return faultTolerant(new StepBuilder("migrateBranchesStep", jobRepository)
+                .<SourceBranchJpaEntity, TargetBranchJpaEntity>chunk(migrationProperties.chunkSize(), targetTransactionManager)
+                .reader(sourceBranchReader(null))
                 .processor(branchProcessor())
-                .writer(targetBranchWriter())
+                .writer(targetBranchWriter()))
                 .build();
     }
 
     @Bean
-    public ItemReader<SourceUserJpaEntity> sourceUserReader() {
-        return new JpaPagingItemReaderBuilder<SourceUserJpaEntity>()
-                .name("sourceUserReader")
-                .entityManagerFactory(sourceEntityManagerFactory)
-                .queryString("SELECT u FROM SourceUserJpaEntity u ORDER BY u.id ASC")
-                .pageSize(CHUNK_SIZE)
-                .saveState(false)
-                .build();
+    @StepScope
+    public JpaKeysetItemReader<SourceUserJpaEntity> sourceUserReader(
+            @Value("#{stepExecutionContext['partition.minIdExclusive']}") String minIdExclusive,
+            @Value("#{stepExecutionContext['partition.maxIdInclusive']}") String maxIdInclusive,
+            @Value("#{jobExecutionContext['migration.since']}") String changedSince
+    ) {
+        final Map<String, Object> parameters = new HashMap<>(changedSinceParameters(changedSince));
+        parameters.put("maxId", maxIdInclusive);
+        return new JpaKeysetItemReader<>(
+                "sourceUserReader",
+                sourceEntityManagerFactory,
+                "SELECT u FROM SourceUserJpaEntity u LEFT JOIN FETCH u.branch " +
+                        "WHERE u.id > :lastKey AND u.id <= :maxId" +
+                        (changedSince == null ? "" : " AND " + MigrationWatermarkListener.changedSinceCondition("u")) +
+                        " ORDER BY u.id ASC",
+                SourceUserJpaEntity.class,
+                parameters,
+                SourceUserJpaEntity::getId,
+                minIdExclusive,
+                migrationProperties.chunkSize()
+        );
     }
 
     @Bean
@@ -162,53 +248,73 @@ public class BatchMigrationConfig {
                 return null;
             }
 
-            final Optional<TargetBranchJpaEntity> targetBranchEntityOpt = targetBranchJpaRepository.findById(sourceBranchId);
-            if (targetBranchEntityOpt.isEmpty()) {
+            final Optional<Branch> targetBranchOpt = targetBranchLookup.findById(sourceBranchId);
+            if (targetBranchOpt.isEmpty()) {
                 logger.warn("User ID '{}' (DNI: {}). Action: SKIP_NO_TARGET_BRANCH. Target branch ID '{}' not found.",
                         sourceUser.id(), sourceUser.dni(), sourceBranchId);
                 return null;
             }
-            final Branch targetBranch = targetBranchMapper.toDomain(targetBranchEntityOpt.get());
-            final User userToProcess = sourceUser.withBranch(targetBranch);
-            final Optional<TargetUserJpaEntity> targetUserEntityOpt = targetUserJpaRepository
-                    .findById(userToProcess.id());
-
-            if (targetUserEntityOpt.isEmpty()) {
-                logger.debug("User ID '{}' (DNI: {}). Action: CREATE.",
-                        userToProcess.id(), userToProcess.dni()
-                );
-                return targetUserMapper.toEntity(userToProcess);
-            } else {
-                User targetUser = targetUserMapper.toDomain(targetUserEntityOpt.get());
-                if (!areUsersEqual(userToProcess, targetUser)) {
-                    logger.debug("User ID '{}' (DNI: {}). Action: UPDATE.",
-                            userToProcess.id(), userToProcess.dni()
-                    );
-                    return targetUserMapper.toEntity(userToProcess);
-                } else {
-                    logger.trace("User ID '{}' (DNI: {}). Action: IDENTICAL. Skipping write.",
-                            userToProcess.id(), userToProcess.dni()
-                    );
-                    return null;
-                }
-            }
+            final TargetUserJpaEntity user = targetUserMapper.toEntity(sourceUser.withBranch(targetBranchOpt.get()));
+            user.refreshContentHash();
+            return user;
         };
     }
 
     @Bean
     public ItemWriter<TargetUserJpaEntity> targetUserWriter() {
-        final JpaItemWriter<TargetUserJpaEntity> writer = new JpaItemWriter<>();
-        writer.setEntityManagerFactory(targetEntityManagerFactory);
-        return writer;
+        final ItemWriter<TargetUserJpaEntity> writer = migrationProperties.writer() == MigrationProperties.WriterMode.JDBC
+                ? new JdbcUpsertItemWriter<>(
+                        targetDataSource,
+                        "users",
+                        "id",
+                        List.of("id", "first_name", "last_name", "email", "phone", "dni", "state", "branch_id",
+                                "content_hash"),
+                        user -> new Object[]{
+                                user.getId(), user.getFirstName(), user.getLastName(), user.getEmail(),
+                                user.getPhone(), user.getDni(), user.getState() != null ? user.getState().name() : null,
+                                user.getBranch() != null ? user.getBranch().getId() : null,
+                                user.computeContentHash()
+                        },
+                        migrationProperties.jdbcBatchSize())
+                : jpaItemWriter();
+        return new ChunkDiffItemWriter<>(
+                "User",
+                TargetUserJpaEntity::getId,
+                TargetUserJpaEntity::computeContentHash,
+                ids -> toHashMap(targetUserJpaRepository.findContentHashesByIdIn(ids)),
+                writer,
+                this::recordUserChanges,
+                logger
+        );
     }
 
     @Bean
-    public Step migrateUsersStep() {
-        return new StepBuilder("migrateUsersStep", jobRepository)
-                .<SourceUserJpaEntity, TargetUserJpaEntity>chunk(CHUNK_SIZE, targetTransactionManager)
-                .reader(sourceUserReader())
+    public Step migrateUsersWorkerStep() {
+        return faultTolerant(new StepBuilder("migrateUsersWorkerStep", jobRepository)
+                .<SourceUserJpaEntity, TargetUserJpaEntity>chunk(migrationProperties.chunkSize(), targetTransactionManager)
+                .reader(sourceUserReader(null, null, null))
                 .processor(userProcessor())
-                .writer(targetUserWriter())
+                .writer(targetUserWriter()))
+                .build();
+    }
+
+    @Bean(name = "migrationTaskExecutor", defaultCandidate = false)
+    public ThreadPoolTaskExecutor migrationTaskExecutor() {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(migrationProperties.gridSize());
+        executor.setMaxPoolSize(migrationProperties.gridSize());
+        executor.setThreadNamePrefix("migration-");
+        return executor;
+    }
+
+    @Bean
+    public Step migrateUsersStep() {
+        return new StepBuilder(USERS_STEP_NAME, jobRepository)
+                .partitioner("migrateUsersWorkerStep", sourceUserPartitioner)
+                .step(migrateUsersWorkerStep())
+                .gridSize(migrationProperties.gridSize())
+                .taskExecutor(migrationTaskExecutor())
+                .listener(targetBranchLookup)
                 .build();
     }
 
@@ -216,36 +322,94 @@ public class BatchMigrationConfig {
     public Job dataMigrationJob() {
         return new JobBuilder("dataMigrationJob", jobRepository)
                 .incrementer(new RunIdIncrementer())
+                .listener(watermarkListener)
+                .listener(sourceTotalsListener)
                 .listener(jobCompletionNotificationListener)
                 .start(migrateBranchesStep())
                 .next(migrateUsersStep())
                 .build();
     }
 
-    private boolean areBranchesEqual(Branch b1, Branch b2) {
-        if (b1 == b2) return true;
-        if (b1 == null || b2 == null) return false;
-        return Objects.equals(b1.id(), b2.id()) &&
-                Objects.equals(b1.name(), b2.name()) &&
-                Objects.equals(b1.address(), b2.address()) &&
-                Objects.equals(b1.city(), b2.city());
+    @Bean(name = "migrationLauncherTaskExecutor", defaultCandidate = false)
+    public ThreadPoolTaskExecutor migrationLauncherTaskExecutor() {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("migration-launcher-");
+        return executor;
+    }
+
+    /**
+     * Launcher used by the HTTP endpoints. Runs the job on a single background thread, so requests
+     * return as soon as the execution is created and concurrent launches are queued instead of
+     * running side by side against the target database.
+     */
+    @Bean(name = "asyncMigrationJobLauncher", defaultCandidate = false)
+    public JobLauncher asyncMigrationJobLauncher() {
+        final TaskExecutorJobLauncher jobLauncher = new TaskExecutorJobLauncher();
+        jobLauncher.setJobRepository(jobRepository);
+        jobLauncher.setTaskExecutor(migrationLauncherTaskExecutor());
+        return jobLauncher;
+    }
+
+    /**
+     * Transient target errors (lock timeouts, deadlocks, query timeouts) are retried with exponential
+     * backoff and fail the step once the retries are exhausted, leaving it restartable. Any other
+     * persistence error is treated as a bad row: the chunk is rolled back, rewritten item by item
+     * and only the offending item is skipped, up to the configured skip limit.
+     */
+    private <I, O> FaultTolerantStepBuilder<I, O> faultTolerant(SimpleStepBuilder<I, O> stepBuilder) {
+        final ExponentialBackOffPolicy backOffPolicy = new ExponentialBackOffPolicy();
+        backOffPolicy.setInitialInterval(migrationProperties.retryInitialBackoffMs());
+        backOffPolicy.setMaxInterval(migrationProperties.retryMaxBackoffMs());
+        return stepBuilder.faultTolerant()
+                .retryLimit(migrationProperties.retryLimit())
+                .retry(TransientDataAccessException.class)
+                .retry(PessimisticLockException.class)
+                .retry(LockTimeoutException.class)
+                .retry(QueryTimeoutException.class)
+                .backOffPolicy(backOffPolicy)
+                .skipLimit(migrationProperties.skipLimit())
+                .skip(DataIntegrityViolationException.class)
+                .skip(PersistenceException.class)
+                .noSkip(PessimisticLockException.class)
+                .noSkip(LockTimeoutException.class)
+                .noSkip(QueryTimeoutException.class)
+                .listener(migrationSkipListener);
     }
 
-    private boolean areUsersEqual(User u1, User u2) {
-        if (u1 == u2) return true;
-        if (u1 == null || u2 == null) return false;
+    private void recordUserChanges(List<TargetUserJpaEntity> created, List<TargetUserJpaEntity> updated) {
+        final List<String> userIds = new ArrayList<>(created.size() + updated.size());
+        final List<String> dnis = new ArrayList<>(created.size() + updated.size() * 2);
+        created.forEach(user -> {
+            userIds.add(user.getId());
+            dnis.add(user.getDni());
+        });
+        updated.forEach(user -> {
+            userIds.add(user.getId());
+            dnis.add(user.getDni());
+        });
+        if (!updated.isEmpty()) {
+            dnis.addAll(targetUserJpaRepository.findDnisByIdIn(updated.stream().map(TargetUserJpaEntity::getId).toList()));
+        }
+        migrationChangeTracker.recordUsers(userIds, dnis);
+        migratedMemberNotifier.membersWritten(created, updated);
+    }
 
-        final String b1Id = (u1.branch() != null) ? u1.branch().id() : null;
-        final String b2Id = (u2.branch() != null) ? u2.branch().id() : null;
+    private <T> JpaItemWriter<T> jpaItemWriter() {
+        final JpaItemWriter<T> writer = new JpaItemWriter<>();
+        writer.setEntityManagerFactory(targetEntityManagerFactory);
+        return writer;
+    }
+
+    private static Map<String, Object> changedSinceParameters(String changedSince) {
+        return changedSince == null ? Map.of() : Map.of("since", LocalDateTime.parse(changedSince));
+    }
 
-        return Objects.equals(u1.id(), u2.id()) &&
-                Objects.equals(u1.firstName(), u2.firstName()) &&
-                Objects.equals(u1.lastName(), u2.lastName()) &&
-                Objects.equals(u1.email(), u2.email()) &&
-                Objects.equals(u1.phone(), u2.phone()) &&
-                Objects.equals(u1.dni(), u2.dni()) &&
-                Objects.equals(u1.state(), u2.state()) &&
-                Objects.equals(b1Id, b2Id);
+    private static Map<String, Long> toHashMap(List<ContentHashView> hashes) {
+        final Map<String, Long> hashesById = new HashMap<>(hashes.size() * 2);
+        hashes.forEach(view -> hashesById.put(view.getId(), view.getContentHash()));
+        return hashesById;
     }
 
 }
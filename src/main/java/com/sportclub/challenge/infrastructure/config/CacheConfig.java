@@ -1,4 +1,9 @@
 package com.sportclub.challenge.infrastructure.config;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({DniFilterProperties.class, CacheWarmupProperties.class})
 public class CacheConfig {
 }
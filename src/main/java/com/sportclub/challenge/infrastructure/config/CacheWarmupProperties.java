@@ -0,0 +1,27 @@
+package com.sportclub.challenge.infrastructure.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@ConfigurationProperties(prefix = "app.cache-warmup")
+@Validated
+public record CacheWarmupProperties(
+
+        @DefaultValue("true")
+        boolean enabled,
+
+        @Min(value = 0, message = "Cache warm-up user count (app.cache-warmup.max-users) cannot be negative")
+        @DefaultValue("500")
+        int maxUsers,
+
+        @Min(value = 1, message = "Cache warm-up batch size (app.cache-warmup.batch-size) must be at least 1")
+        @DefaultValue("200")
+        int batchSize,
+
+        @Min(value = 0, message = "Cache warm-up history window (app.cache-warmup.history-days) cannot be negative")
+        @DefaultValue("7")
+        int historyDays
+) {
+}
@@ -0,0 +1,23 @@
+package com.sportclub.challenge.infrastructure.config;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@ConfigurationProperties(prefix = "app.dni-filter")
+@Validated
+public record DniFilterProperties(
+
+        @DecimalMin(value = "0.0001", message = "DNI filter false-positive rate (app.dni-filter.false-positive-rate) must be at least 0.0001")
+        @DecimalMax(value = "0.5", message = "DNI filter false-positive rate (app.dni-filter.false-positive-rate) must be at most 0.5")
+        @DefaultValue("0.01")
+        double falsePositiveRate,
+
+        @Min(value = 1, message = "DNI filter capacity (app.dni-filter.min-expected-dnis) must be at least 1")
+        @DefaultValue("10000")
+        int minExpectedDnis
+) {
+}
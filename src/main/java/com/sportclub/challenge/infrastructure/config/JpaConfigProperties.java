@@ -11,6 +11,8 @@ import java.util.Map;
 public class JpaConfigProperties {
 
     private Boolean showSql;
+    private Integer jdbcBatchSize;
+    private Integer defaultBatchFetchSize;
     private Map<String, String> properties = new HashMap<>();
 
     public Map<String, String> buildHibernateProperties() {
@@ -19,6 +21,14 @@ public class JpaConfigProperties {
         if (this.showSql != null) {
             hibernateProps.put("hibernate.show_sql", String.valueOf(this.showSql));
         }
+        if (this.jdbcBatchSize != null) {
+            hibernateProps.put("hibernate.jdbc.batch_size", String.valueOf(this.jdbcBatchSize));
+            hibernateProps.putIfAbsent("hibernate.order_inserts", "true");
+            hibernateProps.putIfAbsent("hibernate.order_updates", "true");
+        }
+        if (this.defaultBatchFetchSize != null) {
+            hibernateProps.put("hibernate.default_batch_fetch_size", String.valueOf(this.defaultBatchFetchSize));
+        }
         return hibernateProps;
     }
 }
@@ -4,6 +4,7 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 import org.springframework.validation.annotation.Validated;
 
 @ConfigurationProperties(prefix = "app.jwt")
@@ -15,6 +16,15 @@ public record JwtProperties(
                              String secret,
 
                              @Min(value = 300000, message = "JWT expiration (app.jwt.expiration-ms) must be at least 5 minutes (300000 ms)")
-                             long expirationMs
+                             long expirationMs,
+
+                             @Min(value = 0, message = "Verified token cache size (app.jwt.verified-cache-max-size) cannot be negative")
+                             @DefaultValue("10000")
+                             long verifiedCacheMaxSize,
+
+                             @DefaultValue("false")
+                             boolean statelessAuth,
+
+                             String keyRingFile
 ) {
 }
@@ -0,0 +1,35 @@
+package com.sportclub.challenge.infrastructure.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@ConfigurationProperties(prefix = "app.login-rate-limit")
+@Validated
+public record LoginRateLimitProperties(
+
+        @DefaultValue("true")
+        boolean enabled,
+
+        @Min(value = 1, message = "Login burst per DNI (app.login-rate-limit.dni-capacity) must be at least 1")
+        @DefaultValue("5")
+        int dniCapacity,
+
+        @Min(value = 1, message = "Login rate per DNI (app.login-rate-limit.dni-per-minute) must be at least 1")
+        @DefaultValue("5")
+        int dniPerMinute,
+
+        @Min(value = 1, message = "Login burst per address (app.login-rate-limit.address-capacity) must be at least 1")
+        @DefaultValue("20")
+        int addressCapacity,
+
+        @Min(value = 1, message = "Login rate per address (app.login-rate-limit.address-per-minute) must be at least 1")
+        @DefaultValue("60")
+        int addressPerMinute,
+
+        @Min(value = 1, message = "Tracked login keys (app.login-rate-limit.max-tracked-keys) must be at least 1")
+        @DefaultValue("100000")
+        long maxTrackedKeys
+) {
+}
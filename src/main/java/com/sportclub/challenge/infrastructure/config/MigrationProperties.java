@@ -0,0 +1,58 @@
+package com.sportclub.challenge.infrastructure.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@ConfigurationProperties(prefix = "app.migration")
+@Validated
+public record MigrationProperties(
+
+        @Min(value = 1, message = "Migration chunk size (app.migration.chunk-size) must be at least 1")
+        @DefaultValue("100")
+        int chunkSize,
+
+        @Min(value = 1, message = "Migration grid size (app.migration.grid-size) must be at least 1")
+        @DefaultValue("4")
+        int gridSize,
+
+        @Min(value = 0, message = "Migration skip limit (app.migration.skip-limit) cannot be negative")
+        @DefaultValue("100")
+        int skipLimit,
+
+        @Min(value = 1, message = "Migration retry limit (app.migration.retry-limit) must be at least 1")
+        @DefaultValue("3")
+        int retryLimit,
+
+        @Min(value = 1, message = "Migration retry backoff (app.migration.retry-initial-backoff-ms) must be at least 1 ms")
+        @DefaultValue("200")
+        long retryInitialBackoffMs,
+
+        @Min(value = 1, message = "Migration retry backoff (app.migration.retry-max-backoff-ms) must be at least 1 ms")
+        @DefaultValue("5000")
+        long retryMaxBackoffMs,
+
+        @DefaultValue("jdbc")
+        WriterMode writer,
+
+        @Min(value = 1, message = "Migration JDBC batch size (app.migration.jdbc-batch-size) must be at least 1")
+        @DefaultValue("100")
+        int jdbcBatchSize,
+
+        @Min(value = 0, message = "Tracked cache keys (app.migration.max-tracked-cache-keys) cannot be negative")
+        @DefaultValue("10000")
+        int maxTrackedCacheKeys,
+
+        @Min(value = 0, message = "Incremental overlap (app.migration.incremental-overlap-ms) cannot be negative")
+        @DefaultValue("300000")
+        long incrementalOverlapMs
+) {
+
+    public enum WriterMode {
+        /** {@code JpaItemWriter}: one {@code merge()} per entity. */
+        JPA,
+        /** {@code JdbcUpsertItemWriter}: batched upsert statements. */
+        JDBC
+    }
+}
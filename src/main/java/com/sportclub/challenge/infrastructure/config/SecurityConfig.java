@@ -22,7 +22,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(securedEnabled = true, jsr250Enabled = true)
-@EnableConfigurationProperties(JwtProperties.class)
+@EnableConfigurationProperties({JwtProperties.class, LoginRateLimitProperties.class})
 @RequiredArgsConstructor
 public class SecurityConfig {
 
@@ -32,7 +32,11 @@ public class SecurityConfig {
             "/auth/login",
             "/error",
             "/acceso",
+            "/acceso/batch",
             "/migrate",
+            "/migrate/**",
+            "/actuator/health",
+            "/actuator/health/**",
             "/v3/api-docs/**",
             "/swagger-ui/**",
             "/swagger-ui.html",
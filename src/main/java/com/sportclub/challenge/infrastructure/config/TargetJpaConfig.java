@@ -2,6 +2,7 @@ package com.sportclub.challenge.infrastructure.config;
 
 import jakarta.persistence.EntityManagerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -18,6 +19,7 @@ import java.util.Map;
 
 @Configuration
 @EnableTransactionManagement
+@EnableConfigurationProperties(AccessEventProperties.class)
 @EnableJpaRepositories(
         basePackages = "com.sportclub.challenge.adapter.out.persistence.target.repository",
         entityManagerFactoryRef = "targetEntityManagerFactory",
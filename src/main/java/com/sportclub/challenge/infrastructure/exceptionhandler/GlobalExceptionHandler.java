@@ -5,20 +5,25 @@ import com.sportclub.challenge.application.exception.AccountStatusException;
 import com.sportclub.challenge.application.exception.AuthenticationFailedException;
 import com.sportclub.challenge.application.exception.BranchNotFoundException;
 import com.sportclub.challenge.application.exception.InvalidDniFormatException;
+import com.sportclub.challenge.application.exception.InvalidScrollRequestException;
+import com.sportclub.challenge.application.exception.MigrationConflictException;
+import com.sportclub.challenge.application.exception.MigrationExecutionNotFoundException;
 import com.sportclub.challenge.application.exception.MigrationFailedException;
 import com.sportclub.challenge.application.exception.SportClubAccessDeniedException;
+import com.sportclub.challenge.application.exception.TooManyLoginAttemptsException;
 import com.sportclub.challenge.application.exception.UserNotFoundException;
 import com.sportclub.challenge.application.port.out.log.LoggingPort;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
-import java.time.Instant;
 import java.util.stream.Collectors;
 
 @RestControllerAdvice
@@ -51,12 +56,30 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.BAD_REQUEST, "Invalid Input", ex.getMessage(), request);
     }
 
+    @ExceptionHandler(InvalidScrollRequestException.class)
+    public ResponseEntity<ErrorResponseDto> handleInvalidScrollRequest(InvalidScrollRequestException ex, HttpServletRequest request) {
+        log.warn("Invalid scroll request: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, "Invalid Input", ex.getMessage(), request);
+    }
+
     @ExceptionHandler(MigrationFailedException.class)
     public ResponseEntity<ErrorResponseDto> handleMigrationFailed(MigrationFailedException ex, HttpServletRequest request) {
         log.error("Migration failed: {}", ex.getMessage(), ex);
         return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Migration Error", ex.getMessage(), request);
     }
 
+    @ExceptionHandler(MigrationConflictException.class)
+    public ResponseEntity<ErrorResponseDto> handleMigrationConflict(MigrationConflictException ex, HttpServletRequest request) {
+        log.warn("Migration not launched: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.CONFLICT, "Conflict", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(MigrationExecutionNotFoundException.class)
+    public ResponseEntity<ErrorResponseDto> handleMigrationExecutionNotFound(MigrationExecutionNotFoundException ex, HttpServletRequest request) {
+        log.warn("Migration execution not found: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.NOT_FOUND, "Migration Execution Not Found", ex.getMessage(), request);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponseDto> handleAuthenticationFailed(MethodArgumentNotValidException ex, HttpServletRequest request) {
         String errors = ex.getBindingResult().getFieldErrors().stream()
@@ -67,6 +90,13 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.BAD_REQUEST, "Validation Error", message, request);
     }
 
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponseDto> handleArgumentTypeMismatch(MethodArgumentTypeMismatchException ex, HttpServletRequest request) {
+        String message = "Invalid value '" + ex.getValue() + "' for parameter '" + ex.getName() + "'";
+        log.warn(message);
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, "Invalid Input", message, request);
+    }
+
     @ExceptionHandler(AuthenticationFailedException.class)
     public ResponseEntity<ErrorResponseDto> handleBadCredentials(AuthenticationFailedException ex, HttpServletRequest request) {
         log.warn("Authentication failed: {}", ex.getMessage());
@@ -79,6 +109,16 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.UNAUTHORIZED, "Unauthorized", "User account status issue: " + ex.getMessage(), request);
     }
 
+    @ExceptionHandler(TooManyLoginAttemptsException.class)
+    public ResponseEntity<ErrorResponseDto> handleTooManyLoginAttempts(TooManyLoginAttemptsException ex, HttpServletRequest request) {
+        log.warn("Login throttled: {}", ex.getMessage());
+        final ResponseEntity<ErrorResponseDto> response = buildErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", "Too many login attempts. Please try again later.", request);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response.getBody());
+    }
+
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<ErrorResponseDto> handleSpringAccessDenied(AccessDeniedException ex, HttpServletRequest request) {
         log.warn("Authorization failed: {}", ex.getMessage());
@@ -94,13 +134,6 @@ public class GlobalExceptionHandler {
 
 
     private ResponseEntity<ErrorResponseDto> buildErrorResponse(HttpStatus status, String error, String message, HttpServletRequest request) {
-        ErrorResponseDto errorDto = new ErrorResponseDto(
-                Instant.now().toEpochMilli(),
-                status.value(),
-                error,
-                message,
-                request.getRequestURI()
-        );
-        return new ResponseEntity<>(errorDto, status);
+        return new ResponseEntity<>(ErrorResponseDto.of(status, error, message, request.getRequestURI()), status);
     }
 }
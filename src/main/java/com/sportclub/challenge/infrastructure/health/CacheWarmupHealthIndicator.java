@@ -0,0 +1,36 @@
+package com.sportclub.challenge.infrastructure.health;
+
+import com.sportclub.challenge.application.port.out.cache.CacheWarmupPort;
+import com.sportclub.challenge.application.port.out.cache.CacheWarmupStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code cacheWarmup} health contributor: {@code OUT_OF_SERVICE} until the first warm-up has
+ * finished, {@code UP} afterwards. It is part of the readiness group, so
+ * {@code /actuator/health/readiness} keeps the instance out of the load balancer while its
+ * caches are still cold. Later warm-ups (after a migration) do not affect readiness.
+ */
+@Component("cacheWarmup")
+@RequiredArgsConstructor
+public class CacheWarmupHealthIndicator implements HealthIndicator {
+
+    private final CacheWarmupPort cacheWarmupPort;
+
+    @Override
+    public Health health() {
+        final CacheWarmupStatus status = cacheWarmupPort.status();
+        final Health.Builder builder = status.warmedOnce() ? Health.up() : Health.outOfService();
+        builder.withDetail("state", status.state())
+                .withDetail("warmedUsers", status.warmedUsers())
+                .withDetail("warmedBranches", status.warmedBranches())
+                .withDetail("prioritizedByHistory", status.prioritizedByHistory());
+        if (status.completedAt() != null) {
+            builder.withDetail("completedAt", status.completedAt())
+                    .withDetail("durationMs", status.durationMs());
+        }
+        return builder.build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.sportclub.challenge.adapter.in.web.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportclub.challenge.adapter.in.web.dto.request.AccessBatchRequestDto;
 import com.sportclub.challenge.adapter.in.web.dto.request.AccessRequestDto;
 import com.sportclub.challenge.application.port.out.persistence.target.TargetBranchRepositoryPort;
 import com.sportclub.challenge.application.port.out.persistence.target.TargetUserRepositoryPort;
@@ -19,6 +20,8 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -181,4 +184,38 @@ class AccessControllerIT {
                         containsString("DNI must be between 7 and 9 digits")
                 ));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("POST /acceso/batch - Success (200 OK) with one result per DNI in request order")
+    void validateAccessBatch_mixedDnis_shouldReturnResultsInOrder() throws Exception {
+        final AccessBatchRequestDto requestDto = new AccessBatchRequestDto(
+                List.of(AUTHORIZED_DNI, DENIED_DNI, NOT_FOUND_DNI, INVALID_FORMAT_DNI)
+        );
+
+        mockMvc.perform(post("/acceso/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.results.length()", is(4)))
+                .andExpect(jsonPath("$.results[0].dni", is(AUTHORIZED_DNI)))
+                .andExpect(jsonPath("$.results[0].result", is("GRANTED")))
+                .andExpect(jsonPath("$.results[1].result", is("DENIED")))
+                .andExpect(jsonPath("$.results[2].result", is("NOT_FOUND")))
+                .andExpect(jsonPath("$.results[3].dni", is(INVALID_FORMAT_DNI)))
+                .andExpect(jsonPath("$.results[3].result", is("INVALID")));
+    }
+
+    @Test
+    @DisplayName("POST /acceso/batch - Failure (400 Bad Request) for an empty DNI list")
+    void validateAccessBatch_emptyList_shouldReturnBadRequest() throws Exception {
+        final AccessBatchRequestDto requestDto = new AccessBatchRequestDto(List.of());
+
+        mockMvc.perform(post("/acceso/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("Validation Error")))
+                .andExpect(jsonPath("$.message", containsString("DNI list cannot be empty")));
+    }
+}
@@ -30,6 +30,7 @@ import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -104,6 +105,13 @@ class AuthControllerIT {
 
         assertThat(jwtProviderPort.validateToken(token)).isTrue();
         assertThat(jwtProviderPort.getDniFromToken(token)).isPresent().contains(AUTHORIZED_DNI);
+        assertThat(jwtProviderPort.verify(token)).hasValueSatisfying(verified -> {
+            assertThat(verified.subject()).isEqualTo(AUTHORIZED_DNI);
+            assertThat(verified.expiresAt()).isAfter(verified.issuedAt());
+        });
+        assertThat(jwtProviderPort.verify(token).orElseThrow())
+                .as("a reused token is answered from the verified-token cache")
+                .isSameAs(jwtProviderPort.verify(token).orElseThrow());
     }
 
     @Test
@@ -122,7 +130,7 @@ class AuthControllerIT {
                         containsString("User account status issue")
                 ))
                 .andExpect(jsonPath("$.message",
-                        containsString("User account with DNI " + DENIED_DNI
+                        containsString("User account with DNI 2222****"
                                 + " is denied access."
                         )
                 ));
@@ -161,4 +169,24 @@ class AuthControllerIT {
                         containsString("DNI must contain only digits")
                 ));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("POST /auth/login - 429 Too Many Requests once the per-DNI burst is used up")
+    void login_repeatedAttempts_shouldBeThrottled() throws Exception {
+        final String body = objectMapper.writeValueAsString(new LoginRequestDto(AUTHORIZED_DNI));
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(post("/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.status", is(429)))
+                .andExpect(jsonPath("$.error", is("Too Many Requests")));
+    }
+}
@@ -9,6 +9,11 @@ import com.sportclub.challenge.adapter.out.persistence.target.entity.TargetUserJ
 import com.sportclub.challenge.adapter.out.persistence.target.repository.TargetBranchJpaRepository;
 import com.sportclub.challenge.adapter.out.persistence.target.repository.TargetUserJpaRepository;
 import com.sportclub.challenge.domain.model.user.UserState;
+import com.sportclub.challenge.application.port.in.command.MigrationMode;
+import com.sportclub.challenge.application.port.out.persistence.target.TargetUserRepositoryPort;
+import com.sportclub.challenge.domain.model.user.User;
+import com.sportclub.challenge.infrastructure.batch.ChunkDiffItemWriter;
+import com.sportclub.challenge.infrastructure.batch.MigrationWatermarkListener;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,15 +23,21 @@ import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.test.JobLauncherTestUtils;
 import org.springframework.batch.test.JobRepositoryTestUtils;
 import org.springframework.batch.test.context.SpringBatchTest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
 
+import javax.sql.DataSource;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -37,6 +48,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 @SpringBootTest
 @SpringBatchTest
 @ActiveProfiles("test")
+@TestPropertySource(properties = "app.migration.incremental-overlap-ms=0")
 @DisplayName("Integration Tests for DataMigrationJob")
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
 class DataMigrationJobIT {
@@ -69,6 +81,16 @@ class DataMigrationJobIT {
     private TargetBranchJpaRepository targetBranchRepo;
     @Autowired
     private TargetUserJpaRepository targetUserRepo;
+    @Autowired
+    private TargetUserRepositoryPort targetUserRepositoryPort;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    @Qualifier("sourceDataSource")
+    private DataSource sourceDataSource;
+    @Autowired
+    @Qualifier("targetDataSource")
+    private DataSource targetDataSource;
 
     @BeforeEach
     void setUp() {
@@ -153,6 +175,12 @@ class DataMigrationJobIT {
                 .containsExactlyInAnyOrderElementsOf(expected);
     }
 
+    private long sumStepContextCounts(JobExecution jobExecution, String key) {
+        return jobExecution.getStepExecutions().stream()
+                .mapToLong(stepExecution -> stepExecution.getExecutionContext().getLong(key, 0L))
+                .sum();
+    }
+
     @Test
     @DisplayName("Scenario 1: Initial migration with empty target")
     void shouldMigrateDataToEmptyTarget() throws Exception {
@@ -308,6 +336,9 @@ class DataMigrationJobIT {
 
         final JobExecution firstJobExecution = jobLauncherTestUtils.launchJob();
         assertThat(firstJobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(sumStepContextCounts(firstJobExecution, ChunkDiffItemWriter.CREATED_COUNT_KEY)).isEqualTo(2);
+        assertThat(sumStepContextCounts(firstJobExecution, ChunkDiffItemWriter.UPDATED_COUNT_KEY)).isEqualTo(2);
+        assertThat(sumStepContextCounts(firstJobExecution, ChunkDiffItemWriter.IDENTICAL_COUNT_KEY)).isEqualTo(2);
         final long branchCountAfterFirstRun = targetBranchRepo.count();
         final long userCountAfterFirstRun = targetUserRepo.count();
         assertThat(branchCountAfterFirstRun).isEqualTo(3);
@@ -317,6 +348,9 @@ class DataMigrationJobIT {
         jobRepositoryTestUtils.removeJobExecutions();
         final JobExecution secondJobExecution = jobLauncherTestUtils.launchJob();
         assertThat(secondJobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(sumStepContextCounts(secondJobExecution, ChunkDiffItemWriter.CREATED_COUNT_KEY)).isZero();
+        assertThat(sumStepContextCounts(secondJobExecution, ChunkDiffItemWriter.UPDATED_COUNT_KEY)).isZero();
+        assertThat(sumStepContextCounts(secondJobExecution, ChunkDiffItemWriter.IDENTICAL_COUNT_KEY)).isEqualTo(6);
         assertTargetBranchCount(branchCountAfterFirstRun);
         assertTargetUserCount(userCountAfterFirstRun);
         final List<TargetBranchJpaEntity> branchesAfterSecondRun = targetBranchRepo.findAll();
@@ -476,4 +510,143 @@ class DataMigrationJobIT {
         );
     }
 
+    @Test
+    @DisplayName("Scenario 9: Incremental migration should only read source rows changed since the last run")
+    void incrementalMigrationShouldOnlyReadChangedRows() throws Exception {
+        final SourceBranchJpaEntity sourceBranch = setupSourceBranch(BRANCH_OK_ID, "Branch OK", "Addr OK", "City OK");
+        setupSourceUser(USER_OK_ID, "11111111", UserState.AUTHORIZED, sourceBranch);
+        final SourceUserJpaEntity changedUser = setupSourceUser(USER_UPD_ID, "22222222", UserState.AUTHORIZED, sourceBranch);
+
+        final JobExecution fullExecution = jobLauncherTestUtils.launchJob(modeParameters(MigrationMode.FULL));
+        assertThat(fullExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(sumStepContextCounts(fullExecution, ChunkDiffItemWriter.CREATED_COUNT_KEY)).isEqualTo(3);
+
+        changedUser.setState(UserState.DENIED);
+        sourceUserRepo.saveAndFlush(changedUser);
+
+        final JobExecution incrementalExecution = jobLauncherTestUtils.launchJob(modeParameters(MigrationMode.INCREMENTAL));
+        assertThat(incrementalExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(incrementalExecution.getExecutionContext().getString(MigrationWatermarkListener.MODE_KEY))
+                .isEqualTo(MigrationMode.INCREMENTAL.name());
+        assertThat(sumStepContextCounts(incrementalExecution, ChunkDiffItemWriter.CREATED_COUNT_KEY)).isZero();
+        assertThat(sumStepContextCounts(incrementalExecution, ChunkDiffItemWriter.UPDATED_COUNT_KEY)).isEqualTo(1);
+        assertThat(sumStepContextCounts(incrementalExecution, ChunkDiffItemWriter.IDENTICAL_COUNT_KEY)).isZero();
+        assertThat(targetUserRepo.findById(USER_UPD_ID))
+                .hasValueSatisfying(user -> assertThat(user.getState()).isEqualTo(UserState.DENIED));
+    }
+
+    @Test
+    @DisplayName("Scenario 10: Should refresh only the cache entries of changed users")
+    @SuppressWarnings("unchecked")
+    void shouldRefreshOnlyChangedCacheEntries() throws Exception {
+        final Cache usersByDni = cacheManager.getCache("usersByDni");
+        usersByDni.clear();
+        final SourceBranchJpaEntity sourceBranch = setupSourceBranch(BRANCH_OK_ID, "Branch OK", "Addr OK", "City OK");
+        final SourceUserJpaEntity stateChanged = setupSourceUser(USER_UPD_ID, "11111111", UserState.AUTHORIZED, sourceBranch);
+        final SourceUserJpaEntity dniChanged = setupSourceUser(USER_NEW_ID, "22222222", UserState.AUTHORIZED, sourceBranch);
+        setupSourceUser(USER_OK_ID, "33333333", UserState.AUTHORIZED, sourceBranch);
+        assertThat(jobLauncherTestUtils.launchJob().getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        targetUserRepositoryPort.findByDni("11111111");
+        targetUserRepositoryPort.findByDni("22222222");
+        targetUserRepositoryPort.findByDni("33333333");
+        final Object untouchedEntry = usersByDni.get("33333333").get();
+
+        stateChanged.setState(UserState.DENIED);
+        sourceUserRepo.saveAndFlush(stateChanged);
+        dniChanged.setDni("44444444");
+        sourceUserRepo.saveAndFlush(dniChanged);
+        assertThat(jobLauncherTestUtils.launchJob().getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+        final Cache.ValueWrapper refreshed = usersByDni.get("11111111");
+        assertThat(refreshed).as("Changed user stays cached").isNotNull();
+        assertThat((Optional<User>) refreshed.get())
+                .hasValueSatisfying(user -> assertThat(user.state()).isEqualTo(UserState.DENIED));
+        assertThat(usersByDni.get("22222222")).as("Entry under the old DNI is evicted").isNull();
+        assertThat(usersByDni.get("33333333").get()).as("Unchanged user is not reloaded").isSameAs(untouchedEntry);
+    }
+
+    @Test
+    @DisplayName("Scenario 12: Incremental migration should read source rows without last_modified")
+    void incrementalMigrationShouldReadRowsWithoutLastModified() throws Exception {
+        final SourceBranchJpaEntity sourceBranch = setupSourceBranch(BRANCH_OK_ID, "Branch OK", "Addr OK", "City OK");
+        setupSourceUser(USER_OK_ID, "11111111", UserState.AUTHORIZED, sourceBranch);
+        setupSourceUser(USER_UPD_ID, "22222222", UserState.AUTHORIZED, sourceBranch);
+        assertThat(jobLauncherTestUtils.launchJob(modeParameters(MigrationMode.FULL)).getStatus())
+                .isEqualTo(BatchStatus.COMPLETED);
+
+        new JdbcTemplate(sourceDataSource).update(
+                "UPDATE users SET first_name = 'Renamed', last_modified = NULL WHERE id = ?", USER_OK_ID);
+
+        final JobExecution incrementalExecution = jobLauncherTestUtils.launchJob(modeParameters(MigrationMode.INCREMENTAL));
+        assertThat(incrementalExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(incrementalExecution.getExecutionContext().getString(MigrationWatermarkListener.MODE_KEY))
+                .isEqualTo(MigrationMode.INCREMENTAL.name());
+        assertThat(sumStepContextCounts(incrementalExecution, ChunkDiffItemWriter.UPDATED_COUNT_KEY)).isEqualTo(1);
+        assertTargetUserState(USER_OK_ID, "Renamed", UserState.AUTHORIZED, BRANCH_OK_ID);
+    }
+
+    @Test
+    @DisplayName("Scenario 13: A run with skipped items should not advance the watermark")
+    void runWithSkippedItemsShouldNotAdvanceWatermark() throws Exception {
+        final TargetBranchJpaEntity targetBranch = setupTargetBranch(BRANCH_OK_ID, "Branch OK", "Addr OK", "City OK");
+        final TargetUserJpaEntity conflictingUser = setupTargetUser("TU_CONFLICT", "22222222", UserState.AUTHORIZED, targetBranch);
+        final SourceBranchJpaEntity sourceBranch = setupSourceBranch(BRANCH_OK_ID, "Branch OK", "Addr OK", "City OK");
+        setupSourceUser(USER_OK_ID, "11111111", UserState.AUTHORIZED, sourceBranch);
+        setupSourceUser(USER_UPD_ID, "22222222", UserState.AUTHORIZED, sourceBranch);
+
+        final JobExecution fullExecution = jobLauncherTestUtils.launchJob(modeParameters(MigrationMode.FULL));
+        assertThat(fullExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(fullExecution.getStepExecutions())
+                .as("The user whose DNI is taken in the target is skipped")
+                .anySatisfy(step -> assertThat(step.getSkipCount()).isPositive());
+        assertThat(sumStepContextCounts(fullExecution, ChunkDiffItemWriter.CREATED_COUNT_KEY))
+                .as("The rolled-back chunk and the failed write of the scan are not counted")
+                .isEqualTo(1);
+        assertThat(fullExecution.getExecutionContext().containsKey(MigrationWatermarkListener.WATERMARK_KEY)).isFalse();
+        assertThat(targetUserRepo.findById(USER_UPD_ID)).isEmpty();
+
+        targetUserRepo.delete(conflictingUser);
+        final JobExecution nextExecution = jobLauncherTestUtils.launchJob(modeParameters(MigrationMode.INCREMENTAL));
+        assertThat(nextExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(nextExecution.getExecutionContext().getString(MigrationWatermarkListener.MODE_KEY))
+                .as("Without a watermark the skipped row is read again by a full run")
+                .isEqualTo(MigrationMode.FULL.name());
+        assertTargetUserState(USER_UPD_ID, "SrcFName_" + USER_UPD_ID, UserState.AUTHORIZED, BRANCH_OK_ID);
+    }
+
+    @Test
+    @DisplayName("Scenario 14: Identical rows without a stored hash are backfilled once")
+    void shouldBackfillMissingContentHashesOnce() throws Exception {
+        final SourceBranchJpaEntity sourceBranch = setupSourceBranch(BRANCH_OK_ID, "Branch OK", "Addr OK", "City OK");
+        setupSourceUser(USER_OK_ID, "11111111", UserState.AUTHORIZED, sourceBranch);
+        final TargetBranchJpaEntity targetBranch = setupTargetBranch(BRANCH_OK_ID, "Branch OK", "Addr OK", "City OK");
+        targetUserRepo.saveAndFlush(new TargetUserJpaEntity(
+                USER_OK_ID, "SrcFName_" + USER_OK_ID, "SrcLName_" + USER_OK_ID,
+                USER_OK_ID + "@source.test", "SrcPh_" + USER_OK_ID, "11111111", UserState.AUTHORIZED, targetBranch
+        ));
+        final JdbcTemplate targetJdbc = new JdbcTemplate(targetDataSource);
+        targetJdbc.update("UPDATE users SET content_hash = NULL");
+        targetJdbc.update("UPDATE branches SET content_hash = NULL");
+
+        final JobExecution firstExecution = jobLauncherTestUtils.launchJob();
+        assertThat(firstExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(sumStepContextCounts(firstExecution, ChunkDiffItemWriter.UPDATED_COUNT_KEY)).isEqualTo(2);
+        assertThat(targetJdbc.queryForObject("SELECT COUNT(*) FROM users WHERE content_hash IS NULL", Long.class))
+                .as("User hash backfilled")
+                .isZero();
+        assertThat(targetJdbc.queryForObject("SELECT COUNT(*) FROM branches WHERE content_hash IS NULL", Long.class))
+                .as("Branch hash backfilled")
+                .isZero();
+
+        final JobExecution secondExecution = jobLauncherTestUtils.launchJob();
+        assertThat(secondExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(sumStepContextCounts(secondExecution, ChunkDiffItemWriter.UPDATED_COUNT_KEY)).isZero();
+        assertThat(sumStepContextCounts(secondExecution, ChunkDiffItemWriter.IDENTICAL_COUNT_KEY)).isEqualTo(2);
+    }
+
+    private JobParameters modeParameters(MigrationMode mode) {
+        return jobLauncherTestUtils.getUniqueJobParametersBuilder()
+                .addString(MigrationWatermarkListener.MODE_PARAMETER, mode.name(), false)
+                .toJobParameters();
+    }
 }
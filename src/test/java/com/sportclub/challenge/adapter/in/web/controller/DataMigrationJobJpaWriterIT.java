@@ -0,0 +1,9 @@
+package com.sportclub.challenge.adapter.in.web.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "app.migration.writer=jpa")
+@DisplayName("Integration Tests for DataMigrationJob (JPA merge writer)")
+class DataMigrationJobJpaWriterIT extends DataMigrationJobIT {
+}
@@ -1,7 +1,14 @@
 package com.sportclub.challenge.adapter.in.web.controller;
 
+import com.sportclub.challenge.application.exception.MigrationConflictException;
+import com.sportclub.challenge.application.exception.MigrationExecutionNotFoundException;
 import com.sportclub.challenge.application.exception.MigrationFailedException;
+import com.sportclub.challenge.application.port.in.GetMigrationStatusUseCase;
 import com.sportclub.challenge.application.port.in.MigrateDataUseCase;
+import com.sportclub.challenge.application.port.in.command.MigrationMode;
+import com.sportclub.challenge.application.port.in.result.MigrationStatus;
+import com.sportclub.challenge.application.port.in.result.MigrationStepStatus;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -16,13 +23,21 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import static org.hamcrest.Matchers.containsString;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -36,6 +51,8 @@ class MigrationControllerIT {
     private MockMvc mockMvc;
     @Autowired
     private MigrateDataUseCase migrateDataUseCase;
+    @Autowired
+    private GetMigrationStatusUseCase getMigrationStatusUseCase;
     private static final String MIGRATE_ENDPOINT = "/migrate";
 
     @TestConfiguration
@@ -47,6 +64,17 @@ class MigrationControllerIT {
             return Mockito.mock(MigrateDataUseCase.class);
         }
 
+        @Bean
+        @Primary
+        public GetMigrationStatusUseCase mockGetMigrationStatusUseCase() {
+            return Mockito.mock(GetMigrationStatusUseCase.class);
+        }
+
+    }
+
+    @BeforeEach
+    void resetMocks() {
+        reset(migrateDataUseCase, getMigrationStatusUseCase);
     }
 
     @Test
@@ -54,7 +82,7 @@ class MigrationControllerIT {
     @WithMockUser(roles = "ADMIN")
     void triggerMigration_useCaseThrowsException_shouldReturnInternalServerError() throws Exception {
         doThrow(new MigrationFailedException("Test job launch failure", new RuntimeException()))
-                .when(migrateDataUseCase).migrateData();
+                .when(migrateDataUseCase).migrateData(MigrationMode.FULL);
 
         mockMvc.perform(post(MIGRATE_ENDPOINT)
                         .with(csrf()))
@@ -62,6 +90,83 @@ class MigrationControllerIT {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.error", containsString("Migration Error")))
                 .andExpect(jsonPath("$.message", containsString("Test job launch failure")));
-        verify(migrateDataUseCase, times(1)).migrateData();
+        verify(migrateDataUseCase, times(1)).migrateData(MigrationMode.FULL);
+    }
+
+    @Test
+    @DisplayName("POST /migrate/{executionId}/restart - Failure (404 Not Found) when execution does not exist")
+    @WithMockUser(roles = "ADMIN")
+    void restartMigration_unknownExecution_shouldReturnNotFound() throws Exception {
+        doThrow(new MigrationExecutionNotFoundException("Migration execution with ID 42 not found."))
+                .when(migrateDataUseCase).resumeMigration(42L);
+
+        mockMvc.perform(post(MIGRATE_ENDPOINT + "/42/restart")
+                        .with(csrf()))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.message", containsString("42 not found")));
+        verify(migrateDataUseCase, times(1)).resumeMigration(42L);
+    }
+
+    @Test
+    @DisplayName("POST /migrate/{executionId}/restart - Failure (409 Conflict) when the execution already completed")
+    @WithMockUser(roles = "ADMIN")
+    void restartMigration_completedExecution_shouldReturnConflict() throws Exception {
+        doThrow(new MigrationConflictException("Migration job instance already complete: A job instance already exists and is complete",
+                new RuntimeException("Simulated")))
+                .when(migrateDataUseCase).resumeMigration(43L);
+
+        mockMvc.perform(post(MIGRATE_ENDPOINT + "/43/restart")
+                        .with(csrf()))
+                .andExpect(status().isConflict())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.message", containsString("already complete")));
+        verify(migrateDataUseCase, times(1)).resumeMigration(43L);
+    }
+
+    @Test
+    @DisplayName("POST /migrate - Success (202 Accepted) returns the execution ID without waiting for the job")
+    @WithMockUser(roles = "ADMIN")
+    void triggerMigration_shouldReturnAcceptedWithExecutionId() throws Exception {
+        doReturn(12L).when(migrateDataUseCase).migrateData(MigrationMode.FULL);
+
+        mockMvc.perform(post(MIGRATE_ENDPOINT)
+                        .with(csrf()))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/migrate/12"))
+                .andExpect(jsonPath("$.executionId").value(12));
+    }
+
+    @Test
+    @DisplayName("GET /migrate/{executionId} - Success (200 OK) reports progress of the execution")
+    @WithMockUser(roles = "ADMIN")
+    void getMigrationStatus_shouldReturnProgress() throws Exception {
+        final LocalDateTime start = LocalDateTime.of(2025, 1, 1, 10, 0);
+        final MigrationStepStatus branchesStep = new MigrationStepStatus(
+                "migrateBranchesStep", "COMPLETED", 10, 10, 0, 0, 1, start, start.plusSeconds(1), 10.0);
+        when(getMigrationStatusUseCase.getMigrationStatus(12L)).thenReturn(new MigrationStatus(
+                12L, "STARTED", "UNKNOWN", start, null, 110, 60, 20.0, 3L, List.of(branchesStep)));
+
+        mockMvc.perform(get(MIGRATE_ENDPOINT + "/12"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("STARTED"))
+                .andExpect(jsonPath("$.processedItems").value(60))
+                .andExpect(jsonPath("$.estimatedSecondsRemaining").value(3))
+                .andExpect(jsonPath("$.steps[0].stepName").value("migrateBranchesStep"))
+                .andExpect(jsonPath("$.steps[0].writeCount").value(10));
+    }
+
+    @Test
+    @DisplayName("POST /migrate?mode=INCREMENTAL - passes the requested mode to the use case")
+    @WithMockUser(roles = "ADMIN")
+    void triggerMigration_withIncrementalMode_shouldLaunchIncrementalMigration() throws Exception {
+        doReturn(13L).when(migrateDataUseCase).migrateData(MigrationMode.INCREMENTAL);
+
+        mockMvc.perform(post(MIGRATE_ENDPOINT)
+                        .param("mode", "INCREMENTAL")
+                        .with(csrf()))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.executionId").value(13));
+        verify(migrateDataUseCase, times(1)).migrateData(MigrationMode.INCREMENTAL);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,158 @@
+package com.sportclub.challenge.adapter.in.web.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportclub.challenge.adapter.in.web.dto.request.AccessRequestDto;
+import com.sportclub.challenge.adapter.out.persistence.source.entity.SourceBranchJpaEntity;
+import com.sportclub.challenge.adapter.out.persistence.source.entity.SourceUserJpaEntity;
+import com.sportclub.challenge.adapter.out.persistence.source.repository.SourceBranchJpaRepository;
+import com.sportclub.challenge.adapter.out.persistence.source.repository.SourceUserJpaRepository;
+import com.sportclub.challenge.adapter.out.persistence.target.entity.TargetBranchJpaEntity;
+import com.sportclub.challenge.adapter.out.persistence.target.entity.TargetUserJpaEntity;
+import com.sportclub.challenge.adapter.out.persistence.target.repository.TargetBranchJpaRepository;
+import com.sportclub.challenge.adapter.out.persistence.target.repository.TargetUserJpaRepository;
+import com.sportclub.challenge.application.port.out.index.KnownDniFilterPort;
+import com.sportclub.challenge.application.port.out.persistence.target.TargetUserRepositoryPort;
+import com.sportclub.challenge.application.port.out.security.JwtProviderPort;
+import com.sportclub.challenge.application.port.out.security.UserDenylistPort;
+import com.sportclub.challenge.domain.model.user.User;
+import com.sportclub.challenge.domain.model.user.UserState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.JobRepositoryTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doNothing;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Members written by a running migration must be answered correctly before the filters are rebuilt
+ * at the end of the job. The rebuilds are stubbed out after the initial build, so only the
+ * per-chunk notifications can bring the filters up to date.
+ */
+@SpringBootTest
+@SpringBatchTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = "app.jwt.stateless-auth=true")
+@DisplayName("Integration Tests for member filters during a migration")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class MigrationMemberFiltersIT {
+
+    private static final String MIGRATED_DNI = "33333333";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+    @Autowired
+    private JobRepositoryTestUtils jobRepositoryTestUtils;
+    @Autowired
+    @Qualifier("dataMigrationJob")
+    private Job dataMigrationJob;
+    @Autowired
+    private SourceBranchJpaRepository sourceBranchRepo;
+    @Autowired
+    private SourceUserJpaRepository sourceUserRepo;
+    @Autowired
+    private TargetBranchJpaRepository targetBranchRepo;
+    @Autowired
+    private TargetUserJpaRepository targetUserRepo;
+    @Autowired
+    private TargetUserRepositoryPort targetUserRepositoryPort;
+    @Autowired
+    private JwtProviderPort jwtProviderPort;
+    @MockitoSpyBean
+    private KnownDniFilterPort knownDniFilterPort;
+    @MockitoSpyBean
+    private UserDenylistPort userDenylistPort;
+
+    private SourceBranchJpaEntity sourceBranch;
+
+    @BeforeEach
+    void setUp() {
+        jobLauncherTestUtils.setJob(dataMigrationJob);
+        sourceUserRepo.deleteAllInBatch();
+        sourceBranchRepo.deleteAllInBatch();
+        targetUserRepo.deleteAllInBatch();
+        targetBranchRepo.deleteAllInBatch();
+        sourceBranch = sourceBranchRepo.saveAndFlush(
+                new SourceBranchJpaEntity("SB1", "Source Branch", "Addr", "City", null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobRepositoryTestUtils.removeJobExecutions();
+    }
+
+    @Test
+    @DisplayName("POST /acceso - 200 OK for a member inserted by the migration before the filter is rebuilt")
+    void migratedMember_shouldPassKnownDniFilterBeforeRebuild() throws Exception {
+        setupSourceUser(UserState.AUTHORIZED);
+        knownDniFilterPort.rebuild();
+        validateAccess(MIGRATED_DNI).andExpect(status().isNotFound());
+        doNothing().when(knownDniFilterPort).rebuild();
+
+        final JobExecution jobExecution = jobLauncherTestUtils.launchJob();
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+        validateAccess(MIGRATED_DNI).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /usuarios - 401 Unauthorized for claims of a member DENIED by the migration before the denylist is rebuilt")
+    void deniedByMigration_shouldBeRejectedBeforeDenylistRebuild() throws Exception {
+        final TargetBranchJpaEntity targetBranch = targetBranchRepo.saveAndFlush(
+                new TargetBranchJpaEntity("SB1", "Source Branch", "Addr", "City", null));
+        targetUserRepo.saveAndFlush(new TargetUserJpaEntity(
+                "SU1", "Migrated", "Member", "migrated@source.test", "333", MIGRATED_DNI, UserState.AUTHORIZED, targetBranch));
+        setupSourceUser(UserState.DENIED);
+        userDenylistPort.rebuild();
+        final User member = targetUserRepositoryPort.findByDni(MIGRATED_DNI).orElseThrow();
+        final String token = jwtProviderPort.generateToken(member);
+        listUsers(token).andExpect(status().isOk());
+        doNothing().when(userDenylistPort).rebuild();
+
+        final JobExecution jobExecution = jobLauncherTestUtils.launchJob();
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+        listUsers(token).andExpect(status().isUnauthorized());
+    }
+
+    private void setupSourceUser(UserState state) {
+        sourceUserRepo.saveAndFlush(new SourceUserJpaEntity(
+                "SU1", "Migrated", "Member", "migrated@source.test", "333", MIGRATED_DNI, state, sourceBranch));
+    }
+
+    private ResultActions listUsers(String token) throws Exception {
+        return mockMvc.perform(get("/usuarios").header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+    }
+
+    private ResultActions validateAccess(String dni) throws Exception {
+        return mockMvc.perform(post("/acceso")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new AccessRequestDto(dni))));
+    }
+}
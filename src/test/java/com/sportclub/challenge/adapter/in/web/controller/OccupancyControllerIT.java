@@ -0,0 +1,125 @@
+package com.sportclub.challenge.adapter.in.web.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportclub.challenge.adapter.in.web.dto.request.AccessRequestDto;
+import com.sportclub.challenge.application.port.out.persistence.target.TargetBranchRepositoryPort;
+import com.sportclub.challenge.application.port.out.persistence.target.TargetUserRepositoryPort;
+import com.sportclub.challenge.application.port.out.security.JwtProviderPort;
+import com.sportclub.challenge.domain.model.branch.Branch;
+import com.sportclub.challenge.domain.model.user.User;
+import com.sportclub.challenge.domain.model.user.UserState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Integration Tests for OccupancyController (/ocupacion)")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class OccupancyControllerIT {
+
+    private static final String AUTHORIZED_DNI = "11111111";
+    private static final String DENIED_DNI = "22222222";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private TargetUserRepositoryPort userRepositoryPort;
+    @Autowired
+    private TargetBranchRepositoryPort branchRepositoryPort;
+    @Autowired
+    private JwtProviderPort jwtProviderPort;
+
+    private String validToken;
+
+    @BeforeEach
+    void setUp() {
+        final Branch branch = branchRepositoryPort.save(new Branch("B1", "IT Branch", "Tech Street", "Dev City"));
+        userRepositoryPort.save(User.builder()
+                .id("U1")
+                .firstName("Auth")
+                .lastName("User")
+                .email("auth@it.com")
+                .phone("111")
+                .dni(AUTHORIZED_DNI)
+                .state(UserState.AUTHORIZED)
+                .branch(branch)
+                .build());
+        userRepositoryPort.save(User.builder()
+                .id("U2")
+                .firstName("Denied")
+                .lastName("User")
+                .email("denied@it.com")
+                .phone("222")
+                .dni(DENIED_DNI)
+                .state(UserState.DENIED)
+                .branch(branch)
+                .build());
+        validToken = jwtProviderPort.generateToken(AUTHORIZED_DNI);
+    }
+
+    @Test
+    @DisplayName("GET /ocupacion - Success (200 OK) counts only granted entries per branch")
+    void getOccupancy_afterAccesses_shouldCountGrantedEntries() throws Exception {
+        swipe(AUTHORIZED_DNI);
+        swipe(AUTHORIZED_DNI);
+        swipe(DENIED_DNI);
+
+        mockMvc.perform(get("/ocupacion")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + validToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.granularity", is("MINUTE")))
+                .andExpect(jsonPath("$.branches.length()", is(1)))
+                .andExpect(jsonPath("$.branches[0].branchId", is("B1")))
+                .andExpect(jsonPath("$.branches[0].totalEntries", is(2)));
+
+        mockMvc.perform(get("/ocupacion")
+                        .param("granularity", "HOUR")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + validToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.granularity", is("HOUR")))
+                .andExpect(jsonPath("$.branches[0].totalEntries", is(2)));
+    }
+
+    @Test
+    @DisplayName("GET /ocupacion - Failure (400 Bad Request) for an unknown granularity")
+    void getOccupancy_unknownGranularity_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/ocupacion")
+                        .param("granularity", "WEEK")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + validToken))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status", is(400)));
+    }
+
+    @Test
+    @DisplayName("GET /ocupacion - Failure (401 Unauthorized) without a token")
+    void getOccupancy_withoutToken_shouldReturnUnauthorized() throws Exception {
+        mockMvc.perform(get("/ocupacion"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private void swipe(String dni) throws Exception {
+        mockMvc.perform(post("/acceso")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new AccessRequestDto(dni))));
+    }
+}
@@ -0,0 +1,99 @@
+package com.sportclub.challenge.adapter.in.web.controller;
+
+import com.sportclub.challenge.application.port.out.persistence.target.TargetBranchRepositoryPort;
+import com.sportclub.challenge.application.port.out.persistence.target.TargetUserRepositoryPort;
+import com.sportclub.challenge.application.port.out.security.JwtProviderPort;
+import com.sportclub.challenge.domain.model.branch.Branch;
+import com.sportclub.challenge.domain.model.user.User;
+import com.sportclub.challenge.domain.model.user.UserState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = "app.jwt.stateless-auth=true")
+@DisplayName("Integration Tests for claims-only JWT authentication")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class StatelessAuthenticationIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private TargetUserRepositoryPort userRepositoryPort;
+    @Autowired
+    private TargetBranchRepositoryPort branchRepositoryPort;
+    @Autowired
+    private JwtProviderPort jwtProviderPort;
+    @MockitoSpyBean
+    private UserDetailsService userDetailsService;
+
+    private User member;
+
+    @BeforeEach
+    void setUpDatabase() {
+        final Branch branch = branchRepositoryPort.save(new Branch("B1", "IT Branch", "Tech Street", "Dev City"));
+        member = userRepositoryPort.save(User.builder()
+                .id("U1")
+                .firstName("Auth")
+                .lastName("User")
+                .email("auth@it.com")
+                .phone("111")
+                .dni("11111111")
+                .state(UserState.AUTHORIZED)
+                .branch(branch)
+                .build());
+    }
+
+    @Test
+    @DisplayName("GET /usuarios - 200 OK from token claims without loading the user")
+    void getUsers_withClaimsToken_shouldNotLoadUser() throws Exception {
+        final String token = jwtProviderPort.generateToken(member);
+
+        mockMvc.perform(get("/usuarios")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("GET /usuarios - 401 Unauthorized once the member is switched to DENIED")
+    void getUsers_withClaimsTokenOfDeniedMember_shouldBeRejected() throws Exception {
+        final String token = jwtProviderPort.generateToken(member);
+        userRepositoryPort.save(member.withState(UserState.DENIED));
+
+        mockMvc.perform(get("/usuarios")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("GET /usuarios - tokens without user claims still load the user")
+    void getUsers_withPlainToken_shouldLoadUser() throws Exception {
+        final String token = jwtProviderPort.generateToken(member.dni());
+
+        mockMvc.perform(get("/usuarios")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+
+        verify(userDetailsService).loadUserByUsername(member.dni());
+    }
+}
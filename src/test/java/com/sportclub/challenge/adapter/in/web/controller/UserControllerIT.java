@@ -20,11 +20,13 @@ import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -144,6 +146,106 @@ class UserControllerIT {
                 .andExpect(jsonPath("$.content[1].lastName", is("Brown")));
     }
 
+    @Test
+    @DisplayName("GET /usuarios?count=false - Success (200 OK), returns hasNext without totals")
+    void getUsers_withoutCount_shouldReturnSlice() throws Exception {
+        mockMvc.perform(get("/usuarios")
+                        .param("page", "1")
+                        .param("size", "2")
+                        .param("sort", "firstName,asc")
+                        .param("count", "false")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + validToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.currentPage", is(1)))
+                .andExpect(jsonPath("$.pageSize", is(2)))
+                .andExpect(jsonPath("$.hasNext", is(false)))
+                .andExpect(jsonPath("$.totalItems").doesNotExist())
+                .andExpect(jsonPath("$.totalPages").doesNotExist())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].firstName", is("Bob")))
+                .andExpect(jsonPath("$.content[1].firstName", is("Charlie")));
+    }
+
+    @Test
+    @DisplayName("GET /usuarios - cached total is refreshed after a user is saved")
+    void getUsers_afterSave_shouldReturnFreshTotal() throws Exception {
+        mockMvc.perform(get("/usuarios")
+                        .param("size", "2")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + validToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalItems", is(4)));
+
+        userRepositoryPort.save(User.builder()
+                .id("U5")
+                .firstName("Dana")
+                .lastName("White")
+                .email("d@w.com")
+                .phone("555")
+                .dni("55555555")
+                .state(UserState.AUTHORIZED)
+                .branch(branchRepositoryPort.findById("B1").orElseThrow())
+                .build());
+
+        mockMvc.perform(get("/usuarios")
+                        .param("size", "2")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + validToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalItems", is(5)))
+                .andExpect(jsonPath("$.totalPages", is(3)));
+    }
+
+    @Test
+    @DisplayName("GET /usuarios/scroll - Success (200 OK), follows the cursor to the last page")
+    void scrollUsers_shouldFollowCursorToLastPage() throws Exception {
+        final MvcResult firstPage = mockMvc.perform(get("/usuarios/scroll")
+                        .param("size", "2")
+                        .param("sort", "lastName,asc")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + validToken))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.pageSize", is(2)))
+                .andExpect(jsonPath("$.hasNext", is(true)))
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].lastName", is("Brown")))
+                .andExpect(jsonPath("$.content[1].lastName", is("Johnson")))
+                .andReturn();
+        final String cursor = objectMapper.readTree(firstPage.getResponse().getContentAsString())
+                .get("nextCursor").asText();
+
+        mockMvc.perform(get("/usuarios/scroll")
+                        .param("size", "2")
+                        .param("cursor", cursor)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + validToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext", is(false)))
+                .andExpect(jsonPath("$.nextCursor", nullValue()))
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].lastName", is("Smith")))
+                .andExpect(jsonPath("$.content[1].lastName", is("User")));
+    }
+
+    @Test
+    @DisplayName("GET /usuarios/scroll - Failure (400 Bad Request) with a malformed cursor")
+    void scrollUsers_withMalformedCursor_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/usuarios/scroll")
+                        .param("cursor", "not-a-cursor")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + validToken))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("Invalid Input")))
+                .andExpect(jsonPath("$.message", is("Invalid pagination cursor.")));
+    }
+
+    @Test
+    @DisplayName("GET /usuarios/scroll - Failure (400 Bad Request) when sorting by a nullable column")
+    void scrollUsers_withUnsupportedSort_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/usuarios/scroll")
+                        .param("sort", "email,asc")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + validToken))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("Invalid Input")))
+                .andExpect(jsonPath("$.message", containsString("Unsupported sort property 'email'")));
+    }
+
     @Test
     @DisplayName("GET /usuarios - Failure (401 Unauthorized) without token")
     void getUsers_withoutToken_shouldReturnUnauthorized() throws Exception {
@@ -0,0 +1,146 @@
+package com.sportclub.challenge.adapter.out.cache;
+
+import com.sportclub.challenge.adapter.out.persistence.target.entity.TargetBranchJpaEntity;
+import com.sportclub.challenge.adapter.out.persistence.target.entity.TargetUserJpaEntity;
+import com.sportclub.challenge.adapter.out.persistence.target.repository.TargetBranchJpaRepository;
+import com.sportclub.challenge.adapter.out.persistence.target.repository.TargetUserJpaRepository;
+import com.sportclub.challenge.application.port.out.cache.CacheWarmupPort;
+import com.sportclub.challenge.application.port.out.cache.CacheWarmupStatus;
+import com.sportclub.challenge.domain.model.user.UserState;
+import com.sportclub.challenge.infrastructure.health.CacheWarmupHealthIndicator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Integration Tests for TargetCacheWarmupAdapter")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@TestPropertySource(properties = {
+        "spring.datasource.source.url=jdbc:h2:mem:;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.target.properties.hibernate.hbm2ddl.auto=create-drop",
+        "app.cache-warmup.max-users=1"
+})
+class TargetCacheWarmupAdapterIT {
+
+    private static final long WAIT_TIMEOUT_MS = 10_000L;
+    private static final String BRANCH_ID = "B_WARM";
+    private static final String FIRST_DNI = "10000001";
+    private static final String FREQUENT_DNI = "10000002";
+
+    @Autowired
+    private CacheWarmupPort cacheWarmupPort;
+    @Autowired
+    private CacheWarmupHealthIndicator healthIndicator;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private TargetUserJpaRepository userJpaRepository;
+    @Autowired
+    private TargetBranchJpaRepository branchJpaRepository;
+    @Autowired
+    @Qualifier("targetDataSource")
+    private DataSource targetDataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        awaitWarmUpAfter(Instant.EPOCH);
+        jdbcTemplate = new JdbcTemplate(targetDataSource);
+        jdbcTemplate.update("DELETE FROM access_events");
+        userJpaRepository.deleteAllInBatch();
+        branchJpaRepository.deleteAllInBatch();
+        cache("usersByDni").clear();
+        cache("usersById").clear();
+        cache("branchesById").clear();
+
+        final TargetBranchJpaEntity branch = branchJpaRepository.save(
+                new TargetBranchJpaEntity(BRANCH_ID, "Warm Branch", "Addr", "City", null));
+        userJpaRepository.save(new TargetUserJpaEntity("U_WARM_1", "First", "User", "w1@test.com", "111",
+                FIRST_DNI, UserState.AUTHORIZED, branch));
+        userJpaRepository.save(new TargetUserJpaEntity("U_WARM_2", "Frequent", "User", "w2@test.com", "222",
+                FREQUENT_DNI, UserState.AUTHORIZED, branch));
+    }
+
+    @Test
+    @DisplayName("should load the most frequently accessed users first when access history exists")
+    void shouldPrioritizeByAccessHistory() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            jdbcTemplate.update("INSERT INTO access_events (dni, branch_id, decision, occurred_at, latency_micros) "
+                    + "VALUES (?, ?, 'GRANTED', ?, 10)", FREQUENT_DNI, BRANCH_ID, Timestamp.from(Instant.now()));
+        }
+
+        final CacheWarmupStatus status = warmUp();
+
+        assertThat(status.state()).isEqualTo(CacheWarmupStatus.State.WARM);
+        assertThat(status.prioritizedByHistory()).isTrue();
+        assertThat(status.warmedUsers()).isEqualTo(1);
+        assertThat(cache("usersByDni").get(FREQUENT_DNI)).isNotNull();
+        assertThat(cache("usersByDni").get(FIRST_DNI)).isNull();
+        assertThat(cache("usersById").get("U_WARM_2")).isNotNull();
+        assertThat(cache("branchesById").get(BRANCH_ID)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("should fall back to ID order without access history and report UP once warm")
+    void shouldFallBackToIdOrder() throws InterruptedException {
+        final CacheWarmupStatus status = warmUp();
+
+        assertThat(status.prioritizedByHistory()).isFalse();
+        assertThat(cache("usersByDni").get(FIRST_DNI)).isNotNull();
+        assertThat(cache("usersByDni").get(FREQUENT_DNI)).isNull();
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    @DisplayName("should keep entries cached while it runs instead of overwriting them")
+    void shouldNotOverwriteCachedEntries() throws InterruptedException {
+        final Object cachedOnDemand = new Object();
+        cache("usersByDni").put(FIRST_DNI, cachedOnDemand);
+
+        warmUp();
+
+        assertThat(cache("usersByDni").get(FIRST_DNI).get()).isSameAs(cachedOnDemand);
+    }
+
+    private CacheWarmupStatus warmUp() throws InterruptedException {
+        final Instant requestedAt = Instant.now();
+        cacheWarmupPort.warmUp();
+        return awaitWarmUpAfter(requestedAt);
+    }
+
+    private CacheWarmupStatus awaitWarmUpAfter(Instant instant) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + WAIT_TIMEOUT_MS;
+        CacheWarmupStatus status = cacheWarmupPort.status();
+        while ((status.completedAt() == null || status.completedAt().isBefore(instant)
+                || status.state() == CacheWarmupStatus.State.RUNNING) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            status = cacheWarmupPort.status();
+        }
+        assertThat(status.completedAt()).as("warm-up completion").isAfterOrEqualTo(instant);
+        return status;
+    }
+
+    private Cache cache(String name) {
+        final Cache cache = cacheManager.getCache(name);
+        assertThat(cache).isNotNull();
+        return cache;
+    }
+}
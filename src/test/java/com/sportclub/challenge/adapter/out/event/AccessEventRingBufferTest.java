@@ -0,0 +1,93 @@
+package com.sportclub.challenge.adapter.out.event;
+
+import com.sportclub.challenge.application.port.in.result.AccessOutcome;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit Tests for AccessEventRingBuffer")
+class AccessEventRingBufferTest {
+
+    @Test
+    @DisplayName("should round the capacity up to a power of two")
+    void shouldRoundCapacityUp() {
+        assertThat(new AccessEventRingBuffer(1000).capacity()).isEqualTo(1024);
+        assertThat(new AccessEventRingBuffer(1024).capacity()).isEqualTo(1024);
+    }
+
+    @Test
+    @DisplayName("should drain events in publication order")
+    void shouldDrainInOrder() {
+        final AccessEventRingBuffer ringBuffer = new AccessEventRingBuffer(8);
+        ringBuffer.offer("11111111", "B1", AccessOutcome.GRANTED, 1L, 10L);
+        ringBuffer.offer("22222222", null, AccessOutcome.DENIED, 2L, 20L);
+
+        final List<String> drained = new ArrayList<>();
+        final int count = ringBuffer.drain(10, (dni, branchId, outcome, occurredAt, latency) ->
+                drained.add(dni + "/" + branchId + "/" + outcome + "/" + occurredAt + "/" + latency));
+
+        assertThat(count).isEqualTo(2);
+        assertThat(drained).containsExactly("11111111/B1/GRANTED/1/10", "22222222/null/DENIED/2/20");
+        assertThat(ringBuffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("should reject events while full and accept them again once drained")
+    void shouldRejectWhenFull() {
+        final AccessEventRingBuffer ringBuffer = new AccessEventRingBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(ringBuffer.offer("1000000" + i, null, AccessOutcome.GRANTED, i, 0L)).isTrue();
+        }
+
+        assertThat(ringBuffer.offer("99999999", null, AccessOutcome.GRANTED, 5L, 0L)).isFalse();
+        assertThat(ringBuffer.drain(1, (dni, branchId, outcome, occurredAt, latency) -> {
+        })).isEqualTo(1);
+        assertThat(ringBuffer.offer("99999999", null, AccessOutcome.GRANTED, 5L, 0L)).isTrue();
+        assertThat(ringBuffer.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("should deliver every event exactly once with concurrent producers")
+    void shouldNotLoseEventsUnderContention() throws Exception {
+        final int producers = 4;
+        final int eventsPerProducer = 50_000;
+        final AccessEventRingBuffer ringBuffer = new AccessEventRingBuffer(1024);
+        final Set<Long> seen = new HashSet<>();
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(producers);
+        for (int p = 0; p < producers; p++) {
+            final long base = (long) p * eventsPerProducer;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < eventsPerProducer; i++) {
+                    while (!ringBuffer.offer("12345678", null, AccessOutcome.GRANTED, base + i, 0L)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        final long expected = (long) producers * eventsPerProducer;
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (seen.size() < expected && System.nanoTime() < deadline) {
+            ringBuffer.drain(256, (dni, branchId, outcome, occurredAt, latency) ->
+                    assertThat(seen.add(occurredAt)).isTrue());
+        }
+        executor.shutdown();
+
+        assertThat(seen).hasSize((int) expected);
+        assertThat(ringBuffer.size()).isZero();
+    }
+}
@@ -0,0 +1,56 @@
+package com.sportclub.challenge.adapter.out.event;
+
+import com.sportclub.challenge.application.port.in.result.AccessOutcome;
+import com.sportclub.challenge.application.port.out.event.AccessEventPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Integration Tests for RingBufferAccessEventAdapter")
+class RingBufferAccessEventAdapterIT {
+
+    private static final long WAIT_TIMEOUT_MS = 5_000L;
+
+    @Autowired
+    private AccessEventPort accessEventPort;
+
+    @Autowired
+    @Qualifier("targetDataSource")
+    private DataSource targetDataSource;
+
+    @Test
+    @DisplayName("should append published events to access_events in the background")
+    void shouldWritePublishedEvents() throws InterruptedException {
+        final long now = System.currentTimeMillis();
+        assertThat(accessEventPort).isInstanceOf(RingBufferAccessEventAdapter.class);
+        assertThat(accessEventPort.publish("70000001", "B1", AccessOutcome.GRANTED, now, 1_500_000L)).isTrue();
+        assertThat(accessEventPort.publish("70000002", null, AccessOutcome.NOT_FOUND, now, 2_000L)).isTrue();
+
+        final JdbcTemplate jdbcTemplate = new JdbcTemplate(targetDataSource);
+        final String query = "SELECT dni, branch_id, decision, latency_micros FROM access_events "
+                + "WHERE dni IN ('70000001', '70000002') ORDER BY dni";
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(query);
+        final long deadline = System.currentTimeMillis() + WAIT_TIMEOUT_MS;
+        while (rows.size() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            rows = jdbcTemplate.queryForList(query);
+        }
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0)).containsEntry("BRANCH_ID", "B1").containsEntry("DECISION", "GRANTED")
+                .containsEntry("LATENCY_MICROS", 1_500L);
+        assertThat(rows.get(1)).containsEntry("BRANCH_ID", null).containsEntry("DECISION", "NOT_FOUND");
+    }
+}
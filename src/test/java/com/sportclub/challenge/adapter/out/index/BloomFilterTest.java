@@ -0,0 +1,44 @@
+package com.sportclub.challenge.adapter.out.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit Tests for BloomFilter")
+class BloomFilterTest {
+
+    private static final int INSERTED = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    @DisplayName("should never report an added DNI as absent")
+    void shouldHaveNoFalseNegatives() {
+        final BloomFilter filter = new BloomFilter(INSERTED, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < INSERTED; i++) {
+            filter.add(Integer.toString(10_000_000 + i));
+        }
+
+        for (int i = 0; i < INSERTED; i++) {
+            assertThat(filter.mightContain(Integer.toString(10_000_000 + i))).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("should keep the false-positive rate close to the configured one")
+    void shouldStayNearConfiguredFalsePositiveRate() {
+        final BloomFilter filter = new BloomFilter(INSERTED, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < INSERTED; i++) {
+            filter.add(Integer.toString(10_000_000 + i));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < INSERTED; i++) {
+            if (filter.mightContain(Integer.toString(50_000_000 + i))) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / INSERTED).isLessThan(FALSE_POSITIVE_RATE * 2);
+    }
+}
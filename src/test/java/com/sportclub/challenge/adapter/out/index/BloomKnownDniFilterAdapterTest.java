@@ -0,0 +1,117 @@
+package com.sportclub.challenge.adapter.out.index;
+
+import com.sportclub.challenge.application.port.out.log.LoggingPort;
+import com.sportclub.challenge.infrastructure.config.DniFilterProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit Tests for BloomKnownDniFilterAdapter")
+class BloomKnownDniFilterAdapterTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private TypedQuery<Long> countQuery;
+    @Mock
+    private TypedQuery<String> dniQuery;
+    @Mock
+    private LoggingPort logger;
+
+    /** Committed DNIs, as the rebuild query would see them. */
+    private final Queue<String> table = new ConcurrentLinkedQueue<>();
+    private BloomKnownDniFilterAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        when(entityManagerFactory.createEntityManager()).thenReturn(entityManager);
+        when(entityManager.createQuery("SELECT COUNT(u) FROM TargetUserJpaEntity u", Long.class)).thenReturn(countQuery);
+        when(countQuery.getSingleResult()).thenAnswer(invocation -> (long) table.size());
+        when(entityManager.createQuery("SELECT u.dni FROM TargetUserJpaEntity u", String.class)).thenReturn(dniQuery);
+        when(dniQuery.setHint(anyString(), any())).thenReturn(dniQuery);
+        when(dniQuery.getResultStream()).thenAnswer(invocation -> table.stream());
+        adapter = new BloomKnownDniFilterAdapter(
+                entityManagerFactory, new DniFilterProperties(0.01, 10_000), new SimpleMeterRegistry(), logger);
+    }
+
+    @Test
+    @DisplayName("should keep a DNI added by another thread while the rebuild is streaming")
+    void shouldKeepDniAddedDuringRebuild() {
+        table.add("10000000");
+        adapter.rebuild();
+        when(dniQuery.getResultStream()).thenAnswer(invocation -> Stream.of("10000000", "10000001")
+                .peek(dni -> CompletableFuture.runAsync(() -> adapter.add("20000000")).join()));
+
+        adapter.rebuild();
+
+        assertThat(adapter.mightContain("10000000")).isTrue();
+        assertThat(adapter.mightContain("10000001")).isTrue();
+        assertThat(adapter.mightContain("20000000")).isTrue();
+    }
+
+    @Test
+    @DisplayName("should never lose a committed DNI while adds race with repeated rebuilds")
+    void shouldHaveNoFalseNegativesWhenAddsRaceWithRebuilds() throws Exception {
+        for (int i = 0; i < 1_000; i++) {
+            table.add(Integer.toString(10_000_000 + i));
+        }
+        adapter.rebuild();
+        final int writers = 4;
+        final int addsPerWriter = 2_000;
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicBoolean writing = new AtomicBoolean(true);
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            final int base = 30_000_000 + w * addsPerWriter;
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < addsPerWriter; i++) {
+                    final String dni = Integer.toString(base + i);
+                    table.add(dni);
+                    adapter.add(dni);
+                }
+            }));
+        }
+
+        start.countDown();
+        final CompletableFuture<Void> all = CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .whenComplete((result, error) -> writing.set(false));
+        while (writing.get()) {
+            adapter.rebuild();
+        }
+        all.get();
+
+        for (String dni : table) {
+            assertThat(adapter.mightContain(dni)).as("DNI %s", dni).isTrue();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.sportclub.challenge.adapter.out.index;
+
+import com.sportclub.challenge.application.port.out.index.IndexedMember;
+import com.sportclub.challenge.application.port.out.log.LoggingPort;
+import com.sportclub.challenge.application.port.out.persistence.target.TargetBranchRepositoryPort;
+import com.sportclub.challenge.domain.model.branch.Branch;
+import com.sportclub.challenge.domain.model.user.UserState;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit Tests for InMemoryUserAccessIndexAdapter")
+class InMemoryUserAccessIndexAdapterTest {
+
+    private static final Branch CENTRAL = new Branch("B1", "Central", "Addr 1", "City 1");
+    private static final Branch NORTH = new Branch("B2", "North", "Addr 2", "City 2");
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private TypedQuery<Long> countQuery;
+    @Mock
+    private TypedQuery<Object[]> rowQuery;
+    @Mock
+    private TargetBranchRepositoryPort targetBranchRepositoryPort;
+    @Mock
+    private LoggingPort logger;
+
+    /** Rows of {@code dni, state, branch id}, as the rebuild query would return them. */
+    private final List<Object[]> rows = new ArrayList<>();
+    private InMemoryUserAccessIndexAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        when(entityManagerFactory.createEntityManager()).thenReturn(entityManager);
+        when(entityManager.createQuery("SELECT COUNT(u) FROM TargetUserJpaEntity u", Long.class)).thenReturn(countQuery);
+        lenient().when(countQuery.getSingleResult()).thenAnswer(invocation -> (long) rows.size());
+        when(entityManager.createQuery(
+                "SELECT u.dni, u.state, b.id FROM TargetUserJpaEntity u LEFT JOIN u.branch b", Object[].class))
+                .thenReturn(rowQuery);
+        when(rowQuery.setHint(anyString(), any())).thenReturn(rowQuery);
+        when(rowQuery.getResultStream()).thenAnswer(invocation -> new ArrayList<>(rows).stream());
+        when(targetBranchRepositoryPort.findAll()).thenReturn(List.of(CENTRAL, NORTH));
+        adapter = new InMemoryUserAccessIndexAdapter(entityManagerFactory, targetBranchRepositoryPort, logger);
+    }
+
+    @Test
+    @DisplayName("should resolve state and branch of every indexed member")
+    void shouldResolveIndexedMembers() {
+        rows.add(new Object[]{"12345678", UserState.AUTHORIZED, "B1"});
+        rows.add(new Object[]{"11111111", UserState.DENIED, "B2"});
+        rows.add(new Object[]{"22222222", UserState.AUTHORIZED, null});
+
+        assertThat(adapter.isAvailable()).isFalse();
+        adapter.rebuild();
+
+        assertThat(adapter.isAvailable()).isTrue();
+        assertThat(adapter.find(12345678L)).isEqualTo(new IndexedMember(UserState.AUTHORIZED, CENTRAL));
+        assertThat(adapter.find(11111111L)).isEqualTo(new IndexedMember(UserState.DENIED, NORTH));
+        assertThat(adapter.find(22222222L)).isEqualTo(new IndexedMember(UserState.AUTHORIZED, null));
+        assertThat(adapter.find(99999999L)).isNull();
+    }
+
+    @Test
+    @DisplayName("should skip non-numeric DNIs and leave unknown branch ids without a branch")
+    void shouldSkipNonNumericDnisAndUnknownBranches() {
+        rows.add(new Object[]{"ABC123", UserState.AUTHORIZED, "B1"});
+        rows.add(new Object[]{"33333333", UserState.AUTHORIZED, "GONE"});
+
+        adapter.rebuild();
+
+        assertThat(adapter.find(33333333L)).isEqualTo(new IndexedMember(UserState.AUTHORIZED, null));
+    }
+
+    @Test
+    @DisplayName("should replace the previous snapshot on rebuild")
+    void shouldReplaceSnapshotOnRebuild() {
+        rows.add(new Object[]{"12345678", UserState.AUTHORIZED, "B1"});
+        rows.add(new Object[]{"11111111", UserState.AUTHORIZED, "B1"});
+        adapter.rebuild();
+
+        rows.clear();
+        rows.add(new Object[]{"12345678", UserState.DENIED, "B2"});
+        rows.add(new Object[]{"44444444", UserState.AUTHORIZED, "B1"});
+        adapter.rebuild();
+
+        assertThat(adapter.find(12345678L)).isEqualTo(new IndexedMember(UserState.DENIED, NORTH));
+        assertThat(adapter.find(44444444L)).isEqualTo(new IndexedMember(UserState.AUTHORIZED, CENTRAL));
+        assertThat(adapter.find(11111111L)).as("Member removed from the target").isNull();
+    }
+
+    @Test
+    @DisplayName("should index more rows than were counted before streaming")
+    void shouldIndexRowsInsertedAfterCount() {
+        when(countQuery.getSingleResult()).thenReturn(1L);
+        for (int i = 0; i < 1_000; i++) {
+            rows.add(new Object[]{Integer.toString(10_000_000 + i), UserState.AUTHORIZED, "B1"});
+        }
+
+        adapter.rebuild();
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(adapter.find(10_000_000L + i)).as("DNI %d", 10_000_000 + i).isNotNull();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.sportclub.challenge.adapter.out.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Unit Tests for LongIntHashMap")
+class LongIntHashMapTest {
+
+    private static final int MISSING = -1;
+
+    @Test
+    @DisplayName("should return the stored value and the missing value for absent keys")
+    void shouldReturnStoredAndMissingValues() {
+        final LongIntHashMap map = new LongIntHashMap(16);
+        map.put(12345678L, 7);
+        map.put(87654321L, 0);
+
+        assertThat(map.get(12345678L, MISSING)).isEqualTo(7);
+        assertThat(map.get(87654321L, MISSING)).isZero();
+        assertThat(map.get(11111111L, MISSING)).isEqualTo(MISSING);
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should overwrite the value of an existing key without growing")
+    void shouldOverwriteExistingKey() {
+        final LongIntHashMap map = new LongIntHashMap(4);
+        map.put(12345678L, 1);
+        map.put(12345678L, 2);
+
+        assertThat(map.get(12345678L, MISSING)).isEqualTo(2);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should find every key when they collide into a run of neighbouring slots")
+    void shouldProbePastCollisions() {
+        final LongIntHashMap map = new LongIntHashMap(1_000);
+        final int capacity = map.capacity();
+        // Multiples of the capacity keep the same low bits, so many of them share a home slot.
+        for (int i = 1; i <= 500; i++) {
+            map.put((long) i * capacity, i);
+        }
+
+        for (int i = 1; i <= 500; i++) {
+            assertThat(map.get((long) i * capacity, MISSING)).as("key %d", i * capacity).isEqualTo(i);
+        }
+        assertThat(map.get(501L * capacity, MISSING)).isEqualTo(MISSING);
+        assertThat(map.capacity()).isEqualTo(capacity);
+    }
+
+    @Test
+    @DisplayName("should grow past the expected size and keep every entry")
+    void shouldGrowBeyondExpectedSize() {
+        final LongIntHashMap map = new LongIntHashMap(10);
+        final int initialCapacity = map.capacity();
+
+        for (int i = 1; i <= 10_000; i++) {
+            map.put(10_000_000L + i, i);
+        }
+
+        assertThat(map.size()).isEqualTo(10_000);
+        assertThat(map.capacity()).isGreaterThan(initialCapacity);
+        assertThat(map.size()).isLessThanOrEqualTo(map.capacity() * 3 / 4);
+        for (int i = 1; i <= 10_000; i++) {
+            assertThat(map.get(10_000_000L + i, MISSING)).isEqualTo(i);
+        }
+        assertThat(map.get(10_000_000L, MISSING)).isEqualTo(MISSING);
+    }
+
+    @Test
+    @DisplayName("should answer lookups on an empty map and reject the reserved key")
+    void shouldHandleEmptyMapAndReservedKey() {
+        final LongIntHashMap map = new LongIntHashMap(0);
+
+        assertThat(map.get(12345678L, MISSING)).isEqualTo(MISSING);
+        assertThatThrownBy(() -> map.put(0L, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,53 @@
+package com.sportclub.challenge.adapter.out.occupancy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit Tests for BucketRing")
+class BucketRingTest {
+
+    private static final long MINUTE = 60_000L;
+    private static final long NOW = 1_000 * MINUTE + 30_000L;
+
+    @Test
+    @DisplayName("should count increments in the bucket of their period")
+    void shouldCountPerBucket() {
+        final BucketRing ring = new BucketRing(MINUTE, 60);
+        ring.increment(NOW);
+        ring.increment(NOW + 1_000L);
+        ring.increment(NOW - MINUTE);
+
+        assertThat(ring.countAt(NOW, 0)).isEqualTo(2);
+        assertThat(ring.countAt(NOW, 1)).isEqualTo(1);
+        assertThat(ring.countAt(NOW, 2)).isZero();
+        assertThat(ring.startOf(NOW, 0)).isEqualTo(1_000 * MINUTE);
+    }
+
+    @Test
+    @DisplayName("should recycle a slot once its period has left the window")
+    void shouldRecycleExpiredSlots() {
+        final BucketRing ring = new BucketRing(MINUTE, 60);
+        ring.increment(NOW);
+
+        final long anHourLater = NOW + 60 * MINUTE;
+        assertThat(ring.countAt(anHourLater, 0)).isZero();
+        ring.increment(anHourLater);
+
+        assertThat(ring.countAt(anHourLater, 0)).isEqualTo(1);
+        assertThat(ring.countAt(NOW, 0)).isZero();
+    }
+
+    @Test
+    @DisplayName("should ignore late increments for a period that was already recycled")
+    void shouldIgnoreLateIncrements() {
+        final BucketRing ring = new BucketRing(MINUTE, 60);
+        final long anHourLater = NOW + 60 * MINUTE;
+        ring.increment(anHourLater);
+
+        ring.increment(NOW);
+
+        assertThat(ring.countAt(anHourLater, 0)).isEqualTo(1);
+    }
+}
@@ -1,11 +1,14 @@
 package com.sportclub.challenge.adapter.out.persistence.target;
 
+import com.sportclub.challenge.adapter.out.index.NoOpKnownDniFilterAdapter;
+import com.sportclub.challenge.adapter.out.log.Slf4jLoggingAdapter;
 import com.sportclub.challenge.adapter.out.persistence.target.entity.TargetBranchJpaEntity;
 import com.sportclub.challenge.adapter.out.persistence.target.entity.TargetUserJpaEntity;
 import com.sportclub.challenge.adapter.out.persistence.target.mapper.TargetBranchPersistenceMapperImpl;
 import com.sportclub.challenge.adapter.out.persistence.target.mapper.TargetUserPersistenceMapperImpl;
 import com.sportclub.challenge.adapter.out.persistence.target.repository.TargetBranchJpaRepository;
 import com.sportclub.challenge.adapter.out.persistence.target.repository.TargetUserJpaRepository;
+import com.sportclub.challenge.adapter.out.security.adapter.InMemoryUserDenylistAdapter;
 import com.sportclub.challenge.application.port.out.persistence.target.TargetBranchRepositoryPort;
 import com.sportclub.challenge.application.port.out.persistence.target.TargetUserRepositoryPort;
 import com.sportclub.challenge.domain.model.branch.Branch;
@@ -13,6 +16,8 @@ import com.sportclub.challenge.domain.model.user.User;
 import com.sportclub.challenge.domain.model.user.UserState;
 import com.sportclub.challenge.infrastructure.config.DatasourceConfig;
 import com.sportclub.challenge.infrastructure.config.TargetJpaConfig;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,7 +29,9 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
 
 import java.util.Optional;
 
@@ -39,7 +46,14 @@ import static org.junit.jupiter.api.Assertions.assertAll;
         TargetUserRepositoryAdapter.class,
         TargetBranchRepositoryAdapter.class,
         TargetUserPersistenceMapperImpl.class,
-        TargetBranchPersistenceMapperImpl.class
+        TargetBranchPersistenceMapperImpl.class,
+        NoOpKnownDniFilterAdapter.class,
+        InMemoryUserDenylistAdapter.class,
+        Slf4jLoggingAdapter.class
+})
+@TestPropertySource(properties = {
+        "app.dni-filter.enabled=false",
+        "spring.jpa.target.properties.hibernate.generate_statistics=true"
 })
 @DisplayName("Integration Tests for TargetUserRepositoryAdapter using @DataJpaTest")
 class TargetUserRepositoryAdapterDataJpaIT {
@@ -211,4 +225,59 @@ class TargetUserRepositoryAdapterDataJpaIT {
                 () -> assertThat(userSecondPage.getContent().get(0).firstName()).isEqualTo("Charlie")
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("should load a page of users with their branches in a constant number of statements")
+    void findAll_shouldNotLoadBranchesOneByOne() {
+        final Branch[] branches = {
+                savedBranchDomain,
+                targetBranchRepositoryAdapter.save(new Branch("B98", "North Branch", "2 Test St", "Test City")),
+                targetBranchRepositoryAdapter.save(new Branch("B97", "South Branch", "3 Test St", "Test City"))
+        };
+        for (int i = 0; i < 12; i++) {
+            targetUserRepositoryAdapter.save(User.builder()
+                    .id(String.format("U%03d", i))
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .email("user" + i + "@test.com")
+                    .phone("555" + i)
+                    .dni(String.valueOf(10_000_000 + i))
+                    .state(UserState.AUTHORIZED)
+                    .branch(branches[i % branches.length])
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        final Statistics statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+
+        statistics.clear();
+        final Page<User> smallPage = targetUserRepositoryAdapter.findAll(PageRequest.of(0, 3, Sort.by("id")));
+        final long smallPageStatements = statistics.getPrepareStatementCount();
+        entityManager.clear();
+
+        statistics.clear();
+        final Page<User> largePage = targetUserRepositoryAdapter.findAll(PageRequest.of(1, 6, Sort.by("id")));
+        final long largePageStatements = statistics.getPrepareStatementCount();
+        entityManager.clear();
+
+        statistics.clear();
+        final Slice<User> slice = targetUserRepositoryAdapter.findSlice(PageRequest.of(0, 6, Sort.by("id")));
+        final long sliceStatements = statistics.getPrepareStatementCount();
+
+        assertAll(
+                () -> assertThat(smallPage.getContent()).hasSize(3),
+                () -> assertThat(largePage.getContent()).hasSize(6),
+                () -> assertThat(largePage.getContent())
+                        .extracting(user -> user.branch().name())
+                        .containsExactly("Test Branch", "North Branch", "South Branch",
+                                "Test Branch", "North Branch", "South Branch"),
+                () -> assertThat(smallPageStatements).as("page query + count").isEqualTo(2),
+                () -> assertThat(largePageStatements).as("page query + count").isEqualTo(2),
+                () -> assertThat(sliceStatements).as("slice query only").isEqualTo(1),
+                () -> assertThat(slice.hasNext()).isTrue()
+        );
+    }
+}
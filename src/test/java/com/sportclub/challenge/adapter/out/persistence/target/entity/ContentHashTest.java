@@ -0,0 +1,56 @@
+package com.sportclub.challenge.adapter.out.persistence.target.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit Tests for ContentHash")
+class ContentHashTest {
+
+    @Test
+    @DisplayName("should produce the same value for the same fields")
+    void shouldBeStable() {
+        final long first = ContentHash.of("1", "Sede Centro", "Av. Siempre Viva 742", "Buenos Aires");
+        final long second = ContentHash.of("1", "Sede Centro", "Av. Siempre Viva 742", "Buenos Aires");
+
+        assertThat(first).isEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("should change when a single field changes")
+    void shouldChangeWithAnyField() {
+        final long original = ContentHash.of("1", "Sede Centro", "Av. Siempre Viva 742", "Buenos Aires");
+
+        assertThat(ContentHash.of("1", "Sede Centro", "Av. Siempre Viva 743", "Buenos Aires")).isNotEqualTo(original);
+        assertThat(ContentHash.of("1", "Sede Centro", "Av. Siempre Viva 742", "Rosario")).isNotEqualTo(original);
+    }
+
+    @Test
+    @DisplayName("should accept null fields")
+    void shouldBeNullSafe() {
+        assertThat(ContentHash.of((String) null)).isEqualTo(ContentHash.of((String) null));
+        assertThat(ContentHash.of("a", null, "c")).isEqualTo(ContentHash.of("a", null, "c"));
+    }
+
+    @Test
+    @DisplayName("should distinguish null from an empty field")
+    void shouldDistinguishNullFromEmpty() {
+        assertThat(ContentHash.of("a", null)).isNotEqualTo(ContentHash.of("a", ""));
+        assertThat(ContentHash.of((String) null)).isNotEqualTo(ContentHash.of("\u0000"));
+    }
+
+    @Test
+    @DisplayName("should keep field boundaries")
+    void shouldKeepFieldBoundaries() {
+        assertThat(ContentHash.of("ab", "c")).isNotEqualTo(ContentHash.of("a", "bc"));
+        assertThat(ContentHash.of("a", "")).isNotEqualTo(ContentHash.of("a"));
+        assertThat(ContentHash.of("a", "b")).isNotEqualTo(ContentHash.of("a\u001Fb"));
+    }
+
+    @Test
+    @DisplayName("should depend on the field order")
+    void shouldDependOnOrder() {
+        assertThat(ContentHash.of("a", "b")).isNotEqualTo(ContentHash.of("b", "a"));
+    }
+}
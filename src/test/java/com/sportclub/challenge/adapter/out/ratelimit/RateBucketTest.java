@@ -0,0 +1,76 @@
+package com.sportclub.challenge.adapter.out.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit Tests for RateBucket")
+class RateBucketTest {
+
+    private static final long NANOS_PER_TOKEN = 1_000;
+    private static final int CAPACITY = 3;
+
+    @Test
+    @DisplayName("should allow a full burst and then report the wait for the next token")
+    void shouldAllowBurstThenReject() {
+        final RateBucket bucket = new RateBucket(0);
+
+        for (int i = 0; i < CAPACITY; i++) {
+            assertThat(bucket.tryAcquire(0, NANOS_PER_TOKEN, CAPACITY)).isZero();
+        }
+        assertThat(bucket.tryAcquire(0, NANOS_PER_TOKEN, CAPACITY)).isEqualTo(NANOS_PER_TOKEN);
+    }
+
+    @Test
+    @DisplayName("should not consume a token when rejecting")
+    void shouldNotConsumeOnReject() {
+        final RateBucket bucket = new RateBucket(0);
+        drain(bucket, 0);
+
+        assertThat(bucket.tryAcquire(400, NANOS_PER_TOKEN, CAPACITY)).isEqualTo(600);
+        assertThat(bucket.tryAcquire(900, NANOS_PER_TOKEN, CAPACITY)).isEqualTo(100);
+        assertThat(bucket.tryAcquire(1_000, NANOS_PER_TOKEN, CAPACITY)).isZero();
+    }
+
+    @Test
+    @DisplayName("should refill one token per interval")
+    void shouldRefillAtConfiguredRate() {
+        final RateBucket bucket = new RateBucket(0);
+        drain(bucket, 0);
+
+        assertThat(bucket.tryAcquire(NANOS_PER_TOKEN, NANOS_PER_TOKEN, CAPACITY)).isZero();
+        assertThat(bucket.tryAcquire(NANOS_PER_TOKEN, NANOS_PER_TOKEN, CAPACITY)).isEqualTo(NANOS_PER_TOKEN);
+        assertThat(bucket.tryAcquire(2 * NANOS_PER_TOKEN, NANOS_PER_TOKEN, CAPACITY)).isZero();
+    }
+
+    @Test
+    @DisplayName("should cap the refill at the burst size after a long idle period")
+    void shouldCapRefillAtCapacity() {
+        final RateBucket bucket = new RateBucket(0);
+        drain(bucket, 0);
+
+        final long later = 1_000 * NANOS_PER_TOKEN;
+        for (int i = 0; i < CAPACITY; i++) {
+            assertThat(bucket.tryAcquire(later, NANOS_PER_TOKEN, CAPACITY)).isZero();
+        }
+        assertThat(bucket.tryAcquire(later, NANOS_PER_TOKEN, CAPACITY)).isEqualTo(NANOS_PER_TOKEN);
+    }
+
+    @Test
+    @DisplayName("should work with negative clock readings")
+    void shouldHandleNegativeClock() {
+        final long start = -5_000_000_000L;
+        final RateBucket bucket = new RateBucket(start);
+        drain(bucket, start);
+
+        assertThat(bucket.tryAcquire(start, NANOS_PER_TOKEN, CAPACITY)).isEqualTo(NANOS_PER_TOKEN);
+        assertThat(bucket.tryAcquire(start + NANOS_PER_TOKEN, NANOS_PER_TOKEN, CAPACITY)).isZero();
+    }
+
+    private static void drain(RateBucket bucket, long nowNanos) {
+        for (int i = 0; i < CAPACITY; i++) {
+            assertThat(bucket.tryAcquire(nowNanos, NANOS_PER_TOKEN, CAPACITY)).isZero();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.sportclub.challenge.adapter.out.security.adapter;
+
+import com.sportclub.challenge.application.port.out.log.LoggingPort;
+import com.sportclub.challenge.domain.model.user.UserState;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit Tests for InMemoryUserDenylistAdapter")
+class InMemoryUserDenylistAdapterTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private TypedQuery<String> deniedQuery;
+    @Mock
+    private LoggingPort logger;
+
+    private InMemoryUserDenylistAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(entityManagerFactory.createEntityManager()).thenReturn(entityManager);
+        lenient().when(entityManager.createQuery(anyString(), eq(String.class))).thenReturn(deniedQuery);
+        lenient().when(deniedQuery.setParameter("state", UserState.DENIED)).thenReturn(deniedQuery);
+        adapter = new InMemoryUserDenylistAdapter(entityManagerFactory, logger);
+    }
+
+    @Test
+    @DisplayName("should add DENIED members and drop them when they are saved with another state")
+    void shouldTrackStateChanges() {
+        adapter.update("30000000", UserState.DENIED);
+        adapter.update("10000000", UserState.DENIED);
+        adapter.update("20000000", UserState.DENIED);
+        adapter.update("20000000", UserState.DENIED);
+
+        assertThat(adapter.isDenied("10000000")).isTrue();
+        assertThat(adapter.isDenied("20000000")).isTrue();
+        assertThat(adapter.isDenied("30000000")).isTrue();
+
+        adapter.update("20000000", UserState.AUTHORIZED);
+
+        assertThat(adapter.isDenied("10000000")).isTrue();
+        assertThat(adapter.isDenied("20000000")).isFalse();
+        assertThat(adapter.isDenied("30000000")).isTrue();
+    }
+
+    @Test
+    @DisplayName("should never report null, empty or non-numeric DNIs as denied")
+    void shouldIgnoreNonNumericDnis() {
+        adapter.update("12AB5678", UserState.DENIED);
+
+        assertThat(adapter.isDenied("12AB5678")).isFalse();
+        assertThat(adapter.isDenied(null)).isFalse();
+        assertThat(adapter.isDenied("")).isFalse();
+    }
+
+    @Test
+    @DisplayName("should replace the denylist with the DENIED members of the database on rebuild")
+    void shouldRebuildFromDatabase() {
+        adapter.update("99999999", UserState.DENIED);
+        when(deniedQuery.getResultList()).thenReturn(List.of("20000000", "10000000", "BAD"));
+
+        adapter.rebuild();
+
+        assertThat(adapter.isDenied("10000000")).isTrue();
+        assertThat(adapter.isDenied("20000000")).isTrue();
+        assertThat(adapter.isDenied("99999999")).isFalse();
+    }
+
+    @Test
+    @DisplayName("should keep updates committed while the rebuild query was running")
+    void shouldApplyUpdatesMadeDuringRebuild() {
+        when(deniedQuery.getResultList()).thenAnswer(invocation -> {
+            CompletableFuture.runAsync(() -> {
+                adapter.update("30000000", UserState.DENIED);
+                adapter.update("10000000", UserState.AUTHORIZED);
+            }).join();
+            return List.of("10000000", "20000000");
+        });
+
+        adapter.rebuild();
+
+        assertThat(adapter.isDenied("10000000")).isFalse();
+        assertThat(adapter.isDenied("20000000")).isTrue();
+        assertThat(adapter.isDenied("30000000")).isTrue();
+    }
+}
@@ -0,0 +1,143 @@
+package com.sportclub.challenge.adapter.out.security.adapter;
+
+import com.sportclub.challenge.adapter.out.log.Slf4jLoggingAdapter;
+import com.sportclub.challenge.application.port.out.log.LoggingPort;
+import com.sportclub.challenge.infrastructure.config.JwtProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Unit Tests for JwtProviderAdapter key rotation")
+class JwtProviderAdapterKeyRingTest {
+
+    private static final String DNI = "12345678";
+    private static final String KEY_A = "first-key-ring-secret-at-least-32-bytes!";
+    private static final String KEY_B = "second-key-ring-secret-at-least-32-bytes";
+
+    @TempDir
+    Path tempDir;
+    private Path keyRingFile;
+    private JwtProviderAdapter adapter;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        keyRingFile = tempDir.resolve("jwt-keys.properties");
+        writeKeyRing("current=a\nkey.a=" + KEY_A + "\n", Instant.parse("2025-01-01T00:00:00Z"));
+        adapter = new JwtProviderAdapter(
+                new Slf4jLoggingAdapter(),
+                new JwtProperties("unused-secret-because-a-key-ring-is-set", 3_600_000L, 100L, false, keyRingFile.toString()),
+                new SimpleMeterRegistry()
+        );
+        adapter.init();
+    }
+
+    @Test
+    @DisplayName("should keep verifying tokens of a retired signing key while it stays in the ring")
+    void rotation_keepsOldTokensValid() throws IOException {
+        final String oldToken = adapter.generateToken(DNI);
+
+        writeKeyRing("current=b\nkey.b=" + KEY_B + "\nkey.a=" + KEY_A + "\n", Instant.parse("2025-02-01T00:00:00Z"));
+        adapter.reloadKeyRing();
+        final String newToken = adapter.generateToken(DNI);
+
+        assertThat(adapter.getDniFromToken(oldToken)).contains(DNI);
+        assertThat(adapter.getDniFromToken(newToken)).contains(DNI);
+        assertThat(newToken).isNotEqualTo(oldToken);
+    }
+
+    @Test
+    @DisplayName("should reject tokens whose key was removed from the ring")
+    void removedKey_rejectsItsTokens() throws IOException {
+        final String oldToken = adapter.generateToken(DNI);
+        assertThat(adapter.validateToken(oldToken)).isTrue();
+
+        writeKeyRing("current=b\nkey.b=" + KEY_B + "\n", Instant.parse("2025-02-01T00:00:00Z"));
+        adapter.reloadKeyRing();
+
+        assertThat(adapter.validateToken(oldToken)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should not cache a token verified while its key was being removed")
+    void removedKeyDuringVerify_isNotCached() throws IOException {
+        final LoggingPort logger = mock(LoggingPort.class);
+        final JwtProviderAdapter racing = new JwtProviderAdapter(
+                logger,
+                new JwtProperties("unused-secret-because-a-key-ring-is-set", 3_600_000L, 100L, false, keyRingFile.toString()),
+                new SimpleMeterRegistry()
+        );
+        racing.init();
+        final String oldToken = racing.generateToken(DNI);
+        doAnswer(invocation -> {
+            writeKeyRing("current=b\nkey.b=" + KEY_B + "\n", Instant.parse("2025-02-01T00:00:00Z"));
+            racing.reloadKeyRing();
+            return null;
+        }).when(logger).debug("Token validation successful.");
+
+        assertThat(racing.validateToken(oldToken)).isTrue();
+
+        assertThat(racing.validateToken(oldToken)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should keep the previous keys when the reloaded file is invalid")
+    void invalidFile_keepsPreviousRing() throws IOException {
+        final String token = adapter.generateToken(DNI);
+
+        writeKeyRing("current=missing\n", Instant.parse("2025-02-01T00:00:00Z"));
+        adapter.reloadKeyRing();
+
+        assertThat(adapter.validateToken(token)).isTrue();
+    }
+
+    @Test
+    @DisplayName("should start verifying tokens once a key ring that failed at startup is fixed")
+    void invalidFileAtStartup_recoversOnReload() throws IOException {
+        final String token = adapter.generateToken(DNI);
+        writeKeyRing("current=missing\n", Instant.parse("2025-02-01T00:00:00Z"));
+        final JwtProviderAdapter restarted = new JwtProviderAdapter(
+                new Slf4jLoggingAdapter(),
+                new JwtProperties("unused-secret-because-a-key-ring-is-set", 3_600_000L, 100L, false, keyRingFile.toString()),
+                new SimpleMeterRegistry()
+        );
+        restarted.init();
+
+        assertThat(restarted.validateToken(token)).isFalse();
+
+        writeKeyRing("current=a\nkey.a=" + KEY_A + "\n", Instant.parse("2025-03-01T00:00:00Z"));
+        restarted.reloadKeyRing();
+
+        assertThat(restarted.getDniFromToken(token)).contains(DNI);
+    }
+
+    @Test
+    @DisplayName("should reject a token signed with a kid the ring has never known")
+    void unknownKid_isRejected() throws IOException {
+        writeKeyRing("current=b\nkey.b=" + KEY_B + "\n", Instant.parse("2025-02-01T00:00:00Z"));
+        final JwtProviderAdapter other = new JwtProviderAdapter(
+                new Slf4jLoggingAdapter(),
+                new JwtProperties("unused-secret-because-a-key-ring-is-set", 3_600_000L, 100L, false, keyRingFile.toString()),
+                new SimpleMeterRegistry()
+        );
+        other.init();
+
+        assertThat(adapter.validateToken(other.generateToken(DNI))).isFalse();
+    }
+
+    private void writeKeyRing(String content, Instant modifiedAt) throws IOException {
+        Files.writeString(keyRingFile, content);
+        Files.setLastModifiedTime(keyRingFile, FileTime.from(modifiedAt));
+    }
+}
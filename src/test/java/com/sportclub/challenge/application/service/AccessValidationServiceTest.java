@@ -3,7 +3,15 @@ package com.sportclub.challenge.application.service;
 import com.sportclub.challenge.application.exception.InvalidDniFormatException;
 import com.sportclub.challenge.application.exception.SportClubAccessDeniedException;
 import com.sportclub.challenge.application.exception.UserNotFoundException;
+import com.sportclub.challenge.application.port.in.result.AccessDecision;
+import com.sportclub.challenge.application.port.in.result.AccessOutcome;
+import com.sportclub.challenge.application.port.in.result.AccessValidationResult;
+import com.sportclub.challenge.application.port.out.event.AccessEventPort;
+import com.sportclub.challenge.application.port.out.index.KnownDniFilterPort;
+import com.sportclub.challenge.application.port.out.index.IndexedMember;
+import com.sportclub.challenge.application.port.out.index.UserAccessIndexPort;
 import com.sportclub.challenge.application.port.out.log.LoggingPort;
+import com.sportclub.challenge.application.port.out.occupancy.OccupancyCounterPort;
 import com.sportclub.challenge.application.port.out.persistence.target.TargetUserRepositoryPort;
 import com.sportclub.challenge.domain.model.branch.Branch;
 import com.sportclub.challenge.domain.model.user.User;
@@ -17,16 +25,24 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.contains;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +52,14 @@ class AccessValidationServiceTest {
     @Mock
     private TargetUserRepositoryPort targetUserRepositoryPort;
     @Mock
+    private UserAccessIndexPort userAccessIndexPort;
+    @Mock
+    private KnownDniFilterPort knownDniFilterPort;
+    @Mock
+    private AccessEventPort accessEventPort;
+    @Mock
+    private OccupancyCounterPort occupancyCounterPort;
+    @Mock
     private LoggingPort logger;
     @InjectMocks
     private AccessValidationService accessValidationService;
@@ -57,6 +81,7 @@ class AccessValidationServiceTest {
                 "U002", "Denied", "User", "denied@test.com", "222", DENIED_DNI,
                 UserState.DENIED, testBranch
         );
+        lenient().when(knownDniFilterPort.mightContain(anyString())).thenReturn(true);
     }
 
     @Nested
@@ -119,6 +144,19 @@ class AccessValidationServiceTest {
             verify(logger).info(contains("Attempting access"), eq(NON_EXISTENT_DNI));
             verify(targetUserRepositoryPort).findByDni(NON_EXISTENT_DNI);
             verify(logger).warn(contains("User with DNI " + NON_EXISTENT_DNI + " not found."));
+            verify(knownDniFilterPort).recordFalsePositive();
+        }
+
+        @Test
+        @DisplayName("Should throw UserNotFoundException without a repository lookup when the filter rules the DNI out")
+        void shouldRejectDniRuledOutByFilter() {
+            when(knownDniFilterPort.mightContain(NON_EXISTENT_DNI)).thenReturn(false);
+
+            assertThatThrownBy(() -> accessValidationService.validateAccessByDni(NON_EXISTENT_DNI))
+                    .isInstanceOf(UserNotFoundException.class)
+                    .hasMessageContaining("User with DNI " + NON_EXISTENT_DNI + " not found.");
+            verify(targetUserRepositoryPort, never()).findByDni(anyString());
+            verify(knownDniFilterPort, never()).recordFalsePositive();
         }
     }
 
@@ -154,7 +192,7 @@ class AccessValidationServiceTest {
             assertThat(resultUser).isNotNull();
             assertThat(resultUser.dni()).isEqualTo(VALID_DNI);
             assertThat(resultUser.state()).isEqualTo(UserState.AUTHORIZED);
-            assertThat(resultUser).isEqualTo(authorizedUser);
+            assertThat(resultUser.branch()).isEqualTo(authorizedUser.branch());
             verify(logger).info(contains("Attempting access"), eq(VALID_DNI));
             verify(targetUserRepositoryPort).findByDni(VALID_DNI);
             verify(logger).info(contains("Access granted for user with DNI"), eq(VALID_DNI), eq(UserState.AUTHORIZED));
@@ -163,4 +201,198 @@ class AccessValidationServiceTest {
             verify(logger, never()).error(anyString(), any(Throwable.class), any());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Access Index Lookup")
+    class AccessIndexLookup {
+
+        @BeforeEach
+        void enableIndex() {
+            when(userAccessIndexPort.isAvailable()).thenReturn(true);
+        }
+
+        @Test
+        @DisplayName("Should resolve an AUTHORIZED user from the index without touching the repository")
+        void shouldReturnUserFromIndex() {
+            when(userAccessIndexPort.find(12345678L))
+                    .thenReturn(new IndexedMember(UserState.AUTHORIZED, authorizedUser.branch()));
+
+            final User resultUser = accessValidationService.validateAccessByDni(VALID_DNI);
+
+            assertThat(resultUser.dni()).isEqualTo(VALID_DNI);
+            assertThat(resultUser.state()).isEqualTo(UserState.AUTHORIZED);
+            assertThat(resultUser.branch()).isEqualTo(authorizedUser.branch());
+            verify(targetUserRepositoryPort, never()).findByDni(anyString());
+        }
+
+        @Test
+        @DisplayName("Should return Granted with the indexed state and branch")
+        void shouldGrantFromIndex() {
+            when(userAccessIndexPort.find(12345678L))
+                    .thenReturn(new IndexedMember(UserState.AUTHORIZED, authorizedUser.branch()));
+
+            final AccessDecision decision = accessValidationService.decideAccess(VALID_DNI);
+
+            assertThat(decision).isEqualTo(
+                    new AccessDecision.Granted(VALID_DNI, UserState.AUTHORIZED, authorizedUser.branch()));
+            verify(occupancyCounterPort).recordEntry(eq("B001"), anyLong());
+            verifyNoInteractions(logger);
+        }
+
+        @Test
+        @DisplayName("Should throw UserNotFoundException when the DNI is not indexed")
+        void shouldThrowUserNotFoundWhenNotIndexed() {
+            when(userAccessIndexPort.find(99999999L)).thenReturn(null);
+
+            assertThatThrownBy(() -> accessValidationService.validateAccessByDni(NON_EXISTENT_DNI))
+                    .isInstanceOf(UserNotFoundException.class)
+                    .hasMessageContaining("User with DNI " + NON_EXISTENT_DNI + " not found.");
+            verify(targetUserRepositoryPort, never()).findByDni(anyString());
+        }
+
+        @Test
+        @DisplayName("Should throw SportClubAccessDeniedException when the indexed state is DENIED")
+        void shouldDenyAccessFromIndex() {
+            when(userAccessIndexPort.find(11111111L)).thenReturn(new IndexedMember(UserState.DENIED, null));
+
+            assertThatThrownBy(() -> accessValidationService.validateAccessByDni(DENIED_DNI))
+                    .isInstanceOf(SportClubAccessDeniedException.class)
+                    .hasMessageContaining("User state is DENIED.");
+            verify(targetUserRepositoryPort, never()).findByDni(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Access Decision")
+    class AccessDecisionCheck {
+
+        @Test
+        @DisplayName("Should return Granted with the user for an AUTHORIZED member")
+        void shouldGrantAuthorizedUser() {
+            when(targetUserRepositoryPort.findByDni(VALID_DNI)).thenReturn(Optional.of(authorizedUser));
+
+            final AccessDecision decision = accessValidationService.decideAccess(VALID_DNI);
+
+            assertThat(decision).isEqualTo(
+                    new AccessDecision.Granted(VALID_DNI, UserState.AUTHORIZED, authorizedUser.branch()));
+            verify(occupancyCounterPort).recordEntry(eq("B001"), anyLong());
+        }
+
+        @Test
+        @DisplayName("Should return Denied without throwing or logging a warning for a DENIED member")
+        void shouldDenyWithoutException() {
+            when(targetUserRepositoryPort.findByDni(DENIED_DNI)).thenReturn(Optional.of(deniedUser));
+
+            final AccessDecision decision = accessValidationService.decideAccess(DENIED_DNI);
+
+            assertThat(decision).isEqualTo(new AccessDecision.Denied(DENIED_DNI, deniedUser.branch()));
+            verify(occupancyCounterPort, never()).recordEntry(anyString(), anyLong());
+            verifyNoInteractions(logger);
+        }
+
+        @Test
+        @DisplayName("Should publish an access event with the member's branch for every decision")
+        void shouldPublishAccessEvent() {
+            when(targetUserRepositoryPort.findByDni(DENIED_DNI)).thenReturn(Optional.of(deniedUser));
+
+            accessValidationService.decideAccess(DENIED_DNI);
+            accessValidationService.decideAccess(INVALID_DNI_FORMAT);
+
+            verify(accessEventPort).publish(eq(DENIED_DNI), eq("B001"), eq(AccessOutcome.DENIED), anyLong(), anyLong());
+            verify(accessEventPort).publish(eq(INVALID_DNI_FORMAT), eq(null), eq(AccessOutcome.INVALID), anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("Should return Unknown and count a false positive when the filter lets a missing DNI through")
+        void shouldReturnUnknownForMissingUser() {
+            when(targetUserRepositoryPort.findByDni(NON_EXISTENT_DNI)).thenReturn(Optional.empty());
+
+            final AccessDecision decision = accessValidationService.decideAccess(NON_EXISTENT_DNI);
+
+            assertThat(decision).isEqualTo(new AccessDecision.Unknown(NON_EXISTENT_DNI));
+            verify(knownDniFilterPort).recordFalsePositive();
+        }
+
+        @Test
+        @DisplayName("Should return Invalid without a lookup for a malformed DNI")
+        void shouldReturnInvalidForMalformedDni() {
+            final AccessDecision decision = accessValidationService.decideAccess(INVALID_DNI_FORMAT);
+
+            assertThat(decision).isEqualTo(new AccessDecision.Invalid(INVALID_DNI_FORMAT));
+            verify(targetUserRepositoryPort, never()).findByDni(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch Access Validation")
+    class BatchValidation {
+
+        @Test
+        @DisplayName("Should resolve every DNI with a single repository call and keep the request order")
+        void shouldResolveBatchWithSingleLookup() {
+            when(targetUserRepositoryPort.findAllByDni(Set.of(VALID_DNI, DENIED_DNI)))
+                    .thenReturn(List.of(authorizedUser, deniedUser));
+
+            final List<AccessValidationResult> results = accessValidationService.validateAccessBatch(
+                    List.of(DENIED_DNI, VALID_DNI, INVALID_DNI_FORMAT, NON_EXISTENT_DNI, VALID_DNI)
+            );
+
+            assertThat(results).extracting(AccessValidationResult::outcome).containsExactly(
+                    AccessOutcome.DENIED, AccessOutcome.GRANTED, AccessOutcome.INVALID,
+                    AccessOutcome.NOT_FOUND, AccessOutcome.GRANTED
+            );
+            assertThat(results).extracting(AccessValidationResult::dni).containsExactly(
+                    DENIED_DNI, VALID_DNI, INVALID_DNI_FORMAT, NON_EXISTENT_DNI, VALID_DNI
+            );
+            verify(targetUserRepositoryPort, times(1)).findAllByDni(anyCollection());
+            verify(targetUserRepositoryPort, never()).findByDni(anyString());
+        }
+
+        @Test
+        @DisplayName("Should record occupancy and publish an event with the member's branch for every entry")
+        void shouldRecordEveryBatchEntry() {
+            when(targetUserRepositoryPort.findAllByDni(Set.of(VALID_DNI, DENIED_DNI)))
+                    .thenReturn(List.of(authorizedUser, deniedUser));
+
+            accessValidationService.validateAccessBatch(
+                    List.of(VALID_DNI, DENIED_DNI, NON_EXISTENT_DNI, VALID_DNI)
+            );
+
+            verify(occupancyCounterPort, times(2)).recordEntry(eq("B001"), anyLong());
+            verify(accessEventPort, times(2)).publish(eq(VALID_DNI), eq("B001"), eq(AccessOutcome.GRANTED), anyLong(), anyLong());
+            verify(accessEventPort).publish(eq(DENIED_DNI), eq("B001"), eq(AccessOutcome.DENIED), anyLong(), anyLong());
+            verify(accessEventPort).publish(eq(NON_EXISTENT_DNI), eq(null), eq(AccessOutcome.NOT_FOUND), anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("Should skip the repository when no DNI is well-formed")
+        void shouldSkipRepositoryForInvalidOnlyBatch() {
+            final List<AccessValidationResult> results = accessValidationService.validateAccessBatch(
+                    Arrays.asList(INVALID_DNI_FORMAT, null)
+            );
+
+            assertThat(results).extracting(AccessValidationResult::outcome)
+                    .containsExactly(AccessOutcome.INVALID, AccessOutcome.INVALID);
+            verify(targetUserRepositoryPort, never()).findAllByDni(anyCollection());
+        }
+
+        @Test
+        @DisplayName("Should resolve the batch from the index when it is loaded")
+        void shouldResolveBatchFromIndex() {
+            when(userAccessIndexPort.isAvailable()).thenReturn(true);
+            when(userAccessIndexPort.find(12345678L))
+                    .thenReturn(new IndexedMember(UserState.AUTHORIZED, authorizedUser.branch()));
+            when(userAccessIndexPort.find(99999999L)).thenReturn(null);
+
+            final List<AccessValidationResult> results = accessValidationService.validateAccessBatch(
+                    List.of(VALID_DNI, NON_EXISTENT_DNI)
+            );
+
+            assertThat(results).extracting(AccessValidationResult::outcome)
+                    .containsExactly(AccessOutcome.GRANTED, AccessOutcome.NOT_FOUND);
+            verify(targetUserRepositoryPort, never()).findAllByDni(anyCollection());
+            verify(occupancyCounterPort).recordEntry(eq("B001"), anyLong());
+            verify(accessEventPort).publish(eq(VALID_DNI), eq("B001"), eq(AccessOutcome.GRANTED), anyLong(), anyLong());
+        }
+    }
+}
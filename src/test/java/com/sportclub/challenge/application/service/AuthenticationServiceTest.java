@@ -2,9 +2,12 @@ package com.sportclub.challenge.application.service;
 
 import com.sportclub.challenge.application.exception.AccountStatusException;
 import com.sportclub.challenge.application.exception.AuthenticationFailedException;
+import com.sportclub.challenge.application.exception.TooManyLoginAttemptsException;
 import com.sportclub.challenge.application.port.in.command.LoginCommand;
+import com.sportclub.challenge.application.port.out.index.KnownDniFilterPort;
 import com.sportclub.challenge.application.port.out.log.LoggingPort;
 import com.sportclub.challenge.application.port.out.persistence.target.TargetUserRepositoryPort;
+import com.sportclub.challenge.application.port.out.ratelimit.LoginRateLimiterPort;
 import com.sportclub.challenge.application.port.out.security.JwtProviderPort;
 import com.sportclub.challenge.domain.model.branch.Branch;
 import com.sportclub.challenge.domain.model.user.User;
@@ -21,8 +24,10 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -38,6 +43,10 @@ class AuthenticationServiceTest {
     @Mock
     private JwtProviderPort jwtProviderPort;
     @Mock
+    private KnownDniFilterPort knownDniFilterPort;
+    @Mock
+    private LoginRateLimiterPort loginRateLimiterPort;
+    @Mock
     private LoggingPort logger;
 
     @InjectMocks
@@ -49,6 +58,7 @@ class AuthenticationServiceTest {
     private User authorizedUser;
     private User deniedUser;
     private final String DUMMY_TOKEN = "dummy.jwt.token";
+    private static final String CLIENT_ADDRESS = "10.0.0.1";
 
     @BeforeEach
     void setUp() {
@@ -73,24 +83,25 @@ class AuthenticationServiceTest {
                 .state(UserState.DENIED)
                 .branch(testBranch)
                 .build();
-        loginCommandAuthorized = new LoginCommand("12345678");
-        loginCommandDenied = new LoginCommand("87654321");
-        loginCommandNotFound = new LoginCommand("00000000");
+        loginCommandAuthorized = new LoginCommand("12345678", CLIENT_ADDRESS);
+        loginCommandDenied = new LoginCommand("87654321", CLIENT_ADDRESS);
+        loginCommandNotFound = new LoginCommand("00000000", CLIENT_ADDRESS);
+        lenient().when(knownDniFilterPort.mightContain(anyString())).thenReturn(true);
     }
 
     @Test
     @DisplayName("should return JWT token when login is successful for authorized user")
     void login_success() {
         when(userRepositoryPort.findByDni(authorizedUser.dni())).thenReturn(Optional.of(authorizedUser));
-        when(jwtProviderPort.generateToken(authorizedUser.dni())).thenReturn(DUMMY_TOKEN);
+        when(jwtProviderPort.generateToken(authorizedUser)).thenReturn(DUMMY_TOKEN);
 
         final String token = authenticationService.login(loginCommandAuthorized);
 
         assertThat(token).isEqualTo(DUMMY_TOKEN);
-        verify(logger).info("Login attempt for DNI: {}", authorizedUser.dni());
+        verify(logger).info("Login attempt for DNI: {}", "1234****");
         verify(userRepositoryPort).findByDni(authorizedUser.dni());
-        verify(jwtProviderPort).generateToken(authorizedUser.dni());
-        verify(logger).info("Login successful for DNI: {}. Token generated.", authorizedUser.dni());
+        verify(jwtProviderPort).generateToken(authorizedUser);
+        verify(logger).info("Login successful for DNI: {}. Token generated.", "1234****");
         verifyNoMoreInteractions(logger, userRepositoryPort, jwtProviderPort);
     }
 
@@ -101,14 +112,27 @@ class AuthenticationServiceTest {
 
         assertThatThrownBy(() -> authenticationService.login(loginCommandNotFound))
                 .isInstanceOf(AuthenticationFailedException.class)
-                .hasMessageContaining("Authentication failed: Invalid credentials for DNI: " + loginCommandNotFound.dni());
-        verify(logger).info("Login attempt for DNI: {}", loginCommandNotFound.dni());
+                .hasMessageContaining("Authentication failed: Invalid credentials for DNI: 0000****");
+        verify(logger).info("Login attempt for DNI: {}", "0000****");
         verify(userRepositoryPort).findByDni(loginCommandNotFound.dni());
-        verify(logger).warn("Authentication failed: Invalid credentials for DNI: " + loginCommandNotFound.dni());
+        verify(logger).warn("Authentication failed: Invalid credentials for DNI: 0000****");
+        verify(knownDniFilterPort).recordFalsePositive();
         verifyNoInteractions(jwtProviderPort);
         verify(logger, never()).info(contains("Login successful"));
     }
 
+    @Test
+    @DisplayName("should reject a DNI ruled out by the known-DNI filter without querying the repository")
+    void login_dniRejectedByFilter_throwsWithoutRepositoryLookup() {
+        when(knownDniFilterPort.mightContain(loginCommandNotFound.dni())).thenReturn(false);
+
+        assertThatThrownBy(() -> authenticationService.login(loginCommandNotFound))
+                .isInstanceOf(AuthenticationFailedException.class)
+                .hasMessageContaining("Authentication failed: Invalid credentials for DNI: 0000****");
+        verifyNoInteractions(userRepositoryPort, jwtProviderPort);
+        verify(knownDniFilterPort, never()).recordFalsePositive();
+    }
+
     @Test
     @DisplayName("should throw DisabledException when user state is DENIED")
     void login_userDenied_throwsDisabledException() {
@@ -116,11 +140,25 @@ class AuthenticationServiceTest {
 
         assertThatThrownBy(() -> authenticationService.login(loginCommandDenied))
                 .isInstanceOf(AccountStatusException.class)
-                .hasMessageContaining("Authentication failed: User account with DNI " + deniedUser.dni() + " is denied access.");
-        verify(logger).info("Login attempt for DNI: {}", deniedUser.dni());
+                .hasMessageContaining("Authentication failed: User account with DNI 8765**** is denied access.");
+        verify(logger).info("Login attempt for DNI: {}", "8765****");
         verify(userRepositoryPort).findByDni(deniedUser.dni());
-        verify(logger).warn(eq("Authentication failed: User account with DNI " + deniedUser.dni() + " is denied access."));
+        verify(logger).warn(eq("Authentication failed: User account with DNI 8765**** is denied access."));
         verifyNoInteractions(jwtProviderPort);
         verify(logger, never()).info(contains("Login successful"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("should throw TooManyLoginAttemptsException before any lookup when the rate limit is exceeded")
+    void login_rateLimited_throwsBeforeAnyLookup() {
+        when(loginRateLimiterPort.tryAcquire(loginCommandAuthorized.dni(), CLIENT_ADDRESS)).thenReturn(12L);
+
+        assertThatThrownBy(() -> authenticationService.login(loginCommandAuthorized))
+                .isInstanceOf(TooManyLoginAttemptsException.class)
+                .satisfies(ex -> assertThat(((TooManyLoginAttemptsException) ex).getRetryAfterSeconds()).isEqualTo(12L))
+                .hasMessageContaining("1234****")
+                .hasMessageNotContaining(loginCommandAuthorized.dni());
+        verify(logger).warn(contains("1234****"));
+        verifyNoInteractions(knownDniFilterPort, userRepositoryPort, jwtProviderPort);
+    }
+}
@@ -0,0 +1,30 @@
+package com.sportclub.challenge.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit Tests for DniFormat")
+class DniFormatTest {
+
+    @Test
+    @DisplayName("Should parse DNIs of 7 to 9 digits to their numeric value")
+    void shouldParseValidDnis() {
+        assertThat(DniFormat.parse("1234567")).isEqualTo(1_234_567L);
+        assertThat(DniFormat.parse("01234567")).isEqualTo(1_234_567L);
+        assertThat(DniFormat.parse("999999999")).isEqualTo(999_999_999L);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"123456", "1234567890", "123ABC78", "1234 567", "-1234567", "１２３４５６７"})
+    @DisplayName("Should reject null, wrongly sized and non-ASCII-digit DNIs")
+    void shouldRejectMalformedDnis(String dni) {
+        assertThat(DniFormat.parse(dni)).isEqualTo(DniFormat.INVALID);
+        assertThat(DniFormat.isValid(dni)).isFalse();
+    }
+}
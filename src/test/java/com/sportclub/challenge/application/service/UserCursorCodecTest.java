@@ -0,0 +1,49 @@
+package com.sportclub.challenge.application.service;
+
+import com.sportclub.challenge.application.exception.InvalidScrollRequestException;
+import com.sportclub.challenge.domain.model.user.UserScrollPosition;
+import com.sportclub.challenge.domain.model.user.UserSortKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Unit Tests for UserCursorCodec")
+class UserCursorCodecTest {
+
+    @Test
+    @DisplayName("Should decode an encoded position back to the same position")
+    void shouldRoundTripPosition() {
+        final UserScrollPosition position = new UserScrollPosition(UserSortKey.LAST_NAME, false, "O'Brien, Núñez", "U-42");
+
+        final String cursor = UserCursorCodec.encode(position);
+
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+        assertThat(UserCursorCodec.decode(cursor)).isEqualTo(position);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "djE", "djEfTkFNRR9BH1UxH3g", "djEfTEFTVF9OQU1FH1gfVTEfeA"})
+    @DisplayName("Should reject cursors that are not valid base64 or do not hold a position")
+    void shouldRejectMalformedCursors(String cursor) {
+        assertThatThrownBy(() -> UserCursorCodec.decode(cursor))
+                .isInstanceOf(InvalidScrollRequestException.class)
+                .hasMessage("Invalid pagination cursor.");
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor without the ID of the last user")
+    void shouldRejectCursorWithoutId() {
+        final String cursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("v1\u001FID\u001FA\u001F\u001F".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> UserCursorCodec.decode(cursor))
+                .isInstanceOf(InvalidScrollRequestException.class);
+    }
+}
@@ -1,9 +1,13 @@
 package com.sportclub.challenge.application.service;
 
+import com.sportclub.challenge.application.exception.InvalidScrollRequestException;
+import com.sportclub.challenge.application.port.in.result.UserScrollPage;
 import com.sportclub.challenge.application.port.out.log.LoggingPort;
 import com.sportclub.challenge.application.port.out.persistence.target.TargetUserRepositoryPort;
 import com.sportclub.challenge.domain.model.branch.Branch;
 import com.sportclub.challenge.domain.model.user.User;
+import com.sportclub.challenge.domain.model.user.UserScrollPosition;
+import com.sportclub.challenge.domain.model.user.UserSortKey;
 import com.sportclub.challenge.domain.model.user.UserState;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,6 +20,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 
 import java.util.Arrays;
@@ -23,9 +29,12 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -104,4 +113,55 @@ class UserPaginationServiceTest {
                 0, 0, 0, 0L
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should return a Slice from the repository without asking for totals")
+    void shouldReturnSliceWithoutTotals() {
+        final Slice<User> expectedSlice = new SliceImpl<>(List.of(user1, user2), defaultPageable, true);
+        when(targetUserRepositoryPort.findSlice(defaultPageable)).thenReturn(expectedSlice);
+
+        final Slice<User> actualSlice = userPaginationService.findUsersSlice(defaultPageable);
+
+        assertThat(actualSlice).isEqualTo(expectedSlice);
+        verify(targetUserRepositoryPort, never()).findAll(any(Pageable.class));
+        verify(logger, times(1)).info(
+                "Found {} users on page {} (has next: {})",
+                2, 0, true
+        );
+    }
+
+    @Test
+    @DisplayName("Should fetch one extra user to detect a next page and return a cursor after the last one")
+    void shouldReturnCursorWhenMoreUsersFollow() {
+        final User user3 = new User(
+                "U003", "Carol", "Young", "c@c.com",
+                "333", "3333", UserState.AUTHORIZED, testBranch
+        );
+        final UserScrollPosition start = UserScrollPosition.start(UserSortKey.LAST_NAME, true);
+        when(targetUserRepositoryPort.findAllAfter(start, 3)).thenReturn(List.of(user2, user1, user3));
+
+        final UserScrollPage firstPage = userPaginationService.scrollUsers(null, UserSortKey.LAST_NAME, true, 2);
+
+        assertThat(firstPage.content()).containsExactly(user2, user1);
+        assertThat(firstPage.hasNext()).isTrue();
+
+        final UserScrollPosition afterSmith = new UserScrollPosition(UserSortKey.LAST_NAME, true, "Smith", "U001");
+        when(targetUserRepositoryPort.findAllAfter(afterSmith, 3)).thenReturn(List.of(user3));
+
+        final UserScrollPage secondPage = userPaginationService.scrollUsers(
+                firstPage.nextCursor(), UserSortKey.ID, false, 2);
+
+        assertThat(secondPage.content()).containsExactly(user3);
+        assertThat(secondPage.hasNext()).isFalse();
+        assertThat(secondPage.nextCursor()).isNull();
+        verify(targetUserRepositoryPort).findAllAfter(afterSmith, 3);
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed cursor without querying the repository")
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> userPaginationService.scrollUsers("%%%", UserSortKey.ID, true, 10))
+                .isInstanceOf(InvalidScrollRequestException.class);
+        verifyNoInteractions(targetUserRepositoryPort);
+    }
+}
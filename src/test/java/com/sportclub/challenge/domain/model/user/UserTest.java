@@ -126,4 +126,23 @@ class UserTest {
             assertThat(updatedUser).isNotSameAs(authorizedUser);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("maskDni Method")
+    class MaskDni {
+        @Test
+        @DisplayName("Should keep the leading digits and hide the last four")
+        void shouldHideLastFourDigits() {
+            assertThat(User.maskDni("12345678")).isEqualTo("1234****");
+        }
+
+        @Test
+        @DisplayName("Should hide short or missing DNIs completely")
+        void shouldHideShortOrMissingDni() {
+            assertAll(
+                    () -> assertThat(User.maskDni("1234")).isEqualTo("****"),
+                    () -> assertThat(User.maskDni(null)).isEqualTo("****")
+            );
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.sportclub.challenge.infrastructure.batch;
+
+import com.sportclub.challenge.application.port.out.log.LoggingPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit Tests for ChunkDiffItemWriter")
+class ChunkDiffItemWriterTest {
+
+    private record Row(String id, String value) {
+    }
+
+    @Mock
+    private LoggingPort logger;
+
+    private final Map<String, Long> target = new HashMap<>();
+    private final List<Collection<String>> loaderCalls = new ArrayList<>();
+    private final List<List<Row>> writtenChunks = new ArrayList<>();
+    private ChunkDiffItemWriter<Row> writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new ChunkDiffItemWriter<>(
+                "Row",
+                Row::id,
+                row -> row.value().hashCode(),
+                ids -> {
+                    loaderCalls.add(List.copyOf(ids));
+                    final Map<String, Long> hashes = new HashMap<>();
+                    ids.stream().filter(target::containsKey).forEach(id -> hashes.put(id, target.get(id)));
+                    return hashes;
+                },
+                chunk -> writtenChunks.add(List.copyOf(chunk.getItems())),
+                logger
+        );
+    }
+
+    @Test
+    @DisplayName("should load the existing rows of a chunk with one query for all its ids")
+    void shouldIssueOneLoadPerChunk() throws Exception {
+        target.put("2", hash("b"));
+
+        writer.write(Chunk.of(new Row("1", "a"), new Row("2", "b"), new Row("3", "c")));
+        writer.write(Chunk.of(new Row("4", "d"), new Row("5", "e")));
+
+        assertThat(loaderCalls).containsExactly(List.of("1", "2", "3"), List.of("4", "5"));
+    }
+
+    @Test
+    @DisplayName("should hand only created and updated rows to the delegate")
+    void shouldWriteOnlyChangedRows() throws Exception {
+        target.put("2", hash("old"));
+        target.put("3", hash("c"));
+
+        writer.write(Chunk.of(new Row("1", "a"), new Row("2", "new"), new Row("3", "c")));
+
+        assertThat(writtenChunks).containsExactly(List.of(new Row("1", "a"), new Row("2", "new")));
+    }
+
+    @Test
+    @DisplayName("should treat a target row without a stored hash as an update")
+    void shouldUpdateRowWithoutHash() throws Exception {
+        target.put("1", null);
+
+        writer.write(Chunk.of(new Row("1", "a")));
+
+        assertThat(writtenChunks).containsExactly(List.of(new Row("1", "a")));
+    }
+
+    @Test
+    @DisplayName("should not call the delegate when the whole chunk is identical")
+    void shouldSkipIdenticalChunk() throws Exception {
+        target.put("1", hash("a"));
+        target.put("2", hash("b"));
+
+        writer.write(Chunk.of(new Row("1", "a"), new Row("2", "b")));
+
+        assertThat(loaderCalls).hasSize(1);
+        assertThat(writtenChunks).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should add the chunk counts to the step context once the chunk has committed")
+    void shouldCountCommittedChunk() throws Exception {
+        target.put("2", hash("old"));
+        target.put("3", hash("c"));
+        final ChunkContext chunkContext = chunkContext();
+
+        writer.beforeChunk(chunkContext);
+        writer.write(Chunk.of(new Row("1", "a"), new Row("2", "new"), new Row("3", "c")));
+        final ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        assertThat(context.containsKey(ChunkDiffItemWriter.CREATED_COUNT_KEY)).isFalse();
+        writer.afterChunk(chunkContext);
+
+        assertThat(context.getLong(ChunkDiffItemWriter.CREATED_COUNT_KEY)).isEqualTo(1);
+        assertThat(context.getLong(ChunkDiffItemWriter.UPDATED_COUNT_KEY)).isEqualTo(1);
+        assertThat(context.getLong(ChunkDiffItemWriter.IDENTICAL_COUNT_KEY)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should drop the counts of a rolled-back chunk so its retry is counted once")
+    void shouldDropCountsOfRolledBackChunk() throws Exception {
+        final ChunkContext chunkContext = chunkContext();
+        final Chunk<Row> chunk = Chunk.of(new Row("1", "a"), new Row("2", "b"));
+
+        writer.beforeChunk(chunkContext);
+        writer.write(chunk);
+        writer.afterChunkError(chunkContext);
+        writer.beforeChunk(chunkContext);
+        writer.write(chunk);
+        writer.afterChunk(chunkContext);
+
+        final ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        assertThat(context.getLong(ChunkDiffItemWriter.CREATED_COUNT_KEY)).isEqualTo(2);
+        assertThat(context.getLong(ChunkDiffItemWriter.LAST_CHUNK_PREFIX + "created")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should not count a write that failed")
+    void shouldNotCountFailedWrite() throws Exception {
+        final ChunkContext chunkContext = chunkContext();
+        final ChunkDiffItemWriter<Row> failingWriter = new ChunkDiffItemWriter<>(
+                "Row",
+                Row::id,
+                row -> row.value().hashCode(),
+                ids -> Map.of(),
+                chunk -> {
+                    throw new IllegalStateException("write failed");
+                },
+                logger
+        );
+
+        failingWriter.beforeChunk(chunkContext);
+        assertThatThrownBy(() -> failingWriter.write(Chunk.of(new Row("1", "a"))))
+                .isInstanceOf(IllegalStateException.class);
+        failingWriter.afterChunk(chunkContext);
+
+        final ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        assertThat(context.containsKey(ChunkDiffItemWriter.CREATED_COUNT_KEY)).isFalse();
+    }
+
+    private static ChunkContext chunkContext() {
+        return new ChunkContext(new StepContext(new StepExecution("migrateBranchesStep", new JobExecution(1L))));
+    }
+
+    private static Long hash(String value) {
+        return (long) value.hashCode();
+    }
+}
@@ -1,6 +1,9 @@
 package com.sportclub.challenge.infrastructure.batch;
 
+import com.sportclub.challenge.application.exception.MigrationConflictException;
+import com.sportclub.challenge.application.exception.MigrationExecutionNotFoundException;
 import com.sportclub.challenge.application.exception.MigrationFailedException;
+import com.sportclub.challenge.application.port.in.command.MigrationMode;
 import com.sportclub.challenge.application.port.out.log.LoggingPort;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,13 +12,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
 import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
 import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
 import org.springframework.batch.core.repository.JobRestartException;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.contains;
@@ -31,6 +39,8 @@ class DataMigrationServiceTest {
     @Mock
     private JobLauncher jobLauncher;
     @Mock
+    private JobExplorer jobExplorer;
+    @Mock
     private LoggingPort logger;
     @Mock
     private Job dataMigrationJob;
@@ -54,7 +64,7 @@ class DataMigrationServiceTest {
         when(jobLauncher.run(eq(dataMigrationJob), any(JobParameters.class)))
                 .thenThrow(launchException);
 
-        assertThatThrownBy(() -> dataMigrationService.migrateData())
+        assertThatThrownBy(() -> dataMigrationService.migrateData(MigrationMode.FULL))
                 .isInstanceOf(MigrationFailedException.class)
                 .hasMessageContaining("Invalid parameters for migration job: "
                         + launchException.getMessage()
@@ -70,4 +80,72 @@ class DataMigrationServiceTest {
         verify(logger, never()).info(contains("launched. Job Execution ID:"));
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("resumeMigration should relaunch the job with the parameters of the previous execution")
+    void resumeMigration_shouldRelaunchWithOriginalParameters() throws Exception {
+        final String mockJobName = "testMigrationJob";
+        final JobParameters originalParameters = new JobParametersBuilder()
+                .addLong("run.timestamp", 1234L, true)
+                .toJobParameters();
+        final JobExecution failedExecution = new JobExecution(new JobInstance(1L, mockJobName), 7L, originalParameters);
+
+        when(dataMigrationJob.getName()).thenReturn(mockJobName);
+        when(jobExplorer.getJobExecution(7L)).thenReturn(failedExecution);
+        when(jobLauncher.run(dataMigrationJob, originalParameters))
+                .thenReturn(new JobExecution(new JobInstance(1L, mockJobName), 8L, originalParameters));
+
+        assertThat(dataMigrationService.resumeMigration(7L)).isEqualTo(8L);
+        verify(jobLauncher).run(dataMigrationJob, originalParameters);
+    }
+
+    @Test
+    @DisplayName("resumeMigration should throw MigrationExecutionNotFoundException for an unknown execution")
+    void resumeMigration_shouldThrowNotFound_whenExecutionDoesNotExist() throws Exception {
+        when(jobExplorer.getJobExecution(99L)).thenReturn(null);
+
+        assertThatThrownBy(() -> dataMigrationService.resumeMigration(99L))
+                .isInstanceOf(MigrationExecutionNotFoundException.class)
+                .hasMessageContaining("99");
+        verify(jobLauncher, never()).run(any(Job.class), any(JobParameters.class));
+    }
+
+    @Test
+    @DisplayName("resumeMigration should throw MigrationConflictException for an already completed execution")
+    void resumeMigration_shouldThrowConflict_whenInstanceAlreadyComplete() throws Exception {
+        final String mockJobName = "testMigrationJob";
+        final JobParameters originalParameters = new JobParametersBuilder()
+                .addLong("run.timestamp", 1234L, true)
+                .toJobParameters();
+        final JobExecution completedExecution = new JobExecution(new JobInstance(1L, mockJobName), 7L, originalParameters);
+        final JobInstanceAlreadyCompleteException launchException =
+                new JobInstanceAlreadyCompleteException("A job instance already exists and is complete");
+
+        when(dataMigrationJob.getName()).thenReturn(mockJobName);
+        when(jobExplorer.getJobExecution(7L)).thenReturn(completedExecution);
+        when(jobLauncher.run(dataMigrationJob, originalParameters)).thenThrow(launchException);
+
+        assertThatThrownBy(() -> dataMigrationService.resumeMigration(7L))
+                .isInstanceOf(MigrationConflictException.class)
+                .hasMessageContaining("already complete")
+                .hasCause(launchException);
+    }
+
+    @Test
+    @DisplayName("resumeMigration should throw MigrationConflictException when the execution is not restartable")
+    void resumeMigration_shouldThrowConflict_whenRestartNotAllowed() throws Exception {
+        final String mockJobName = "testMigrationJob";
+        final JobParameters originalParameters = new JobParametersBuilder()
+                .addLong("run.timestamp", 1234L, true)
+                .toJobParameters();
+        final JobExecution abandonedExecution = new JobExecution(new JobInstance(1L, mockJobName), 7L, originalParameters);
+        final JobRestartException launchException = new JobRestartException("JobInstance is not restartable");
+
+        when(dataMigrationJob.getName()).thenReturn(mockJobName);
+        when(jobExplorer.getJobExecution(7L)).thenReturn(abandonedExecution);
+        when(jobLauncher.run(dataMigrationJob, originalParameters)).thenThrow(launchException);
+
+        assertThatThrownBy(() -> dataMigrationService.resumeMigration(7L))
+                .isInstanceOf(MigrationConflictException.class)
+                .hasCause(launchException);
+    }
+}
@@ -0,0 +1,146 @@
+package com.sportclub.challenge.infrastructure.batch;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit Tests for JpaKeysetItemReader")
+class JpaKeysetItemReaderTest {
+
+    private static final String QUERY = "SELECT e.id FROM Entity e WHERE e.id > :lastKey ORDER BY e.id ASC";
+    private static final int PAGE_SIZE = 3;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private TypedQuery<String> query;
+
+    /** Rows of the table; each item is its own key. */
+    private final NavigableSet<String> table = new TreeSet<>();
+    private final List<String> boundLastKeys = new ArrayList<>();
+    private String lastKey;
+    private int maxResults;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= 10; i++) {
+            table.add(String.format("K%02d", i));
+        }
+        when(entityManagerFactory.createEntityManager()).thenReturn(entityManager);
+        lenient().when(entityManager.createQuery(QUERY, String.class)).thenReturn(query);
+        lenient().when(query.setParameter(eq(JpaKeysetItemReader.LAST_KEY_PARAMETER), anyString())).thenAnswer(invocation -> {
+            lastKey = invocation.getArgument(1);
+            boundLastKeys.add(lastKey);
+            return query;
+        });
+        lenient().when(query.setMaxResults(anyInt())).thenAnswer(invocation -> {
+            maxResults = invocation.getArgument(0);
+            return query;
+        });
+        lenient().when(query.getResultList()).thenAnswer(invocation ->
+                table.tailSet(lastKey, false).stream().limit(maxResults).toList());
+    }
+
+    @Test
+    @DisplayName("should read every row once, page by page, starting after the initial key")
+    void shouldReadAllRowsInKeyOrder() throws Exception {
+        final JpaKeysetItemReader<String> reader = newReader();
+        reader.open(new ExecutionContext());
+
+        final List<String> read = readUpTo(reader, Integer.MAX_VALUE);
+        reader.close();
+
+        assertThat(read).containsExactlyElementsOf(table);
+        assertThat(boundLastKeys).containsExactly("", "K03", "K06", "K09");
+    }
+
+    @Test
+    @DisplayName("should resume after the last saved key without duplicating or skipping rows")
+    void shouldResumeAfterLastSavedKey() throws Exception {
+        final ExecutionContext context = new ExecutionContext();
+        final JpaKeysetItemReader<String> firstRun = newReader();
+        firstRun.open(context);
+        final List<String> firstRead = readUpTo(firstRun, 5);
+        firstRun.update(context);
+        // Items read after the last commit are not saved; the restarted step reads them again.
+        firstRun.read();
+        firstRun.close();
+
+        final JpaKeysetItemReader<String> restarted = newReader();
+        restarted.open(context);
+        final List<String> secondRead = readUpTo(restarted, Integer.MAX_VALUE);
+        restarted.close();
+
+        assertThat(firstRead).containsExactly("K01", "K02", "K03", "K04", "K05");
+        assertThat(secondRead).containsExactly("K06", "K07", "K08", "K09", "K10");
+        assertThat(boundLastKeys).endsWith("K05", "K08");
+    }
+
+    @Test
+    @DisplayName("should read nothing when restarted after the last row was saved")
+    void shouldReadNothingWhenRestartedAtTheEnd() throws Exception {
+        final ExecutionContext context = new ExecutionContext();
+        final JpaKeysetItemReader<String> firstRun = newReader();
+        firstRun.open(context);
+        readUpTo(firstRun, Integer.MAX_VALUE);
+        firstRun.update(context);
+        firstRun.close();
+
+        final JpaKeysetItemReader<String> restarted = newReader();
+        restarted.open(context);
+
+        assertThat(restarted.read()).isNull();
+        restarted.close();
+    }
+
+    @Test
+    @DisplayName("should not save a key before anything was read")
+    void shouldNotSaveKeyBeforeFirstRead() {
+        final ExecutionContext context = new ExecutionContext();
+        final JpaKeysetItemReader<String> reader = newReader();
+        reader.open(context);
+
+        reader.update(context);
+        reader.close();
+
+        assertThat(context.entrySet()).noneMatch(entry -> entry.getKey().endsWith("last.key"));
+    }
+
+    private JpaKeysetItemReader<String> newReader() {
+        return new JpaKeysetItemReader<>("testReader", entityManagerFactory, QUERY, String.class,
+                Map.of(), Function.identity(), "", PAGE_SIZE);
+    }
+
+    private static List<String> readUpTo(JpaKeysetItemReader<String> reader, int limit) throws Exception {
+        final List<String> read = new ArrayList<>();
+        String item;
+        while (read.size() < limit && (item = reader.read()) != null) {
+            read.add(item);
+        }
+        return read;
+    }
+}
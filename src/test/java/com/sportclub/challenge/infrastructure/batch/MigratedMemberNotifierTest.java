@@ -0,0 +1,84 @@
+package com.sportclub.challenge.infrastructure.batch;
+
+import com.sportclub.challenge.adapter.out.persistence.target.entity.TargetUserJpaEntity;
+import com.sportclub.challenge.application.port.out.index.KnownDniFilterPort;
+import com.sportclub.challenge.application.port.out.security.UserDenylistPort;
+import com.sportclub.challenge.domain.model.user.UserState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit Tests for MigratedMemberNotifier")
+class MigratedMemberNotifierTest {
+
+    @Mock
+    private KnownDniFilterPort knownDniFilterPort;
+
+    @Mock
+    private UserDenylistPort userDenylistPort;
+
+    @InjectMocks
+    private MigratedMemberNotifier notifier;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should notify created and updated members only after the chunk commits")
+    void shouldNotifyMembersAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        notifier.membersWritten(
+                List.of(user("U1", "11111111", UserState.AUTHORIZED)),
+                List.of(user("U2", "22222222", UserState.DENIED))
+        );
+
+        verifyNoInteractions(knownDniFilterPort, userDenylistPort);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(knownDniFilterPort).add("11111111");
+        verify(knownDniFilterPort).add("22222222");
+        verify(userDenylistPort).update("11111111", UserState.AUTHORIZED);
+        verify(userDenylistPort).update("22222222", UserState.DENIED);
+    }
+
+    @Test
+    @DisplayName("Should not notify members of a chunk that rolls back")
+    void shouldNotNotifyOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        notifier.membersWritten(List.of(user("U1", "11111111", UserState.DENIED)), List.of());
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        verifyNoInteractions(knownDniFilterPort, userDenylistPort);
+    }
+
+    @Test
+    @DisplayName("Should notify immediately when no transaction is active")
+    void shouldNotifyImmediatelyWithoutTransaction() {
+        notifier.membersWritten(List.of(user("U1", "11111111", UserState.DENIED)), List.of());
+
+        verify(knownDniFilterPort).add("11111111");
+        verify(userDenylistPort).update("11111111", UserState.DENIED);
+    }
+
+    private static TargetUserJpaEntity user(String id, String dni, UserState state) {
+        return new TargetUserJpaEntity(id, "First", "Last", id + "@test.com", "123", dni, state, null);
+    }
+}
@@ -0,0 +1,46 @@
+package com.sportclub.challenge.infrastructure.batch;
+
+import com.sportclub.challenge.adapter.out.persistence.source.entity.SourceUserJpaEntity;
+import com.sportclub.challenge.adapter.out.persistence.target.entity.TargetUserJpaEntity;
+import com.sportclub.challenge.application.port.out.log.LoggingPort;
+import com.sportclub.challenge.domain.model.user.UserState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit Tests for MigrationSkipListener")
+class MigrationSkipListenerTest {
+
+    @Mock
+    private LoggingPort logger;
+    @InjectMocks
+    private MigrationSkipListener migrationSkipListener;
+
+    @Test
+    @DisplayName("should identify an item skipped in write by type and id only")
+    void shouldLogTypeAndIdOnWriteSkip() {
+        final TargetUserJpaEntity user = new TargetUserJpaEntity(
+                "U1", "Ana", "Perez", "ana@example.com", "555-0101", "12345678", UserState.AUTHORIZED, null);
+
+        migrationSkipListener.onSkipInWrite(user, new IllegalStateException("duplicate DNI"));
+
+        verify(logger).warn("Skipped item during write: {}. Reason: {}", "TargetUserJpaEntity[id=U1]", "duplicate DNI");
+    }
+
+    @Test
+    @DisplayName("should identify an item skipped in processing by type and id only")
+    void shouldLogTypeAndIdOnProcessSkip() {
+        final SourceUserJpaEntity user = new SourceUserJpaEntity(
+                "U2", "Ana", "Perez", "ana@example.com", "555-0101", "12345678", UserState.AUTHORIZED, null);
+
+        migrationSkipListener.onSkipInProcess(user, new IllegalStateException("bad row"));
+
+        verify(logger).warn("Skipped item during processing: {}. Reason: {}", "SourceUserJpaEntity[id=U2]", "bad row");
+    }
+}
@@ -0,0 +1,153 @@
+package com.sportclub.challenge.infrastructure.batch;
+
+import com.sportclub.challenge.application.port.in.result.MigrationStatus;
+import com.sportclub.challenge.infrastructure.config.BatchMigrationConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit Tests for MigrationStatusService")
+class MigrationStatusServiceTest {
+
+    private static final String JOB_NAME = "dataMigrationJob";
+    private static final long EXECUTION_ID = 7L;
+
+    @Mock
+    private JobExplorer jobExplorer;
+    @Mock
+    private Job dataMigrationJob;
+
+    private MigrationStatusService migrationStatusService;
+    private JobExecution jobExecution;
+    private long nextStepId = 1;
+
+    @BeforeEach
+    void setUp() {
+        when(dataMigrationJob.getName()).thenReturn(JOB_NAME);
+        jobExecution = new JobExecution(new JobInstance(1L, JOB_NAME), EXECUTION_ID, new JobParameters());
+        when(jobExplorer.getJobExecution(EXECUTION_ID)).thenReturn(jobExecution);
+        migrationStatusService = new MigrationStatusService(jobExplorer, dataMigrationJob);
+    }
+
+    @Test
+    @DisplayName("should estimate the remaining time from the throughput so far")
+    void shouldEstimateRemainingTime() {
+        running(LocalDateTime.now().minusSeconds(10));
+        totals(100, 200);
+        step("migrateBranchesStep", 100);
+
+        final MigrationStatus status = migrationStatusService.getMigrationStatus(EXECUTION_ID);
+
+        assertThat(status.totalItems()).isEqualTo(300);
+        assertThat(status.processedItems()).isEqualTo(100);
+        assertThat(status.itemsPerSecond()).isCloseTo(10.0, within(0.5));
+        assertThat(status.estimatedSecondsRemaining()).isBetween(19L, 21L);
+    }
+
+    @Test
+    @DisplayName("should leave the manager step out of the processed items")
+    void shouldNotCountManagerStep() {
+        running(LocalDateTime.now().minusSeconds(10));
+        totals(0, 200);
+        step("migrateUsersStep:partition0", 60);
+        step("migrateUsersStep:partition1", 40);
+        step(BatchMigrationConfig.USERS_STEP_NAME, 100);
+
+        final MigrationStatus status = migrationStatusService.getMigrationStatus(EXECUTION_ID);
+
+        assertThat(status.processedItems()).isEqualTo(100);
+        assertThat(status.steps()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("should report no throughput and no estimate before any item was processed")
+    void shouldHandleZeroItems() {
+        running(LocalDateTime.now().minusSeconds(10));
+        totals(100, 200);
+        step("migrateBranchesStep", 0);
+
+        final MigrationStatus status = migrationStatusService.getMigrationStatus(EXECUTION_ID);
+
+        assertThat(status.itemsPerSecond()).isZero();
+        assertThat(status.estimatedSecondsRemaining()).isNull();
+    }
+
+    @Test
+    @DisplayName("should report no throughput when no time has elapsed")
+    void shouldHandleZeroElapsedTime() {
+        final LocalDateTime instant = LocalDateTime.now();
+        jobExecution.setStartTime(instant);
+        jobExecution.setEndTime(instant);
+        jobExecution.setStatus(BatchStatus.COMPLETED);
+        totals(1, 0);
+        step("migrateBranchesStep", 1);
+
+        final MigrationStatus status = migrationStatusService.getMigrationStatus(EXECUTION_ID);
+
+        assertThat(status.itemsPerSecond()).isZero();
+        assertThat(status.estimatedSecondsRemaining()).isNull();
+        assertThat(status.steps().get(0).itemsPerSecond()).isZero();
+    }
+
+    @Test
+    @DisplayName("should give no estimate while the source totals are still unknown")
+    void shouldHandleUnknownTotal() {
+        running(LocalDateTime.now().minusSeconds(10));
+        step("migrateBranchesStep", 100);
+
+        final MigrationStatus status = migrationStatusService.getMigrationStatus(EXECUTION_ID);
+
+        assertThat(status.totalItems()).isZero();
+        assertThat(status.itemsPerSecond()).isPositive();
+        assertThat(status.estimatedSecondsRemaining()).isNull();
+    }
+
+    @Test
+    @DisplayName("should measure a finished execution between its start and end and give no estimate")
+    void shouldUseEndTimeOfFinishedExecution() {
+        final LocalDateTime start = LocalDateTime.of(2025, 1, 1, 10, 0, 0);
+        jobExecution.setStartTime(start);
+        jobExecution.setEndTime(start.plusSeconds(4));
+        jobExecution.setStatus(BatchStatus.COMPLETED);
+        totals(40, 60);
+        step("migrateBranchesStep", 100);
+
+        final MigrationStatus status = migrationStatusService.getMigrationStatus(EXECUTION_ID);
+
+        assertThat(status.itemsPerSecond()).isEqualTo(25.0);
+        assertThat(status.estimatedSecondsRemaining()).isNull();
+    }
+
+    private void running(LocalDateTime startTime) {
+        jobExecution.setStartTime(startTime);
+        jobExecution.setStatus(BatchStatus.STARTED);
+    }
+
+    private void totals(long branches, long users) {
+        jobExecution.getExecutionContext().putLong(MigrationSourceTotalsListener.SOURCE_BRANCHES_KEY, branches);
+        jobExecution.getExecutionContext().putLong(MigrationSourceTotalsListener.SOURCE_USERS_KEY, users);
+    }
+
+    private void step(String name, long readCount) {
+        final StepExecution step = jobExecution.createStepExecution(name);
+        step.setId(nextStepId++);
+        step.setReadCount(readCount);
+    }
+}
@@ -0,0 +1,170 @@
+package com.sportclub.challenge.infrastructure.batch;
+
+import com.sportclub.challenge.application.port.out.log.LoggingPort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+import static com.sportclub.challenge.infrastructure.batch.SourceUserIdRangePartitioner.MAX_ID_INCLUSIVE_KEY;
+import static com.sportclub.challenge.infrastructure.batch.SourceUserIdRangePartitioner.MIN_ID_EXCLUSIVE_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit Tests for SourceUserIdRangePartitioner")
+class SourceUserIdRangePartitionerTest {
+
+    private static final String COUNT_QUERY = "SELECT COUNT(u) FROM SourceUserJpaEntity u";
+    private static final String MAX_QUERY = "SELECT MAX(u.id) FROM SourceUserJpaEntity u";
+    private static final String ID_QUERY = "SELECT u.id FROM SourceUserJpaEntity u WHERE u.id > :afterId ORDER BY u.id ASC";
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private TypedQuery<Long> countQuery;
+    @Mock
+    private TypedQuery<String> maxQuery;
+    @Mock
+    private TypedQuery<String> idQuery;
+    @Mock
+    private LoggingPort logger;
+
+    /** Source user ids; fixed width, so Java and database ordering agree. */
+    private final NavigableSet<String> ids = new TreeSet<>();
+    private final List<Integer> offsets = new ArrayList<>();
+    private String afterId;
+    private int firstResult;
+    private int maxResults;
+    private SourceUserIdRangePartitioner partitioner;
+
+    @BeforeEach
+    void setUp() {
+        when(entityManagerFactory.createEntityManager()).thenReturn(entityManager);
+        when(entityManager.createQuery(COUNT_QUERY, Long.class)).thenReturn(countQuery);
+        lenient().when(countQuery.getSingleResult()).thenAnswer(invocation -> (long) ids.size());
+        lenient().when(entityManager.createQuery(MAX_QUERY, String.class)).thenReturn(maxQuery);
+        lenient().when(maxQuery.getSingleResult()).thenAnswer(invocation -> ids.isEmpty() ? null : ids.last());
+        lenient().when(entityManager.createQuery(ID_QUERY, String.class)).thenReturn(idQuery);
+        lenient().when(idQuery.setParameter(eq("afterId"), anyString())).thenAnswer(invocation -> {
+            afterId = invocation.getArgument(1);
+            return idQuery;
+        });
+        lenient().when(idQuery.setMaxResults(anyInt())).thenAnswer(invocation -> {
+            maxResults = invocation.getArgument(0);
+            return idQuery;
+        });
+        lenient().when(idQuery.setFirstResult(anyInt())).thenAnswer(invocation -> {
+            firstResult = invocation.getArgument(0);
+            offsets.add(firstResult);
+            return idQuery;
+        });
+        lenient().when(idQuery.getResultList()).thenAnswer(invocation ->
+                ids.tailSet(afterId, false).stream().skip(firstResult).limit(maxResults).toList());
+        partitioner = new SourceUserIdRangePartitioner(entityManagerFactory, logger);
+    }
+
+    @Test
+    @DisplayName("should create a single empty partition when the table is empty")
+    void shouldCreateSingleEmptyPartitionForEmptyTable() {
+        final Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+        assertThat(partitions).hasSize(1);
+        final ExecutionContext only = partitions.values().iterator().next();
+        assertThat(only.getString(MIN_ID_EXCLUSIVE_KEY)).isEmpty();
+        assertThat(only.getString(MAX_ID_INCLUSIVE_KEY)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should create one partition per row when there are fewer rows than partitions")
+    void shouldCreateOnePartitionPerRowWhenFewerRowsThanGrid() {
+        addIds(2);
+
+        final Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+        assertThat(partitions).hasSize(2);
+        assertThat(bounds(partitions)).containsExactly(List.of("", "U000001"), List.of("U000001", "U000002"));
+        assertCoveredExactlyOnce(partitions);
+    }
+
+    @Test
+    @DisplayName("should split into contiguous ranges that share no boundary id")
+    void shouldSplitIntoContiguousRanges() {
+        addIds(10);
+
+        final Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+        assertThat(bounds(partitions)).containsExactly(
+                List.of("", "U000002"),
+                List.of("U000002", "U000005"),
+                List.of("U000005", "U000007"),
+                List.of("U000007", "U000010"));
+        assertCoveredExactlyOnce(partitions);
+    }
+
+    @Test
+    @DisplayName("should fetch each boundary with one query offset from the previous boundary")
+    void shouldFetchEachBoundaryWithOneQuery() {
+        addIds(45_000);
+
+        final Map<String, ExecutionContext> partitions = partitioner.partition(3);
+
+        assertThat(bounds(partitions)).containsExactly(
+                List.of("", "U015000"), List.of("U015000", "U030000"), List.of("U030000", "U045000"));
+        assertThat(offsets).containsExactly(14_999, 14_999);
+        assertThat(maxResults).isEqualTo(1);
+        assertCoveredExactlyOnce(partitions);
+    }
+
+    @Test
+    @DisplayName("should let the last partition take the rest when rows disappear after the count")
+    void shouldCoverRemainingRowsWhenRowsDisappearAfterCount() {
+        addIds(3);
+        when(countQuery.getSingleResult()).thenReturn(10L);
+
+        final Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+        assertThat(bounds(partitions)).containsExactly(List.of("", "U000002"), List.of("U000002", "U000003"));
+        assertCoveredExactlyOnce(partitions);
+    }
+
+    private void addIds(int count) {
+        for (int i = 1; i <= count; i++) {
+            ids.add(String.format("U%06d", i));
+        }
+    }
+
+    private static List<List<String>> bounds(Map<String, ExecutionContext> partitions) {
+        return partitions.values().stream()
+                .map(context -> List.of(context.getString(MIN_ID_EXCLUSIVE_KEY), context.getString(MAX_ID_INCLUSIVE_KEY)))
+                .toList();
+    }
+
+    private void assertCoveredExactlyOnce(Map<String, ExecutionContext> partitions) {
+        for (String id : ids) {
+            final long covering = partitions.values().stream()
+                    .filter(context -> id.compareTo(context.getString(MIN_ID_EXCLUSIVE_KEY)) > 0
+                            && id.compareTo(context.getString(MAX_ID_INCLUSIVE_KEY)) <= 0)
+                    .count();
+            assertThat(covering).as("Partitions covering id %s", id).isEqualTo(1);
+        }
+    }
+}